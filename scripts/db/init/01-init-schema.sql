@@ -7,9 +7,12 @@
 -- Extension for UUID support (future use)
 CREATE EXTENSION IF NOT EXISTS "pgcrypto";
 
+-- Trigram matching for the free-text search parameter
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
 -- Patients table
 CREATE TABLE IF NOT EXISTS patients (
-    patient_id              VARCHAR(12)  NOT NULL,
+    patient_id              VARCHAR(20)  COLLATE "C" NOT NULL,
     id                      BIGSERIAL,
     first_name              VARCHAR(50)  NOT NULL,
     last_name               VARCHAR(50)  NOT NULL,
@@ -17,6 +20,7 @@ CREATE TABLE IF NOT EXISTS patients (
     gender                  VARCHAR(10)  NOT NULL,
     blood_group             VARCHAR(10)  NOT NULL DEFAULT 'UNKNOWN',
     phone                   VARCHAR(20)  NOT NULL,
+    phone_normalized        VARCHAR(16),
     email                   VARCHAR(100),
     address                 VARCHAR(200),
     city                    VARCHAR(100),
@@ -37,6 +41,12 @@ CREATE TABLE IF NOT EXISTS patients (
     activated_by            VARCHAR(100),
     deactivated_at          TIMESTAMP,
     deactivated_by          VARCHAR(100),
+    -- Searchable columns joined by chr(31) so a LIKE term cannot match across a column boundary.
+    -- COLLATE "default" resolves patient_id's "C" collation against the other columns for lower().
+    search_text             TEXT GENERATED ALWAYS AS (
+        lower((patient_id || chr(31) || first_name || chr(31) || last_name || chr(31)
+               || phone || chr(31) || coalesce(email, '')) COLLATE "default")
+    ) STORED,
 
     CONSTRAINT pk_patients PRIMARY KEY (patient_id),
     CONSTRAINT chk_patients_gender
@@ -56,9 +66,79 @@ CREATE INDEX IF NOT EXISTS idx_patients_phone       ON patients (phone);
 CREATE INDEX IF NOT EXISTS idx_patients_email       ON patients (email);
 CREATE INDEX IF NOT EXISTS idx_patients_first_name  ON patients (first_name);
 CREATE INDEX IF NOT EXISTS idx_patients_last_name   ON patients (last_name);
-CREATE INDEX IF NOT EXISTS idx_patients_created_at  ON patients (created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_patients_created_at_patient_id ON patients (created_at DESC, patient_id DESC);
+CREATE INDEX IF NOT EXISTS idx_patients_search_text_trgm ON patients USING GIN (search_text gin_trgm_ops);
+-- Change feed keyset: WHERE (updated_at, patient_id) > cursor ORDER BY updated_at, patient_id
+CREATE INDEX IF NOT EXISTS idx_patients_updated_at_patient_id ON patients (updated_at, patient_id);
+-- Duplicate-phone checks: equality on the E.164 form
+CREATE INDEX IF NOT EXISTS idx_patients_phone_normalized ON patients (phone_normalized);
+-- Rows PatientPhoneBackfill has not normalized yet; empty once the backfill has caught up
+CREATE INDEX IF NOT EXISTS idx_patients_phone_normalized_pending ON patients (patient_id)
+    WHERE phone_normalized IS NULL;
+
+-- Per-year patient ID counters — reserved in blocks by BlockAllocatingPatientIdGenerator.
+-- next_value is the first counter not yet handed out to any instance.
+CREATE TABLE IF NOT EXISTS patient_id_counters (
+    counter_year            INTEGER      NOT NULL,
+    next_value              BIGINT       NOT NULL,
+
+    CONSTRAINT pk_patient_id_counters PRIMARY KEY (counter_year),
+    CONSTRAINT chk_patient_id_counters_next_value CHECK (next_value > 0)
+);
+
+-- Bulk import jobs — one row per upload, counters advanced as each chunk commits
+CREATE TABLE IF NOT EXISTS patient_imports (
+    import_id               UUID         NOT NULL,
+    format                  VARCHAR(10)  NOT NULL,
+    status                  VARCHAR(10)  NOT NULL,
+    records_read            BIGINT       NOT NULL DEFAULT 0,
+    imported                BIGINT       NOT NULL DEFAULT 0,
+    rejected                BIGINT       NOT NULL DEFAULT 0,
+    error_message           VARCHAR(500),
+    created_by              VARCHAR(100) NOT NULL,
+    started_at              TIMESTAMP    NOT NULL,
+    finished_at             TIMESTAMP,
+
+    CONSTRAINT pk_patient_imports PRIMARY KEY (import_id),
+    CONSTRAINT chk_patient_imports_format
+        CHECK (format IN ('NDJSON', 'CSV')),
+    CONSTRAINT chk_patient_imports_status
+        CHECK (status IN ('RUNNING', 'COMPLETED', 'FAILED'))
+);
+
+CREATE INDEX IF NOT EXISTS idx_patient_imports_started_at ON patient_imports (started_at DESC);
+
+-- Records an import rejected, keyed by their line in the upload; errors hold field names only
+CREATE TABLE IF NOT EXISTS patient_import_rejections (
+    import_id               UUID         NOT NULL,
+    line_number             BIGINT       NOT NULL,
+    errors                  JSONB        NOT NULL,
+
+    CONSTRAINT pk_patient_import_rejections PRIMARY KEY (import_id, line_number),
+    CONSTRAINT fk_patient_import_rejections_import
+        FOREIGN KEY (import_id) REFERENCES patient_imports (import_id) ON DELETE CASCADE
+);
+
+-- Patient lifecycle events written in the same transaction as the change; drained by the relay
+CREATE TABLE IF NOT EXISTS patient_outbox (
+    event_id                BIGSERIAL    NOT NULL,
+    event_type              VARCHAR(20)  NOT NULL,
+    patient_id              VARCHAR(20)  COLLATE "C" NOT NULL,
+    patient_version         INTEGER      NOT NULL,
+    occurred_at             TIMESTAMPTZ  NOT NULL DEFAULT now(),
+
+    CONSTRAINT pk_patient_outbox PRIMARY KEY (event_id),
+    CONSTRAINT chk_patient_outbox_event_type
+        CHECK (event_type IN ('REGISTERED', 'UPDATED', 'ACTIVATED', 'DEACTIVATED'))
+);
 
 COMMENT ON TABLE patients IS 'Core patient registry — Hospital Management System';
-COMMENT ON COLUMN patients.patient_id    IS 'Business key: P + 4-digit year + 3-digit counter (e.g. P2026001)';
+COMMENT ON COLUMN patients.patient_id    IS 'Business key: P + 4-digit year + 3-digit counter (P2026001), or length marker + counter beyond 999 (P2026A1000); byte order = issue order';
+COMMENT ON COLUMN patients.phone_normalized IS 'E.164 form of phone (+15558675309), written by the application and backfilled by PatientPhoneBackfill; empty string for a legacy phone that cannot be normalized';
 COMMENT ON COLUMN patients.blood_group   IS 'Enum: A_POS, A_NEG, B_POS, B_NEG, AB_POS, AB_NEG, O_POS, O_NEG, UNKNOWN';
+COMMENT ON COLUMN patients.search_text   IS 'Generated: lower-cased patient_id/first_name/last_name/phone/email for trigram search';
 COMMENT ON COLUMN patients.version       IS 'Optimistic locking version counter';
+COMMENT ON TABLE patient_id_counters IS 'Block-reserved patient ID counter per registration year';
+COMMENT ON TABLE patient_imports IS 'Streaming bulk import jobs with progress counters';
+COMMENT ON TABLE patient_import_rejections IS 'Per-line validation errors of bulk imports (no record values)';
+COMMENT ON TABLE patient_outbox IS 'Transactional outbox of patient lifecycle events (ids and versions only, no PHI)';
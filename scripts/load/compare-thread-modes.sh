@@ -0,0 +1,63 @@
+#!/usr/bin/env bash
+# ============================================================
+# HPM Patient Service — Platform vs Virtual Thread Load Comparison
+# Restarts the compose service in each thread mode and runs
+# thread-modes.js at each client count, then prints req/s, p99
+# and the share of requests shed with 503.
+#
+#   scripts/load/compare-thread-modes.sh            # 50 500 5000 clients
+#   CLIENTS="50 500" DURATION=30s scripts/load/compare-thread-modes.sh
+#
+# Requires: docker compose, k6, jq, and a populated .env
+# ============================================================
+set -euo pipefail
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+PROJECT_ROOT="$(dirname "$(dirname "$SCRIPT_DIR")")"
+BASE_URL="${BASE_URL:-http://localhost:${SERVICE_HOST_PORT:-8081}}"
+CLIENTS="${CLIENTS:-50 500 5000}"
+DURATION="${DURATION:-60s}"
+RESULTS_DIR="${RESULTS_DIR:-$PROJECT_ROOT/target/load}"
+
+for tool in docker k6 jq; do
+  if ! command -v "$tool" >/dev/null 2>&1; then
+    echo "ERROR: $tool is required"
+    exit 1
+  fi
+done
+
+mkdir -p "$RESULTS_DIR"
+cd "$PROJECT_ROOT"
+
+wait_healthy() {
+  for _ in $(seq 1 60); do
+    if curl -fs "$BASE_URL/actuator/health" >/dev/null 2>&1; then
+      return 0
+    fi
+    sleep 2
+  done
+  echo "ERROR: service did not become healthy at $BASE_URL"
+  exit 1
+}
+
+printf '%-8s %8s %10s %10s %8s\n' "mode" "clients" "req/s" "p99 (ms)" "shed %"
+for mode in platform virtual; do
+  virtual=false
+  [[ "$mode" == "virtual" ]] && virtual=true
+
+  SPRING_THREADS_VIRTUAL_ENABLED="$virtual" docker compose up -d --build --force-recreate patient-service >/dev/null
+  wait_healthy
+
+  for vus in $CLIENTS; do
+    summary="$RESULTS_DIR/$mode-$vus.json"
+    k6 run --quiet -e BASE_URL="$BASE_URL" -e VUS="$vus" -e DURATION="$DURATION" \
+      -e SUMMARY_FILE="$summary" "$SCRIPT_DIR/thread-modes.js" >/dev/null
+    jq -r --arg mode "$mode" --arg vus "$vus" '
+      [ $mode, $vus,
+        (.metrics.http_reqs.values.rate | floor),
+        (.metrics.http_req_duration.values["p(99)"] | floor),
+        ((.root_group.checks[] | select(.name == "shed (503)") | .passes)
+          / (.metrics.http_reqs.values.count) * 100 | . * 10 | floor / 10)
+      ] | @tsv' "$summary" | awk -F'\t' '{ printf "%-8s %8s %10s %10s %8s\n", $1, $2, $3, $4, $5 }'
+  done
+done
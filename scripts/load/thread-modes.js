@@ -0,0 +1,75 @@
+// ============================================================
+// HPM Patient Service — closed-model load test for thread-mode comparison
+// Each VU is one client issuing requests back to back (no think time).
+//
+//   k6 run -e VUS=500 scripts/load/thread-modes.js
+//
+// Env: BASE_URL (default http://localhost:8081), VUS (default 50),
+//      DURATION (default 60s), SEED_PATIENTS (default 200), SUMMARY_FILE (optional)
+// ============================================================
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const VUS = parseInt(__ENV.VUS || '50', 10);
+const SEED_PATIENTS = parseInt(__ENV.SEED_PATIENTS || '200', 10);
+
+export const options = {
+  scenarios: {
+    clients: {
+      executor: 'constant-vus',
+      vus: VUS,
+      duration: __ENV.DURATION || '60s',
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  // 503s from the admission limit are expected under overload; report them, don't fail on them
+  thresholds: {
+    checks: ['rate>0'],
+  },
+};
+
+// Registers a fixed set of patients once and hands their IDs to every VU
+export function setup() {
+  const headers = { 'Content-Type': 'application/json', 'X-User-ID': 'load-test' };
+  const ids = [];
+  for (let i = 0; i < SEED_PATIENTS; i++) {
+    const res = http.post(`${BASE_URL}/api/v1/patients`, JSON.stringify({
+      firstName: 'Load',
+      lastName: `Client${i}`,
+      dateOfBirth: '1985-06-15',
+      gender: i % 2 === 0 ? 'FEMALE' : 'MALE',
+      phoneNumber: `555-${String(100 + (i % 900)).padStart(3, '0')}-${String(i % 10000).padStart(4, '0')}`,
+    }), { headers });
+    if (res.status === 201) {
+      ids.push(res.json('data.patientId'));
+    }
+  }
+  if (ids.length === 0) {
+    throw new Error(`could not seed patients against ${BASE_URL}`);
+  }
+  return { ids };
+}
+
+// 70% profile reads, 30% search pages
+export default function (data) {
+  let res;
+  if (Math.random() < 0.7) {
+    const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+    res = http.get(`${BASE_URL}/api/v1/patients/${id}`, { tags: { endpoint: 'profile' } });
+  } else {
+    res = http.get(`${BASE_URL}/api/v1/patients?status=ACTIVE&size=20&count=SKIP`, { tags: { endpoint: 'search' } });
+  }
+  check(res, {
+    'served (200)': (r) => r.status === 200,
+    'shed (503)': (r) => r.status === 503,
+  });
+}
+
+export function handleSummary(data) {
+  const out = { stdout: '' };
+  if (__ENV.SUMMARY_FILE) {
+    out[__ENV.SUMMARY_FILE] = JSON.stringify(data);
+  }
+  return out;
+}
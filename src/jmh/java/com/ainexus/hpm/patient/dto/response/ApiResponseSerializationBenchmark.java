@@ -0,0 +1,77 @@
+package com.ainexus.hpm.patient.dto.response;
+
+import com.ainexus.hpm.patient.enums.CountMode;
+import com.ainexus.hpm.patient.enums.Gender;
+import com.ainexus.hpm.patient.enums.PatientStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Serialization of a list response as the message converter writes it: the whole
+ * ApiResponse&lt;PagedResponse&lt;PatientSummaryResponse&gt;&gt; envelope straight to the output
+ * stream, with an ObjectMapper configured the way Spring Boot configures its own.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<PagedResponse<PatientSummaryResponse>> response;
+    private OutputStream sink;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<PatientSummaryResponse> content = IntStream.range(0, pageSize)
+                .mapToObj(i -> PatientSummaryResponse.builder()
+                        .patientId(String.format("P2026%03d", i + 1))
+                        .firstName("Jennifer")
+                        .lastName("Martinez")
+                        .age(41)
+                        .gender(Gender.FEMALE)
+                        .phoneNumber("555-867-5309")
+                        .status(PatientStatus.ACTIVE)
+                        .build())
+                .toList();
+        response = ApiResponse.success(PagedResponse.<PatientSummaryResponse>builder()
+                .content(content)
+                .page(0)
+                .size(pageSize)
+                .totalElements(10_000L)
+                .totalPages(10_000 / pageSize)
+                .countMode(CountMode.EXACT)
+                .first(true)
+                .last(false)
+                .build());
+        sink = OutputStream.nullOutputStream();
+    }
+
+    @Benchmark
+    public void writeListResponse() throws IOException {
+        objectMapper.writeValue(sink, response);
+    }
+}
@@ -0,0 +1,83 @@
+package com.ainexus.hpm.patient.mapper;
+
+import com.ainexus.hpm.patient.dto.response.PatientResponse;
+import com.ainexus.hpm.patient.dto.response.PatientSummaryResponse;
+import com.ainexus.hpm.patient.entity.Patient;
+import com.ainexus.hpm.patient.enums.BloodGroup;
+import com.ainexus.hpm.patient.enums.Gender;
+import com.ainexus.hpm.patient.enums.PatientStatus;
+import com.ainexus.hpm.patient.repository.PatientSummaryView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-row mapping cost of list and profile responses: builder allocation plus the
+ * Period.between age calculation. Run with -prof gc to see bytes allocated per row.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PatientMapperBenchmark {
+
+    private PatientMapper mapper;
+    private Patient patient;
+    private PatientSummaryView summaryRow;
+
+    @Setup
+    public void setUp() {
+        mapper = new PatientMapper();
+        patient = Patient.builder()
+                .patientId("P2026001")
+                .firstName("Jennifer")
+                .lastName("Martinez")
+                .dateOfBirth(LocalDate.of(1984, 7, 23))
+                .gender(Gender.FEMALE)
+                .phoneNumber("555-867-5309")
+                .email("jennifer.martinez@example.com")
+                .address("1200 Main Street, Apt 14")
+                .city("Springfield")
+                .state("IL")
+                .zipCode("62704")
+                .bloodGroup(BloodGroup.O_POS)
+                .knownAllergies("Penicillin (anaphylaxis); latex")
+                .chronicConditions("Type 2 diabetes, diet-controlled")
+                .status(PatientStatus.ACTIVE)
+                .createdAt(LocalDateTime.of(2026, 1, 5, 9, 30))
+                .createdBy("receptionist01")
+                .version(0)
+                .build();
+        summaryRow = new PatientSummaryView(patient.getPatientId(), patient.getFirstName(), patient.getLastName(),
+                patient.getDateOfBirth(), patient.getGender(), patient.getPhoneNumber(), patient.getStatus(),
+                patient.getCreatedAt());
+    }
+
+    @Benchmark
+    public PatientResponse toResponse() {
+        return mapper.toResponse(patient);
+    }
+
+    @Benchmark
+    public PatientSummaryResponse toSummaryResponseFromEntity() {
+        return mapper.toSummaryResponse(patient);
+    }
+
+    @Benchmark
+    public PatientSummaryResponse toSummaryResponseFromView() {
+        return mapper.toSummaryResponse(summaryRow);
+    }
+}
@@ -0,0 +1,57 @@
+package com.ainexus.hpm.patient.validator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one phone number check, run for every registration, update and imported row. One
+ * accepted value per supported format plus a rejected one. legacyRegex is the String.matches
+ * check PhoneValidator used before the PhoneNumbers scanner, kept as the baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PhoneValidatorBenchmark {
+
+    private static final String LEGACY_PHONE_REGEX =
+            "^(\\+1-\\d{3}-\\d{3}-\\d{4}|\\(\\d{3}\\) \\d{3}-\\d{4}|\\d{3}-\\d{3}-\\d{4})$";
+
+    @Param({"+1-555-867-5309", "(555) 867-5309", "555-867-5309", "555.867.5309"})
+    public String phoneNumber;
+
+    private PhoneValidator validator;
+
+    @Setup
+    public void setUp() {
+        validator = new PhoneValidator();
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return validator.isValid(phoneNumber, null);
+    }
+
+    @Benchmark
+    public String normalize() {
+        return PhoneNumbers.normalize(phoneNumber);
+    }
+
+    @Benchmark
+    public boolean legacyRegex() {
+        return phoneNumber.matches(LEGACY_PHONE_REGEX);
+    }
+}
@@ -0,0 +1,18 @@
+package com.ainexus.hpm.patient.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single-instance deployments: the local profile cache is refreshed by the write itself,
+ * so there is nobody else to tell.
+ */
+@Component
+@ConditionalOnProperty(name = "patient.cache.invalidation", havingValue = "local")
+public class LocalPatientInvalidationPublisher implements PatientInvalidationPublisher {
+
+    @Override
+    public void publish(PatientInvalidation invalidation) {
+        // no other instances
+    }
+}
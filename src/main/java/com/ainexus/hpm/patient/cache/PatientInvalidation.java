@@ -0,0 +1,30 @@
+package com.ainexus.hpm.patient.cache;
+
+/**
+ * A committed write to a patient row, as broadcast to other instances: {@code version} is the
+ * version the write committed, and every profile cached at a version older than {@code version}
+ * is stale. Serialized as "patientId|version" for a NOTIFY payload.
+ */
+public record PatientInvalidation(String patientId, int version) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        return patientId + SEPARATOR + version;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the payload was not produced by {@link #encode()}
+     */
+    public static PatientInvalidation decode(String payload) {
+        int sep = payload.lastIndexOf(SEPARATOR);
+        if (sep <= 0 || sep == payload.length() - 1) {
+            throw new IllegalArgumentException("Invalid patient invalidation payload");
+        }
+        try {
+            return new PatientInvalidation(payload.substring(0, sep), Integer.parseInt(payload.substring(sep + 1)));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid patient invalidation payload");
+        }
+    }
+}
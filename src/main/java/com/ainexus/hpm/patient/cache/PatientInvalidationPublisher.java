@@ -0,0 +1,21 @@
+package com.ainexus.hpm.patient.cache;
+
+import java.util.Collection;
+
+/**
+ * Tells other service instances that a patient row changed so they drop any cached profile
+ * older than the committed version.
+ * Called inside the writing transaction; implementations must only deliver the message if that
+ * transaction commits. Selected by patient.cache.invalidation: "notify" (default) or "local".
+ */
+public interface PatientInvalidationPublisher {
+
+    void publish(PatientInvalidation invalidation);
+
+    /**
+     * Publishes the invalidations of a bulk write; implementations may send them in one round-trip.
+     */
+    default void publishAll(Collection<PatientInvalidation> invalidations) {
+        invalidations.forEach(this::publish);
+    }
+}
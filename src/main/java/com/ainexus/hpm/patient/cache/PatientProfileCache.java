@@ -0,0 +1,140 @@
+package com.ainexus.hpm.patient.cache;
+
+import com.ainexus.hpm.patient.dto.response.PatientResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * Bounded in-process cache of full patient profiles, keyed by patientId.
+ *
+ * Entries carry the entity's @Version and a put never replaces a newer version with an older
+ * one, so a reader that loaded a row just before a concurrent update cannot overwrite the
+ * refreshed entry. While a write is committing its entry is a pending marker that reads treat
+ * as a miss, so no node-local reader sees the old profile once the new row is visible. Writes
+ * on other instances arrive through {@link PatientInvalidationPublisher}.
+ *
+ * Size and TTL come from patient.cache.profile.max-size and patient.cache.profile.ttl; a
+ * max-size of 0 effectively disables caching. Hit, miss and eviction counts are published as
+ * the cache.* meters tagged cache=patient.profile.
+ */
+@Component
+public class PatientProfileCache {
+
+    static final String CACHE_NAME = "patient.profile";
+
+    private final Cache<String, CachedProfile> cache;
+
+    @Autowired
+    public PatientProfileCache(
+            @Value("${patient.cache.profile.max-size:10000}") long maxSize,
+            @Value("${patient.cache.profile.ttl:5m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this(maxSize, ttl, meterRegistry, Ticker.systemTicker());
+    }
+
+    PatientProfileCache(long maxSize, Duration ttl, MeterRegistry meterRegistry, Ticker ticker) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("patient.cache.profile.max-size must not be negative");
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("patient.cache.profile.ttl must be positive");
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Cached profile, as a copy the caller may modify.
+     */
+    public Optional<PatientResponse> get(String patientId) {
+        CachedProfile cached = cache.getIfPresent(patientId);
+        if (cached == null || cached.pending()) {
+            return Optional.empty();
+        }
+        return Optional.of(cached.response().toBuilder().build());
+    }
+
+    /**
+     * Version of the cached profile, without copying it; empty on a miss or a pending entry.
+     */
+    public OptionalInt version(String patientId) {
+        CachedProfile cached = cache.getIfPresent(patientId);
+        if (cached == null || cached.pending()) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(cached.version());
+    }
+
+    /**
+     * Caches a profile read at the given version unless the entry already holds a newer one.
+     * A pending marker is only replaced by a strictly newer version — a row read at the
+     * marker's version may predate the commit the marker is waiting for.
+     */
+    public void put(PatientResponse response, int version) {
+        CachedProfile incoming = CachedProfile.of(response, version);
+        cache.asMap().merge(response.getPatientId(), incoming, (existing, candidate) ->
+                candidate.version() > existing.version()
+                        || (candidate.version() == existing.version() && !existing.pending())
+                        ? candidate : existing);
+    }
+
+    /**
+     * Marks the entry as being rewritten from (at least) the given version; reads miss until
+     * {@link #refresh} stores the committed profile or {@link #evict} drops the marker.
+     */
+    public void markPending(String patientId, int version) {
+        cache.put(patientId, new CachedProfile(null, version, true));
+    }
+
+    /**
+     * Stores a profile just committed by a write, replacing anything at the same or an older version.
+     */
+    public void refresh(PatientResponse response, int version) {
+        CachedProfile incoming = CachedProfile.of(response, version);
+        cache.asMap().merge(response.getPatientId(), incoming, (existing, candidate) ->
+                candidate.version() >= existing.version() ? candidate : existing);
+    }
+
+    public void evict(String patientId) {
+        cache.invalidate(patientId);
+    }
+
+    /**
+     * Drops the entry unless it already holds the given version or a newer one; used for
+     * writes announced by any instance, including this one, whose afterCommit refresh may
+     * already have stored the written version. A pending marker just below the written
+     * version is left behind, so a read from a replica that has not replayed the write yet
+     * cannot cache the older row again.
+     */
+    public void evictIfNotNewer(String patientId, int version) {
+        cache.asMap().compute(patientId, (id, existing) ->
+                existing != null && existing.version() >= version ? existing : new CachedProfile(null, version - 1, true));
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    private record CachedProfile(PatientResponse response, int version, boolean pending) {
+
+        // The warning flag belongs to the write that produced it, not to the stored profile
+        static CachedProfile of(PatientResponse response, int version) {
+            return new CachedProfile(response.toBuilder().duplicatePhoneWarning(null).build(), version, false);
+        }
+    }
+}
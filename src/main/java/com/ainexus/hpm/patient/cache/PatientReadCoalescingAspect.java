@@ -0,0 +1,85 @@
+package com.ainexus.hpm.patient.cache;
+
+import com.ainexus.hpm.patient.datasource.ReadReplicaRoutingDataSource;
+import com.ainexus.hpm.patient.dto.response.PagedResponse;
+import com.ainexus.hpm.patient.dto.response.PatientResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.After;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * Single-flight for {@code PatientService} reads: concurrent getPatientById calls for the same
+ * patientId, and concurrent searches with the same method and arguments, share one execution.
+ *
+ * Runs inside {@link com.ainexus.hpm.patient.metrics.PatientMetricsAspect}, so each caller is
+ * still timed, and outside the transaction proxy, so callers waiting on another's execution do
+ * not hold a pooled connection. After a write returns — committed — later arrivals no longer join
+ * a flight that may have read around it. Callers pinned to the primary for read-your-writes
+ * bypass coalescing, since the running flight may be reading a replica.
+ *
+ * Disabled with patient.single-flight.enabled=false.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(name = "patient.single-flight.enabled", havingValue = "true", matchIfMissing = true)
+public class PatientReadCoalescingAspect {
+
+    private final SingleFlight<String, PatientResponse> profiles;
+    private final SingleFlight<List<Object>, PagedResponse<?>> searches;
+
+    public PatientReadCoalescingAspect(MeterRegistry meterRegistry) {
+        // Callers may set duplicatePhoneWarning on a profile, so each follower gets its own copy
+        this.profiles = new SingleFlight<>("profile", profile -> profile.toBuilder().build(), meterRegistry);
+        this.searches = new SingleFlight<>("search", UnaryOperator.identity(), meterRegistry);
+    }
+
+    @Around("execution(* com.ainexus.hpm.patient.service.PatientService.getPatientById(..)) && args(patientId)")
+    public Object coalesceProfile(ProceedingJoinPoint joinPoint, String patientId) throws Throwable {
+        if (ReadReplicaRoutingDataSource.isPrimaryOnly()) {
+            return joinPoint.proceed();
+        }
+        return profiles.execute(patientId, () -> (PatientResponse) joinPoint.proceed());
+    }
+
+    @Around("execution(* com.ainexus.hpm.patient.service.PatientService.searchPatients*(..))")
+    public Object coalesceSearch(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (ReadReplicaRoutingDataSource.isPrimaryOnly()) {
+            return joinPoint.proceed();
+        }
+        List<Object> key = List.of(joinPoint.getSignature().getName(), Arrays.asList(joinPoint.getArgs()));
+        return searches.execute(key, () -> (PagedResponse<?>) joinPoint.proceed());
+    }
+
+    @After("(execution(* com.ainexus.hpm.patient.service.PatientService.updatePatient(..)) "
+            + "|| execution(* com.ainexus.hpm.patient.service.PatientService.patchPatient(..)) "
+            + "|| execution(* com.ainexus.hpm.patient.service.PatientService.activatePatient(..)) "
+            + "|| execution(* com.ainexus.hpm.patient.service.PatientService.deactivatePatient(..))) "
+            + "&& args(patientId, ..)")
+    public void afterPatientWrite(String patientId) {
+        profiles.forget(patientId);
+        searches.forgetAll();
+    }
+
+    @After("execution(* com.ainexus.hpm.patient.service.PatientService.changePatientStatuses(..)) "
+            + "&& args(patientIds, ..)")
+    public void afterStatusChanges(List<String> patientIds) {
+        patientIds.forEach(profiles::forget);
+        searches.forgetAll();
+    }
+
+    @After("execution(* com.ainexus.hpm.patient.service.PatientService.registerPatient*(..))")
+    public void afterRegistration() {
+        searches.forgetAll();
+    }
+}
@@ -0,0 +1,140 @@
+package com.ainexus.hpm.patient.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Receives invalidations published by {@link PgNotifyPatientInvalidationPublisher} on every
+ * instance and evicts the matching local profile.
+ *
+ * LISTEN holds its connection for the life of the process, so it uses a dedicated JDBC
+ * connection opened with DriverManager rather than one borrowed from the Hikari pool. When
+ * that connection drops, the whole local cache is cleared before listening again —
+ * notifications sent while nobody was listening are lost.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "patient.cache.invalidation", havingValue = "notify", matchIfMissing = true)
+public class PgNotifyPatientInvalidationListener implements SmartLifecycle {
+
+    private static final int POLL_TIMEOUT_MILLIS = 500;
+    private static final Duration RECONNECT_DELAY = Duration.ofSeconds(5);
+
+    private final String jdbcUrl;
+    private final String username;
+    private final String password;
+    private final PatientProfileCache profileCache;
+
+    private volatile boolean running;
+    private volatile boolean listening;
+    private Thread worker;
+
+    @Autowired
+    public PgNotifyPatientInvalidationListener(JdbcConnectionDetails connectionDetails, PatientProfileCache profileCache) {
+        this(connectionDetails.getJdbcUrl(), connectionDetails.getUsername(), connectionDetails.getPassword(), profileCache);
+    }
+
+    PgNotifyPatientInvalidationListener(String jdbcUrl, String username, String password, PatientProfileCache profileCache) {
+        this.jdbcUrl = jdbcUrl;
+        this.username = username;
+        this.password = password;
+        this.profileCache = profileCache;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::listen, "patient-invalidation-listener");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(POLL_TIMEOUT_MILLIS * 4L);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            worker = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * True once LISTEN has been issued on the current connection.
+     */
+    boolean isListening() {
+        return listening;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + PgNotifyPatientInvalidationPublisher.CHANNEL);
+                }
+                profileCache.evictAll();
+                listening = true;
+                log.info("Listening for patient cache invalidations");
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            apply(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException ex) {
+                listening = false;
+                if (running) {
+                    log.warn("Patient invalidation listener disconnected, retrying in {}: {}",
+                            RECONNECT_DELAY, ex.getMessage());
+                    pause();
+                }
+            }
+        }
+        listening = false;
+    }
+
+    private void apply(String payload) {
+        try {
+            PatientInvalidation invalidation = PatientInvalidation.decode(payload);
+            profileCache.evictIfNotNewer(invalidation.patientId(), invalidation.version());
+        } catch (IllegalArgumentException ex) {
+            log.warn("Ignoring malformed patient invalidation payload");
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(RECONNECT_DELAY.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
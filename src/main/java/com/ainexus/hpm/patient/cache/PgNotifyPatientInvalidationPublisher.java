@@ -0,0 +1,45 @@
+package com.ainexus.hpm.patient.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Publishes invalidations with pg_notify on the writing transaction's own connection.
+ * PostgreSQL queues the notification until commit and discards it on rollback, so
+ * listeners never hear about a write that did not happen.
+ */
+@Component
+@ConditionalOnProperty(name = "patient.cache.invalidation", havingValue = "notify", matchIfMissing = true)
+public class PgNotifyPatientInvalidationPublisher implements PatientInvalidationPublisher {
+
+    static final String CHANNEL = "patient_invalidation";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PgNotifyPatientInvalidationPublisher(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void publish(PatientInvalidation invalidation) {
+        jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", String.class, CHANNEL, invalidation.encode());
+    }
+
+    @Override
+    public void publishAll(Collection<PatientInvalidation> invalidations) {
+        if (invalidations.isEmpty()) {
+            return;
+        }
+        String[] payloads = invalidations.stream().map(PatientInvalidation::encode).toArray(String[]::new);
+        jdbcTemplate.query("SELECT pg_notify(?, payload) FROM unnest(?) AS payload",
+                ps -> {
+                    ps.setString(1, CHANNEL);
+                    ps.setArray(2, ps.getConnection().createArrayOf("text", payloads));
+                },
+                rs -> {
+                });
+    }
+}
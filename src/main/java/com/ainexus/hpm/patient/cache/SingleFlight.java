@@ -0,0 +1,88 @@
+package com.ainexus.hpm.patient.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Coalesces concurrent calls for the same key into one execution: the first caller runs the
+ * loader, and callers that arrive while it is running wait for and share its result or its
+ * exception. Nothing is kept once the call completes — this is not a cache.
+ *
+ * Followers receive {@code shareAs} applied to the leader's result, so a mutable result can be
+ * handed out as a copy. A loader must not re-enter the same flight for its own key.
+ *
+ * Meter: patient.single.flight.calls (tags operation, outcome=executed|coalesced).
+ */
+public class SingleFlight<K, V> {
+
+    static final String CALLS_COUNTER = "patient.single.flight.calls";
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final UnaryOperator<V> shareAs;
+    private final Counter executed;
+    private final Counter coalesced;
+
+    public SingleFlight(String operation, UnaryOperator<V> shareAs, MeterRegistry meterRegistry) {
+        this.shareAs = shareAs;
+        this.executed = Counter.builder(CALLS_COUNTER)
+                .tag("operation", operation)
+                .tag("outcome", "executed")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder(CALLS_COUNTER)
+                .tag("operation", operation)
+                .tag("outcome", "coalesced")
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Loader<V> loader) throws Throwable {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            coalesced.increment();
+            return await(leader);
+        }
+
+        executed.increment();
+        try {
+            V result = loader.load();
+            flight.complete(result);
+            return result;
+        } catch (Throwable ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Lets callers arriving from now on start a new execution for the key instead of joining the
+     * running one; used after a write that the running execution may have read around.
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    public void forgetAll() {
+        inFlight.clear();
+    }
+
+    private V await(CompletableFuture<V> leader) throws Throwable {
+        try {
+            return shareAs.apply(leader.join());
+        } catch (CompletionException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    public interface Loader<V> {
+        V load() throws Throwable;
+    }
+}
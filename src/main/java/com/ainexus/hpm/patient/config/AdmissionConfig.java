@@ -0,0 +1,52 @@
+package com.ainexus.hpm.patient.config;
+
+import com.ainexus.hpm.patient.web.AimdConcurrencyLimit;
+import com.ainexus.hpm.patient.web.PatientAdmissionFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * Registers {@link PatientAdmissionFilter} on /api/* ahead of the controllers.
+ *
+ * The limit defaults to the primary Hikari pool size and never grows past it, so the AIMD
+ * increase cannot admit more requests than there are connections. Latency spent waiting
+ * for a connection only counts against the limit once it passes the threshold.
+ */
+@Configuration
+@ConditionalOnProperty(name = "patient.admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionConfig {
+
+    @Bean
+    public AimdConcurrencyLimit patientAdmissionLimit(
+            @Value("${patient.admission.initial-limit:${spring.datasource.hikari.maximum-pool-size:10}}") int initialLimit,
+            @Value("${patient.admission.min-limit:4}") int minLimit,
+            @Value("${patient.admission.max-limit:${spring.datasource.hikari.maximum-pool-size:10}}") int maxLimit,
+            @Value("${patient.admission.latency-threshold:500ms}") Duration latencyThreshold,
+            @Value("${patient.admission.backoff-ratio:0.9}") double backoffRatio) {
+        // Explicit initial/min limits above a pool-sized max are pulled down to it
+        int min = Math.min(minLimit, maxLimit);
+        int initial = Math.max(min, Math.min(initialLimit, maxLimit));
+        return new AimdConcurrencyLimit(initial, min, maxLimit, latencyThreshold, backoffRatio);
+    }
+
+    @Bean
+    public FilterRegistrationBean<PatientAdmissionFilter> patientAdmissionFilter(
+            AimdConcurrencyLimit patientAdmissionLimit,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${patient.admission.bulk-share:0.75}") double bulkShare) {
+        FilterRegistrationBean<PatientAdmissionFilter> registration = new FilterRegistrationBean<>(
+                new PatientAdmissionFilter(patientAdmissionLimit, bulkShare, objectMapper, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
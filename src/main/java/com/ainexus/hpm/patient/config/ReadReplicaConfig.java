@@ -0,0 +1,125 @@
+package com.ainexus.hpm.patient.config;
+
+import com.ainexus.hpm.patient.datasource.ReadReplicaRoutingDataSource;
+import com.ainexus.hpm.patient.datasource.ReadYourWritesFilter;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Routes @Transactional(readOnly = true) work to one or more PostgreSQL replicas.
+ *
+ * Replaces Spring Boot's single pool with three beans: the primary Hikari pool, still
+ * configured by spring.datasource.*; the replica pools, configured by
+ * patient.datasource.replica.hikari.* with one pool per URL; and a @Primary routing
+ * {@link DataSource} that JPA, JdbcTemplate and the transaction manager use.
+ * {@link ReadYourWritesFilter} keeps each user's reads on the primary for a short window after
+ * their own writes.
+ */
+@Configuration
+@ConditionalOnProperty(name = "patient.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("patient.datasource.replica.hikari")
+    public HikariConfig replicaHikariConfig() {
+        return new HikariConfig();
+    }
+
+    @Bean
+    public ReplicaPools replicaPools(
+            HikariConfig replicaHikariConfig,
+            MeterRegistry meterRegistry,
+            @Value("${patient.datasource.replica.urls}") List<String> urls) {
+        List<String> jdbcUrls = urls.stream().map(String::trim).filter(url -> !url.isEmpty()).toList();
+        if (jdbcUrls.isEmpty()) {
+            throw new IllegalArgumentException("patient.datasource.replica.urls must list at least one JDBC URL");
+        }
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (int i = 0; i < jdbcUrls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            replicaHikariConfig.copyStateTo(config);
+            config.setJdbcUrl(jdbcUrls.get(i));
+            config.setPoolName(replicaHikariConfig.getPoolName() + "-" + i);
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            pools.add(new HikariDataSource(config));
+        }
+        return new ReplicaPools(pools);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaPools replicaPools) {
+        return new LazyConnectionDataSourceProxy(new ReadReplicaRoutingDataSource(primaryDataSource, replicaPools.pools()));
+    }
+
+    /**
+     * Spring Boot only defines this alongside its own pool; the LISTEN connection of the
+     * profile-cache invalidation listener still needs the primary's coordinates.
+     */
+    @Bean
+    @ConditionalOnMissingBean(JdbcConnectionDetails.class)
+    public JdbcConnectionDetails jdbcConnectionDetails(DataSourceProperties properties) {
+        return new JdbcConnectionDetails() {
+            @Override
+            public String getUsername() {
+                return properties.determineUsername();
+            }
+
+            @Override
+            public String getPassword() {
+                return properties.determinePassword();
+            }
+
+            @Override
+            public String getJdbcUrl() {
+                return properties.determineUrl();
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${patient.datasource.replica.read-your-writes-window:5s}") Duration window,
+            @Value("${patient.datasource.replica.read-your-writes-max-users:10000}") long maxTrackedUsers) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(window, maxTrackedUsers));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+
+    /**
+     * Owns the replica pools so they are closed with the context.
+     */
+    public record ReplicaPools(List<HikariDataSource> pools) implements AutoCloseable {
+        @Override
+        public void close() {
+            pools.forEach(HikariDataSource::close);
+        }
+    }
+}
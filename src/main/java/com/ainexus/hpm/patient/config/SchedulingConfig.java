@@ -0,0 +1,12 @@
+package com.ainexus.hpm.patient.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background work (the patient outbox relay).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
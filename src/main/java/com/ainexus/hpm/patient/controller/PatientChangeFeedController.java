@@ -0,0 +1,46 @@
+package com.ainexus.hpm.patient.controller;
+
+import com.ainexus.hpm.patient.dto.response.ApiResponse;
+import com.ainexus.hpm.patient.dto.response.PatientChangesResponse;
+import com.ainexus.hpm.patient.service.PatientChangeFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/v1/patients/changes")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Patient Change Feed", description = "APIs for incrementally mirroring patient records")
+public class PatientChangeFeedController {
+
+    private final PatientChangeFeedService patientChangeFeedService;
+
+    @GetMapping
+    @Operation(summary = "Patients created, updated, activated or deactivated after a watermark")
+    public ResponseEntity<ApiResponse<PatientChangesResponse>> getChanges(
+            @Parameter(description = "nextCursor from the previous poll; takes precedence over since")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Initial watermark (ISO date-time, exclusive) when no cursor is held yet")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+
+            @Min(value = 1, message = "Page size must be at least 1")
+            @Max(value = 1000, message = "Page size must not exceed 1000")
+            @RequestParam(defaultValue = "500") int size) {
+
+        return ResponseEntity.ok(ApiResponse.success(patientChangeFeedService.getChanges(cursor, since, size)));
+    }
+}
@@ -1,27 +1,42 @@
 package com.ainexus.hpm.patient.controller;
 
+import com.ainexus.hpm.patient.dto.request.PatientPatchRequest;
 import com.ainexus.hpm.patient.dto.request.PatientRegistrationRequest;
 import com.ainexus.hpm.patient.dto.request.PatientUpdateRequest;
 import com.ainexus.hpm.patient.dto.response.ApiResponse;
+import com.ainexus.hpm.patient.dto.response.BatchRegistrationResponse;
 import com.ainexus.hpm.patient.dto.response.PagedResponse;
+import com.ainexus.hpm.patient.dto.response.PatientLookupResponse;
 import com.ainexus.hpm.patient.dto.response.PatientResponse;
+import com.ainexus.hpm.patient.dto.response.PatientStatusChangeResponse;
 import com.ainexus.hpm.patient.dto.response.PatientSummaryResponse;
 import com.ainexus.hpm.patient.enums.BloodGroup;
+import com.ainexus.hpm.patient.enums.CountMode;
 import com.ainexus.hpm.patient.enums.Gender;
+import com.ainexus.hpm.patient.enums.PaginationMode;
+import com.ainexus.hpm.patient.enums.PatientProjection;
+import com.ainexus.hpm.patient.enums.PatientStatus;
 import com.ainexus.hpm.patient.enums.PatientStatusFilter;
 import com.ainexus.hpm.patient.service.PatientService;
+import com.ainexus.hpm.patient.web.PatientETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/patients")
 @RequiredArgsConstructor
@@ -31,6 +46,15 @@ public class PatientController {
 
     private static final String DEFAULT_USER = "SYSTEM";
 
+    // Keeps the phone-duplicate IN list and the request body bounded
+    static final int MAX_BATCH_SIZE = 5000;
+
+    // Keeps the ANY(?) array and the response body bounded
+    static final int MAX_LOOKUP_SIZE = 500;
+
+    // Bounds the rows one UPDATE locks and the outbox rows it writes
+    static final int MAX_STATUS_BATCH_SIZE = 500;
+
     private final PatientService patientService;
 
     @PostMapping
@@ -41,9 +65,41 @@ public class PatientController {
 
         PatientResponse patient = patientService.registerPatient(request, userId);
         return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(PatientETags.of(patient))
                 .body(ApiResponse.success("Patient registered successfully", patient));
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Register many patients in one request, with a result per entry")
+    public ResponseEntity<ApiResponse<BatchRegistrationResponse>> registerPatients(
+            @NotEmpty(message = "Batch must contain at least one patient")
+            @Size(max = MAX_BATCH_SIZE, message = "Batch must not exceed " + MAX_BATCH_SIZE + " patients")
+            @RequestBody List<PatientRegistrationRequest> requests,
+            @RequestHeader(value = "X-User-ID", defaultValue = DEFAULT_USER) String userId) {
+
+        BatchRegistrationResponse result = patientService.registerPatients(requests, userId);
+        HttpStatus status = result.getCreated() > 0 ? HttpStatus.CREATED : HttpStatus.OK;
+        return ResponseEntity.status(status)
+                .body(ApiResponse.success("Batch processed: " + result.getCreated() + " created, "
+                        + result.getRejected() + " rejected", result));
+    }
+
+    @PostMapping("/lookup")
+    @Operation(summary = "Fetch many patients by ID in one request, with an entry per ID (FOUND or NOT_FOUND)")
+    public ResponseEntity<ApiResponse<PatientLookupResponse<?>>> lookupPatients(
+            @NotEmpty(message = "Lookup must contain at least one patient ID")
+            @Size(max = MAX_LOOKUP_SIZE, message = "Lookup must not exceed " + MAX_LOOKUP_SIZE + " patient IDs")
+            @RequestBody List<@NotBlank(message = "Patient ID must not be blank") String> patientIds,
+
+            @Parameter(description = "FULL (default) returns profiles as GET /{patientId}; SUMMARY returns list-page rows")
+            @RequestParam(defaultValue = "FULL") PatientProjection projection) {
+
+        PatientLookupResponse<?> result = projection == PatientProjection.SUMMARY
+                ? patientService.lookupPatientSummaries(patientIds)
+                : patientService.lookupPatients(patientIds);
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+
     @GetMapping
     @Operation(summary = "List and search patients with filtering and pagination")
     public ResponseEntity<ApiResponse<PagedResponse<PatientSummaryResponse>>> searchPatients(
@@ -64,50 +120,121 @@ public class PatientController {
 
             @Min(value = 1, message = "Page size must be at least 1")
             @Max(value = 100, message = "Page size must not exceed 100")
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+
+            @Parameter(description = "Pagination mode: OFFSET (default, with totals) or KEYSET (cursor, no totals)")
+            @RequestParam(defaultValue = "OFFSET") PaginationMode pagination,
+
+            @Parameter(description = "Keyset continuation token from a previous nextCursor; implies KEYSET")
+            @RequestParam(required = false) String cursor,
 
-        PagedResponse<PatientSummaryResponse> result =
-                patientService.searchPatients(search, status, gender, bloodGroup, page, size);
+            @Parameter(description = "Offset mode totals: EXACT, SKIP, ESTIMATE (unfiltered lists), CACHED (omit for configured default)")
+            @RequestParam(required = false) CountMode count) {
+
+        PagedResponse<PatientSummaryResponse> result = (pagination == PaginationMode.KEYSET || cursor != null)
+                ? patientService.searchPatientsKeyset(search, status, gender, bloodGroup, cursor, size)
+                : patientService.searchPatients(search, status, gender, bloodGroup, page, size, count);
         return ResponseEntity.ok(ApiResponse.success(result));
     }
 
     @GetMapping("/{patientId}")
-    @Operation(summary = "Get patient profile by patient ID")
+    @Operation(summary = "Get patient profile by patient ID; 304 when If-None-Match carries the current ETag")
     public ResponseEntity<ApiResponse<PatientResponse>> getPatient(
-            @PathVariable String patientId) {
-
+            @PathVariable String patientId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        if (ifNoneMatch != null) {
+            // Answered from the cached or queried version alone — the profile is not loaded
+            String currentETag = PatientETags.of(patientId, patientService.getPatientVersion(patientId));
+            if (PatientETags.notModified(ifNoneMatch, currentETag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag).build();
+            }
+        }
         PatientResponse patient = patientService.getPatientById(patientId);
-        return ResponseEntity.ok(ApiResponse.success(patient));
+        return ResponseEntity.ok()
+                .eTag(PatientETags.of(patient))
+                .body(ApiResponse.success(patient));
     }
 
     @PutMapping("/{patientId}")
-    @Operation(summary = "Update patient demographic information")
+    @Operation(summary = "Update patient demographic information; If-Match makes it conditional (412 on mismatch)")
     public ResponseEntity<ApiResponse<PatientResponse>> updatePatient(
             @PathVariable String patientId,
             @Valid @RequestBody PatientUpdateRequest request,
-            @RequestHeader(value = "X-User-ID", defaultValue = DEFAULT_USER) String userId) {
+            @RequestHeader(value = "X-User-ID", defaultValue = DEFAULT_USER) String userId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+        PatientResponse patient = patientService.updatePatient(
+                patientId, request, userId, PatientETags.expectedVersion(patientId, ifMatch));
+        return ResponseEntity.ok()
+                .eTag(PatientETags.of(patient))
+                .body(ApiResponse.success("Patient updated successfully", patient));
+    }
 
-        PatientResponse patient = patientService.updatePatient(patientId, request, userId);
-        return ResponseEntity.ok(ApiResponse.success("Patient updated successfully", patient));
+    @PatchMapping("/{patientId}")
+    @Operation(summary = "Update only the supplied fields; an edit that changes nothing is not written")
+    public ResponseEntity<ApiResponse<PatientResponse>> patchPatient(
+            @PathVariable String patientId,
+            @Valid @RequestBody PatientPatchRequest request,
+            @RequestHeader(value = "X-User-ID", defaultValue = DEFAULT_USER) String userId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+        PatientResponse patient = patientService.patchPatient(
+                patientId, request, userId, PatientETags.expectedVersion(patientId, ifMatch));
+        return ResponseEntity.ok()
+                .eTag(PatientETags.of(patient))
+                .body(ApiResponse.success("Patient updated successfully", patient));
     }
 
     @PatchMapping("/{patientId}/deactivate")
-    @Operation(summary = "Deactivate a patient record")
+    @Operation(summary = "Deactivate a patient record; If-Match makes it conditional (412 on mismatch)")
     public ResponseEntity<ApiResponse<PatientResponse>> deactivatePatient(
             @PathVariable String patientId,
-            @RequestHeader(value = "X-User-ID", defaultValue = DEFAULT_USER) String userId) {
-
-        PatientResponse patient = patientService.deactivatePatient(patientId, userId);
-        return ResponseEntity.ok(ApiResponse.success("Patient deactivated successfully", patient));
+            @RequestHeader(value = "X-User-ID", defaultValue = DEFAULT_USER) String userId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+        PatientResponse patient = patientService.deactivatePatient(
+                patientId, userId, PatientETags.expectedVersion(patientId, ifMatch));
+        return ResponseEntity.ok()
+                .eTag(PatientETags.of(patient))
+                .body(ApiResponse.success("Patient deactivated successfully", patient));
     }
 
     @PatchMapping("/{patientId}/activate")
-    @Operation(summary = "Activate a patient record")
+    @Operation(summary = "Activate a patient record; If-Match makes it conditional (412 on mismatch)")
     public ResponseEntity<ApiResponse<PatientResponse>> activatePatient(
             @PathVariable String patientId,
+            @RequestHeader(value = "X-User-ID", defaultValue = DEFAULT_USER) String userId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+        PatientResponse patient = patientService.activatePatient(
+                patientId, userId, PatientETags.expectedVersion(patientId, ifMatch));
+        return ResponseEntity.ok()
+                .eTag(PatientETags.of(patient))
+                .body(ApiResponse.success("Patient activated successfully", patient));
+    }
+
+    @PatchMapping("/batch/deactivate")
+    @Operation(summary = "Deactivate many patients in one statement, with an outcome per ID")
+    public ResponseEntity<ApiResponse<PatientStatusChangeResponse>> deactivatePatients(
+            @NotEmpty(message = "Batch must contain at least one patient ID")
+            @Size(max = MAX_STATUS_BATCH_SIZE, message = "Batch must not exceed " + MAX_STATUS_BATCH_SIZE + " patient IDs")
+            @RequestBody List<@NotBlank(message = "Patient ID must not be blank") String> patientIds,
+            @RequestHeader(value = "X-User-ID", defaultValue = DEFAULT_USER) String userId) {
+
+        PatientStatusChangeResponse result = patientService.changePatientStatuses(patientIds, PatientStatus.INACTIVE, userId);
+        return ResponseEntity.ok(ApiResponse.success("Batch processed: " + result.getChanged() + " deactivated", result));
+    }
+
+    @PatchMapping("/batch/activate")
+    @Operation(summary = "Activate many patients in one statement, with an outcome per ID")
+    public ResponseEntity<ApiResponse<PatientStatusChangeResponse>> activatePatients(
+            @NotEmpty(message = "Batch must contain at least one patient ID")
+            @Size(max = MAX_STATUS_BATCH_SIZE, message = "Batch must not exceed " + MAX_STATUS_BATCH_SIZE + " patient IDs")
+            @RequestBody List<@NotBlank(message = "Patient ID must not be blank") String> patientIds,
             @RequestHeader(value = "X-User-ID", defaultValue = DEFAULT_USER) String userId) {
 
-        PatientResponse patient = patientService.activatePatient(patientId, userId);
-        return ResponseEntity.ok(ApiResponse.success("Patient activated successfully", patient));
+        PatientStatusChangeResponse result = patientService.changePatientStatuses(patientIds, PatientStatus.ACTIVE, userId);
+        return ResponseEntity.ok(ApiResponse.success("Batch processed: " + result.getChanged() + " activated", result));
     }
 }
@@ -0,0 +1,62 @@
+package com.ainexus.hpm.patient.controller;
+
+import com.ainexus.hpm.patient.enums.BloodGroup;
+import com.ainexus.hpm.patient.enums.ExportFormat;
+import com.ainexus.hpm.patient.enums.Gender;
+import com.ainexus.hpm.patient.enums.PatientStatusFilter;
+import com.ainexus.hpm.patient.service.PatientExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/api/v1/patients/export")
+@RequiredArgsConstructor
+@Tag(name = "Patient Export", description = "APIs for streaming full-registry extracts")
+public class PatientExportController {
+
+    private final PatientExportService patientExportService;
+
+    /**
+     * Writes to the servlet output stream on the request thread, inside the service's read-only
+     * transaction, so the database cursor stays open for exactly as long as rows are being sent.
+     * An error after the first bytes aborts the connection instead of producing an error body.
+     */
+    @GetMapping
+    @Operation(summary = "Stream every matching patient as NDJSON or CSV, without pagination")
+    public void exportPatients(
+            @Parameter(description = "Filter by status: ACTIVE, INACTIVE, ALL (omit for ALL)")
+            @RequestParam(required = false) PatientStatusFilter status,
+
+            @Parameter(description = "Filter by gender: MALE, FEMALE, OTHER (omit for ALL)")
+            @RequestParam(required = false) Gender gender,
+
+            @Parameter(description = "Filter by blood group")
+            @RequestParam(required = false) BloodGroup bloodGroup,
+
+            @Parameter(description = "Output format: NDJSON (default) or CSV")
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+
+            HttpServletResponse response) throws IOException {
+
+        response.setContentType(format.getMediaType().toString());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("patients." + format.getFileExtension())
+                .build()
+                .toString());
+
+        patientExportService.exportPatients(status, gender, bloodGroup, format, response.getOutputStream());
+    }
+}
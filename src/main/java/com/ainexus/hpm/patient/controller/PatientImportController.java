@@ -0,0 +1,81 @@
+package com.ainexus.hpm.patient.controller;
+
+import com.ainexus.hpm.patient.dto.response.ApiResponse;
+import com.ainexus.hpm.patient.dto.response.PagedResponse;
+import com.ainexus.hpm.patient.dto.response.PatientImportRejectionResponse;
+import com.ainexus.hpm.patient.dto.response.PatientImportResponse;
+import com.ainexus.hpm.patient.enums.ImportFormat;
+import com.ainexus.hpm.patient.service.PatientImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/patients/imports")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Patient Import", description = "APIs for streaming bulk patient imports")
+public class PatientImportController {
+
+    private static final String DEFAULT_USER = "SYSTEM";
+
+    private final PatientImportService patientImportService;
+
+    /**
+     * The body is read as a raw stream — it is never buffered whole, so uploads of any size
+     * run in the heap of one chunk.
+     */
+    @PostMapping(consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    @Operation(summary = "Import patients from an NDJSON or CSV upload, streamed in chunks")
+    public ResponseEntity<ApiResponse<PatientImportResponse>> importPatients(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body,
+            @RequestHeader(value = "X-User-ID", defaultValue = DEFAULT_USER) String userId) {
+
+        PatientImportResponse result =
+                patientImportService.importPatients(body, ImportFormat.fromContentType(contentType), userId);
+        return ResponseEntity.created(URI.create("/api/v1/patients/imports/" + result.getImportId()))
+                .body(ApiResponse.success("Import " + result.getStatus().name().toLowerCase() + ": "
+                        + result.getImported() + " imported, " + result.getRejected() + " rejected", result));
+    }
+
+    @GetMapping
+    @Operation(summary = "List the most recent imports")
+    public ResponseEntity<ApiResponse<List<PatientImportResponse>>> listImports() {
+        return ResponseEntity.ok(ApiResponse.success(patientImportService.listImports()));
+    }
+
+    @GetMapping("/{importId}")
+    @Operation(summary = "Get an import's status and progress counters")
+    public ResponseEntity<ApiResponse<PatientImportResponse>> getImport(@PathVariable UUID importId) {
+        return ResponseEntity.ok(ApiResponse.success(patientImportService.getImport(importId)));
+    }
+
+    @GetMapping("/{importId}/rejections")
+    @Operation(summary = "List an import's rejected records by line number")
+    public ResponseEntity<ApiResponse<PagedResponse<PatientImportRejectionResponse>>> getRejections(
+            @PathVariable UUID importId,
+
+            @Min(value = 0, message = "Page index must not be negative")
+            @RequestParam(defaultValue = "0") int page,
+
+            @Min(value = 1, message = "Page size must be at least 1")
+            @Max(value = 100, message = "Page size must not exceed 100")
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(ApiResponse.success(patientImportService.getRejections(importId, page, size)));
+    }
+}
@@ -0,0 +1,77 @@
+package com.ainexus.hpm.patient.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Keeps a user's reads on the primary for a short window after that user's last write, so a
+ * client reading back what it just saved never sees a replica that has not replayed it yet.
+ *
+ * POST routes that only read, such as the multi-get lookup, are treated like GET.
+ *
+ * Users are identified by X-User-ID, with the same SYSTEM default the controllers apply. The
+ * window is tracked per instance: behind a load balancer without session affinity it should be
+ * at least the replicas' worst expected lag plus the time a client takes to move instances.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String USER_HEADER = "X-User-ID";
+    static final String DEFAULT_USER = "SYSTEM";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+    private static final Set<String> READ_ONLY_POST_PATHS = Set.of("/api/v1/patients/lookup");
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesFilter(Duration window, long maxTrackedUsers) {
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("patient.datasource.replica.read-your-writes-window must be positive");
+        }
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maxTrackedUsers)
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String userId = userOf(request);
+        boolean write = isWrite(request);
+        try {
+            if (write || recentWriters.getIfPresent(userId) != null) {
+                try (ReadReplicaRoutingDataSource.PrimaryScope ignored = ReadReplicaRoutingDataSource.primaryOnly()) {
+                    chain.doFilter(request, response);
+                }
+            } else {
+                chain.doFilter(request, response);
+            }
+        } finally {
+            if (write) {
+                recentWriters.put(userId, Boolean.TRUE);
+            }
+        }
+    }
+
+    static boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        if (SAFE_METHODS.contains(method)) {
+            return false;
+        }
+        return !("POST".equals(method) && READ_ONLY_POST_PATHS.contains(request.getRequestURI()));
+    }
+
+    private static String userOf(HttpServletRequest request) {
+        String userId = request.getHeader(USER_HEADER);
+        return userId != null && !userId.isBlank() ? userId : DEFAULT_USER;
+    }
+}
@@ -0,0 +1,72 @@
+package com.ainexus.hpm.patient.dto.request;
+
+import com.ainexus.hpm.patient.enums.BloodGroup;
+import com.ainexus.hpm.patient.enums.Gender;
+import com.ainexus.hpm.patient.validator.ValidPhone;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+/**
+ * Partial update: absent or null fields keep their current value. Present fields are validated
+ * as in {@link PatientUpdateRequest}; clearing an optional field still goes through PUT.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(exclude = {"firstName", "lastName", "phoneNumber", "email", "dateOfBirth"})
+public class PatientPatchRequest {
+
+    @Pattern(regexp = "(?s).*\\S.*", message = "First name must not be blank")
+    @Size(max = 50, message = "First name must not exceed 50 characters")
+    private String firstName;
+
+    @Pattern(regexp = "(?s).*\\S.*", message = "Last name must not be blank")
+    @Size(max = 50, message = "Last name must not exceed 50 characters")
+    private String lastName;
+
+    @PastOrPresent(message = "Date of birth must not be in the future")
+    private LocalDate dateOfBirth;
+
+    private Gender gender;
+
+    @ValidPhone
+    private String phoneNumber;
+
+    @Email(message = "Invalid email format")
+    @Size(max = 100, message = "Email must not exceed 100 characters")
+    private String email;
+
+    @Size(max = 255, message = "Address must not exceed 255 characters")
+    private String address;
+
+    @Size(max = 100, message = "City must not exceed 100 characters")
+    private String city;
+
+    @Size(max = 100, message = "State must not exceed 100 characters")
+    private String state;
+
+    @Size(max = 20, message = "Zip code must not exceed 20 characters")
+    private String zipCode;
+
+    @Size(max = 100, message = "Emergency contact name must not exceed 100 characters")
+    private String emergencyContactName;
+
+    @Size(max = 20, message = "Emergency contact phone must not exceed 20 characters")
+    private String emergencyContactPhone;
+
+    @Size(max = 50, message = "Emergency contact relationship must not exceed 50 characters")
+    private String emergencyContactRelationship;
+
+    private BloodGroup bloodGroup;
+
+    private String knownAllergies;
+
+    private String chronicConditions;
+}
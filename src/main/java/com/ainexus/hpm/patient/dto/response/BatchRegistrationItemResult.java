@@ -0,0 +1,27 @@
+package com.ainexus.hpm.patient.dto.response;
+
+import com.ainexus.hpm.patient.enums.BatchItemStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchRegistrationItemResult {
+
+    // Position of the entry in the request array
+    private int index;
+    private BatchItemStatus status;
+    private String patientId;
+    private Boolean duplicatePhoneWarning;
+
+    // Field → message, as in a single registration's validation response
+    private Map<String, String> errors;
+}
@@ -0,0 +1,22 @@
+package com.ainexus.hpm.patient.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRegistrationResponse {
+
+    private int received;
+    private int created;
+    private int rejected;
+
+    // One result per request entry, in request order
+    private List<BatchRegistrationItemResult> results;
+}
@@ -1,5 +1,7 @@
 package com.ainexus.hpm.patient.dto.response;
 
+import com.ainexus.hpm.patient.enums.CountMode;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -11,13 +13,22 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PagedResponse<T> {
 
     private List<T> content;
-    private int page;
+
+    // Offset mode only — null (omitted) for keyset pages, which skip the COUNT query
+    private Integer page;
     private int size;
-    private long totalElements;
-    private int totalPages;
+    // Null (omitted) when countMode is SKIP; approximate when it is ESTIMATE or CACHED
+    private Long totalElements;
+    private Integer totalPages;
+    private CountMode countMode;
+
     private boolean first;
     private boolean last;
+
+    // Keyset mode only — pass back as ?cursor= to fetch the next page; null on the last page
+    private String nextCursor;
 }
@@ -0,0 +1,27 @@
+package com.ainexus.hpm.patient.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PatientChangesResponse {
+
+    // Full current profiles in (updatedAt, patientId) order; deactivations appear with status INACTIVE
+    private List<PatientResponse> changes;
+
+    // Position after the last change returned — store it and pass it back as ?cursor= on the
+    // next poll. Echoes the request cursor when there are no new changes (omitted if none was sent).
+    private String nextCursor;
+
+    // True when more changes are already available — poll again immediately
+    private boolean hasMore;
+}
@@ -0,0 +1,20 @@
+package com.ainexus.hpm.patient.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatientImportRejectionResponse {
+
+    private long lineNumber;
+
+    // Field → message; the rejected values themselves are never stored
+    private Map<String, String> errors;
+}
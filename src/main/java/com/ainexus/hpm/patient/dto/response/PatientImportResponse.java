@@ -0,0 +1,31 @@
+package com.ainexus.hpm.patient.dto.response;
+
+import com.ainexus.hpm.patient.enums.ImportFormat;
+import com.ainexus.hpm.patient.enums.ImportStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PatientImportResponse {
+
+    private UUID importId;
+    private ImportFormat format;
+    private ImportStatus status;
+    private long recordsRead;
+    private long imported;
+    private long rejected;
+    private String errorMessage;
+    private String createdBy;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,21 @@
+package com.ainexus.hpm.patient.dto.response;
+
+import com.ainexus.hpm.patient.enums.LookupStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PatientLookupItem<T> {
+
+    private LookupStatus status;
+
+    // PatientResponse or PatientSummaryResponse, depending on the requested projection; absent when NOT_FOUND
+    private T patient;
+}
@@ -0,0 +1,51 @@
+package com.ainexus.hpm.patient.dto.response;
+
+import com.ainexus.hpm.patient.enums.LookupStatus;
+import com.ainexus.hpm.patient.enums.PatientProjection;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatientLookupResponse<T> {
+
+    private PatientProjection projection;
+
+    // Distinct IDs requested
+    private int requested;
+    private int found;
+    private int notFound;
+
+    // One entry per distinct requested ID, in request order
+    private Map<String, PatientLookupItem<T>> results;
+
+    /**
+     * Builds the response for {@code patientIds}, marking every ID missing from {@code found} as NOT_FOUND.
+     */
+    public static <T> PatientLookupResponse<T> of(
+            PatientProjection projection, Collection<String> patientIds, Map<String, T> found) {
+        Map<String, PatientLookupItem<T>> results = new LinkedHashMap<>();
+        for (String patientId : patientIds) {
+            T patient = found.get(patientId);
+            results.put(patientId, PatientLookupItem.<T>builder()
+                    .status(patient != null ? LookupStatus.FOUND : LookupStatus.NOT_FOUND)
+                    .patient(patient)
+                    .build());
+        }
+        return PatientLookupResponse.<T>builder()
+                .projection(projection)
+                .requested(results.size())
+                .found(found.size())
+                .notFound(results.size() - found.size())
+                .results(results)
+                .build();
+    }
+}
@@ -14,7 +14,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -57,6 +57,9 @@ public class PatientResponse {
     private LocalDateTime activatedAt;
     private String activatedBy;
 
+    // @Version of the row this profile was read from; also the basis of the ETag
+    private Integer version;
+
     // Warning flag for duplicate phone
     private Boolean duplicatePhoneWarning;
 }
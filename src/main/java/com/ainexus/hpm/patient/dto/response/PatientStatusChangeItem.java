@@ -0,0 +1,21 @@
+package com.ainexus.hpm.patient.dto.response;
+
+import com.ainexus.hpm.patient.enums.StatusChangeOutcome;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PatientStatusChangeItem {
+
+    private StatusChangeOutcome outcome;
+
+    // New @Version (the ETag's version) when CHANGED
+    private Integer version;
+}
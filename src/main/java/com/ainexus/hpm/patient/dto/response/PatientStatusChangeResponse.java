@@ -0,0 +1,63 @@
+package com.ainexus.hpm.patient.dto.response;
+
+import com.ainexus.hpm.patient.enums.PatientStatus;
+import com.ainexus.hpm.patient.enums.StatusChangeOutcome;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatientStatusChangeResponse {
+
+    // Target status of the change
+    private PatientStatus status;
+
+    // Distinct IDs requested
+    private int requested;
+    private int changed;
+    private int alreadyInStatus;
+    private int notFound;
+
+    // One entry per distinct requested ID, in request order
+    private Map<String, PatientStatusChangeItem> results;
+
+    /**
+     * Builds the response for {@code patientIds}: IDs in {@code changedVersions} are CHANGED, other
+     * IDs in {@code existing} were ALREADY_IN_STATUS, and the rest are NOT_FOUND.
+     */
+    public static PatientStatusChangeResponse of(PatientStatus status, Collection<String> patientIds,
+                                                 Map<String, Integer> changedVersions, Set<String> existing) {
+        Map<String, PatientStatusChangeItem> results = new LinkedHashMap<>();
+        int alreadyInStatus = 0;
+        for (String patientId : patientIds) {
+            Integer version = changedVersions.get(patientId);
+            StatusChangeOutcome outcome;
+            if (version != null) {
+                outcome = StatusChangeOutcome.CHANGED;
+            } else if (existing.contains(patientId)) {
+                outcome = StatusChangeOutcome.ALREADY_IN_STATUS;
+                alreadyInStatus++;
+            } else {
+                outcome = StatusChangeOutcome.NOT_FOUND;
+            }
+            results.put(patientId, PatientStatusChangeItem.builder().outcome(outcome).version(version).build());
+        }
+        return PatientStatusChangeResponse.builder()
+                .status(status)
+                .requested(results.size())
+                .changed(changedVersions.size())
+                .alreadyInStatus(alreadyInStatus)
+                .notFound(results.size() - changedVersions.size() - alreadyInStatus)
+                .results(results)
+                .build();
+    }
+}
@@ -5,27 +5,30 @@ import com.ainexus.hpm.patient.enums.Gender;
 import com.ainexus.hpm.patient.enums.PatientStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
+// UPDATEs list only the dirty columns, so a phone edit does not rewrite the TEXT medical columns
 @Entity
+@DynamicUpdate
 @Table(name = "patients")
 @Getter
 @Setter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@ToString(exclude = {"firstName", "lastName", "phoneNumber", "email", "dateOfBirth",
+@ToString(exclude = {"firstName", "lastName", "phoneNumber", "phoneNormalized", "email", "dateOfBirth",
         "address", "city", "state", "zipCode",
         "emergencyContactName", "emergencyContactPhone",
-        "knownAllergies", "chronicConditions"})
+        "knownAllergies", "chronicConditions", "searchText"})
 public class Patient {
 
-    // patient_id is the actual PK in the DB (VARCHAR 12, e.g. P2026001)
+    // patient_id is the actual PK in the DB (VARCHAR 20 COLLATE "C", e.g. P2026001, P2026A1000)
     @Id
-    @Column(name = "patient_id", length = 12)
+    @Column(name = "patient_id", length = 20)
     private String patientId;
 
     // id is a secondary auto-generated BIGINT column — DB default (sequence) handles it
@@ -50,6 +53,10 @@ public class Patient {
     @Column(name = "phone", nullable = false, length = 20)
     private String phoneNumber;
 
+    // E.164 form of phoneNumber (PhoneNumbers.normalize) — the same for every accepted format
+    @Column(name = "phone_normalized", length = 16)
+    private String phoneNormalized;
+
     @Column(name = "email", length = 100)
     private String email;
 
@@ -119,6 +126,11 @@ public class Patient {
     @Column(name = "activated_by", length = 100)
     private String activatedBy;
 
+    // DB-generated lower-cased concatenation of the searchable columns (pg_trgm GIN indexed).
+    // Read-only here — only referenced by TrigramPatientSearchStrategy predicates.
+    @Column(name = "search_text", insertable = false, updatable = false)
+    private String searchText;
+
     // Optimistic locking — DB has version INTEGER NOT NULL DEFAULT 0
     @Version
     @Column(name = "version", nullable = false)
@@ -135,7 +147,7 @@ public class Patient {
         if (bloodGroup == null) bloodGroup = BloodGroup.UNKNOWN;
     }
 
-    // @PreUpdate intentionally removed — all write paths (updatePatient, deactivatePatient,
+    // @PreUpdate intentionally removed — all write paths (updatePatient, patchPatient, deactivatePatient,
     // activatePatient) set updatedAt and updatedBy explicitly, ensuring FR14 audit completeness.
 
     /**
@@ -0,0 +1,33 @@
+package com.ainexus.hpm.patient.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Per-year patient ID counter row.
+ * Only ever advanced through the native block-reservation queries in
+ * {@link com.ainexus.hpm.patient.repository.PatientIdCounterRepository};
+ * mapped as an entity so Spring Data can own the repository.
+ */
+@Entity
+@Table(name = "patient_id_counters")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatientIdCounter {
+
+    @Id
+    @Column(name = "counter_year")
+    private Integer counterYear;
+
+    // First counter value not yet reserved by any instance
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+}
@@ -0,0 +1,67 @@
+package com.ainexus.hpm.patient.entity;
+
+import com.ainexus.hpm.patient.enums.ImportFormat;
+import com.ainexus.hpm.patient.enums.ImportStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One bulk import run. Counters are advanced in the same transaction as each COPY chunk
+ * (see {@link com.ainexus.hpm.patient.repository.PatientImportRepository#recordProgress}),
+ * so they always match what has been committed to patients.
+ */
+@Entity
+@Table(name = "patient_imports")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatientImport {
+
+    @Id
+    @Column(name = "import_id")
+    private UUID importId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "format", nullable = false, length = 10)
+    private ImportFormat format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 10)
+    private ImportStatus status;
+
+    @Column(name = "records_read", nullable = false)
+    private long recordsRead;
+
+    @Column(name = "imported", nullable = false)
+    private long imported;
+
+    @Column(name = "rejected", nullable = false)
+    private long rejected;
+
+    // Never contains record values (PHI) — only where and why the import stopped
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Column(name = "created_by", nullable = false, length = 100)
+    private String createdBy;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
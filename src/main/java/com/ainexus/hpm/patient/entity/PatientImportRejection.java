@@ -0,0 +1,54 @@
+package com.ainexus.hpm.patient.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A record an import did not load, identified by its line in the upload.
+ * Only field names and constraint messages are stored, never the rejected values.
+ */
+@Entity
+@Table(name = "patient_import_rejections")
+@IdClass(PatientImportRejection.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatientImportRejection {
+
+    @Id
+    @Column(name = "import_id")
+    private UUID importId;
+
+    @Id
+    @Column(name = "line_number")
+    private Long lineNumber;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "errors", nullable = false)
+    private Map<String, String> errors;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private UUID importId;
+        private Long lineNumber;
+    }
+}
@@ -0,0 +1,10 @@
+package com.ainexus.hpm.patient.enums;
+
+/**
+ * Outcome of one entry in a bulk registration. REJECTED entries failed validation and were
+ * not inserted; the rest of the batch is unaffected.
+ */
+public enum BatchItemStatus {
+    CREATED,
+    REJECTED
+}
@@ -0,0 +1,14 @@
+package com.ainexus.hpm.patient.enums;
+
+/**
+ * How the offset-mode patient list computes totalElements / totalPages.
+ * EXACT runs COUNT(*); SKIP fetches size + 1 rows and reports only whether a next page exists;
+ * ESTIMATE reads the planner row estimate (unfiltered lists only); CACHED reuses a recent
+ * COUNT(*) for the same filters.
+ */
+public enum CountMode {
+    EXACT,
+    SKIP,
+    ESTIMATE,
+    CACHED
+}
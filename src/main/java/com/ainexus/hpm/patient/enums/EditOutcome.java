@@ -0,0 +1,11 @@
+package com.ainexus.hpm.patient.enums;
+
+/**
+ * What a profile edit changed. PHONE_CHANGED means phone_normalized took a new value, which is
+ * the only case that needs a duplicate-phone check.
+ */
+public enum EditOutcome {
+    UNCHANGED,
+    CHANGED,
+    PHONE_CHANGED
+}
@@ -0,0 +1,28 @@
+package com.ainexus.hpm.patient.enums;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Output formats of the registry export. NDJSON writes one PatientResponse JSON object per
+ * line; CSV writes a header row followed by one row per patient with the same fields.
+ */
+public enum ExportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("text", "csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String fileExtension;
+
+    ExportFormat(MediaType mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+}
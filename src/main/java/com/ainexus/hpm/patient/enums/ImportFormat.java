@@ -0,0 +1,41 @@
+package com.ainexus.hpm.patient.enums;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+/**
+ * Upload formats accepted by the bulk patient import. NDJSON carries one
+ * PatientRegistrationRequest JSON object per line; CSV has a header row naming
+ * PatientRegistrationRequest fields.
+ */
+public enum ImportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON),
+    CSV(new MediaType("text", "csv"));
+
+    private final MediaType mediaType;
+
+    ImportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * @throws IllegalArgumentException for any other content type
+     */
+    public static ImportFormat fromContentType(String contentType) {
+        try {
+            MediaType requested = MediaType.parseMediaType(contentType);
+            for (ImportFormat format : values()) {
+                if (format.mediaType.equalsTypeAndSubtype(requested)) {
+                    return format;
+                }
+            }
+        } catch (InvalidMediaTypeException ex) {
+            // fall through to the common message
+        }
+        throw new IllegalArgumentException("Import content type must be application/x-ndjson or text/csv");
+    }
+}
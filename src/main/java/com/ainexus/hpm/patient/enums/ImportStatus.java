@@ -0,0 +1,11 @@
+package com.ainexus.hpm.patient.enums;
+
+/**
+ * Lifecycle of a bulk patient import. Counts on a RUNNING import grow chunk by chunk;
+ * a FAILED import keeps every chunk committed before the failure.
+ */
+public enum ImportStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
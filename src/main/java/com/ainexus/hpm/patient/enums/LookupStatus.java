@@ -0,0 +1,9 @@
+package com.ainexus.hpm.patient.enums;
+
+/**
+ * Outcome of one requested ID in a multi-get lookup.
+ */
+public enum LookupStatus {
+    FOUND,
+    NOT_FOUND
+}
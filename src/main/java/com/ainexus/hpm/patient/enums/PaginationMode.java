@@ -0,0 +1,10 @@
+package com.ainexus.hpm.patient.enums;
+
+/**
+ * Pagination mode for the patient list endpoint.
+ * OFFSET returns numbered pages with totals; KEYSET returns an opaque cursor and skips the COUNT.
+ */
+public enum PaginationMode {
+    OFFSET,
+    KEYSET
+}
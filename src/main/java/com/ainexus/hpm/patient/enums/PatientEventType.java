@@ -0,0 +1,11 @@
+package com.ainexus.hpm.patient.enums;
+
+/**
+ * Patient lifecycle events written to the transactional outbox.
+ */
+public enum PatientEventType {
+    REGISTERED,
+    UPDATED,
+    ACTIVATED,
+    DEACTIVATED
+}
@@ -0,0 +1,10 @@
+package com.ainexus.hpm.patient.enums;
+
+/**
+ * Shape of each patient returned by the multi-get lookup.
+ * FULL is the PatientResponse of GET /{patientId}; SUMMARY is the PatientSummaryResponse of list pages.
+ */
+public enum PatientProjection {
+    FULL,
+    SUMMARY
+}
@@ -0,0 +1,10 @@
+package com.ainexus.hpm.patient.enums;
+
+/**
+ * Outcome of one requested ID in a bulk status change.
+ */
+public enum StatusChangeOutcome {
+    CHANGED,
+    ALREADY_IN_STATUS,
+    NOT_FOUND
+}
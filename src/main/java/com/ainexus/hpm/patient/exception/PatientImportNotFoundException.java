@@ -0,0 +1,10 @@
+package com.ainexus.hpm.patient.exception;
+
+import java.util.UUID;
+
+public class PatientImportNotFoundException extends RuntimeException {
+
+    public PatientImportNotFoundException(UUID importId) {
+        super("Patient import not found: " + importId);
+    }
+}
@@ -0,0 +1,8 @@
+package com.ainexus.hpm.patient.exception;
+
+public class PatientPreconditionFailedException extends RuntimeException {
+
+    public PatientPreconditionFailedException(String patientId) {
+        super("Patient " + patientId + " has changed since it was read. Reload it and retry.");
+    }
+}
@@ -0,0 +1,58 @@
+package com.ainexus.hpm.patient.importer;
+
+import com.ainexus.hpm.patient.dto.request.PatientRegistrationRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CSV with a header row naming PatientRegistrationRequest fields (firstName, lastName,
+ * dateOfBirth, gender, phoneNumber, …) in any order. Empty cells are null. Line numbers
+ * count the header as line 1 and assume no quoted line breaks.
+ */
+public class CsvPatientRecordReader implements PatientRecordReader {
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .addModule(new JavaTimeModule())
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private final MappingIterator<PatientRegistrationRequest> rows;
+    private long lineNumber = 1;
+
+    public CsvPatientRecordReader(InputStream input) throws IOException {
+        this.rows = CSV_MAPPER.readerFor(PatientRegistrationRequest.class)
+                .with(CsvSchema.emptySchema().withHeader())
+                .readValues(new InputStreamReader(input, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public ImportRecord next() throws IOException {
+        // hasNextValue also resynchronises to the next row after a binding failure
+        if (!rows.hasNextValue()) {
+            return null;
+        }
+        lineNumber++;
+        try {
+            return ImportRecord.parsed(lineNumber, rows.nextValue());
+        } catch (JsonProcessingException ex) {
+            return ImportRecord.unparseable(lineNumber, PatientRecordReader.describe(ex));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        rows.close();
+    }
+}
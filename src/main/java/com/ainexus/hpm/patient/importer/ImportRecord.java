@@ -0,0 +1,20 @@
+package com.ainexus.hpm.patient.importer;
+
+import com.ainexus.hpm.patient.dto.request.PatientRegistrationRequest;
+
+import java.util.Map;
+
+/**
+ * One record read from an import upload. {@code parseErrors} is non-empty when the record
+ * could not be bound to a PatientRegistrationRequest, in which case {@code request} is null.
+ */
+public record ImportRecord(long lineNumber, PatientRegistrationRequest request, Map<String, String> parseErrors) {
+
+    static ImportRecord parsed(long lineNumber, PatientRegistrationRequest request) {
+        return new ImportRecord(lineNumber, request, Map.of());
+    }
+
+    static ImportRecord unparseable(long lineNumber, Map<String, String> parseErrors) {
+        return new ImportRecord(lineNumber, null, parseErrors);
+    }
+}
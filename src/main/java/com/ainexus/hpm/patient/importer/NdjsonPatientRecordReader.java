@@ -0,0 +1,50 @@
+package com.ainexus.hpm.patient.importer;
+
+import com.ainexus.hpm.patient.dto.request.PatientRegistrationRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * One JSON object per line. Lines are parsed independently, so a malformed line is
+ * rejected on its own and reading continues with the next one. Blank lines are skipped.
+ */
+public class NdjsonPatientRecordReader implements PatientRecordReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long lineNumber;
+
+    public NdjsonPatientRecordReader(InputStream input, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ImportRecord next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        try {
+            return ImportRecord.parsed(lineNumber, objectMapper.readValue(line, PatientRegistrationRequest.class));
+        } catch (JsonProcessingException ex) {
+            return ImportRecord.unparseable(lineNumber, PatientRecordReader.describe(ex));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,133 @@
+package com.ainexus.hpm.patient.importer;
+
+import com.ainexus.hpm.patient.entity.Patient;
+import com.ainexus.hpm.patient.enums.BloodGroup;
+import com.ainexus.hpm.patient.enums.PatientStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Writes one import chunk. Patients go through COPY FROM STDIN on the current transaction's
+ * connection, one CSV row at a time straight into the COPY stream; rejections are a single
+ * JDBC batch. Must be called inside a transaction so the chunk commits or rolls back whole.
+ */
+@Component
+public class PatientImportWriter {
+
+    static final String COPY_PATIENTS = "COPY patients (patient_id, first_name, last_name, date_of_birth, gender, "
+            + "blood_group, phone, phone_normalized, email, address, city, state, zip_code, emergency_contact_name, "
+            + "emergency_contact_phone, emergency_contact_relationship, known_allergies, chronic_conditions, "
+            + "status, created_at, created_by, updated_at, updated_by) FROM STDIN WITH (FORMAT csv)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public PatientImportWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * COPYs the patients and returns the number of rows PostgreSQL reports as loaded.
+     */
+    public long copyPatients(List<Patient> patients) {
+        if (patients.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            CopyIn copy = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_PATIENTS);
+            try {
+                StringBuilder row = new StringBuilder(512);
+                for (Patient patient : patients) {
+                    row.setLength(0);
+                    appendRow(row, patient);
+                    byte[] bytes = row.toString().getBytes(StandardCharsets.UTF_8);
+                    copy.writeToCopy(bytes, 0, bytes.length);
+                }
+                return copy.endCopy();
+            } catch (SQLException ex) {
+                if (copy.isActive()) {
+                    copy.cancelCopy();
+                }
+                throw ex;
+            }
+        });
+    }
+
+    public void insertRejections(UUID importId, List<ImportRejection> rejections) {
+        if (rejections.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO patient_import_rejections (import_id, line_number, errors) VALUES (?, ?, CAST(? AS jsonb))",
+                rejections, rejections.size(), (ps, rejection) -> {
+                    ps.setObject(1, importId);
+                    ps.setLong(2, rejection.lineNumber());
+                    ps.setString(3, toJson(rejection.errors()));
+                });
+    }
+
+    /**
+     * Mirrors Patient's @PrePersist defaults, which COPY bypasses.
+     */
+    private static void appendRow(StringBuilder row, Patient p) {
+        BloodGroup bloodGroup = p.getBloodGroup() != null ? p.getBloodGroup() : BloodGroup.UNKNOWN;
+        PatientStatus status = p.getStatus() != null ? p.getStatus() : PatientStatus.ACTIVE;
+        String updatedBy = p.getUpdatedBy() != null ? p.getUpdatedBy() : p.getCreatedBy();
+        Object updatedAt = p.getUpdatedAt() != null ? p.getUpdatedAt() : p.getCreatedAt();
+
+        Object[] values = {
+                p.getPatientId(), p.getFirstName(), p.getLastName(), p.getDateOfBirth(), p.getGender(),
+                bloodGroup, p.getPhoneNumber(), p.getPhoneNormalized(), p.getEmail(), p.getAddress(),
+                p.getCity(), p.getState(), p.getZipCode(), p.getEmergencyContactName(), p.getEmergencyContactPhone(),
+                p.getEmergencyContactRelationship(), p.getKnownAllergies(), p.getChronicConditions(),
+                status, p.getCreatedAt(), p.getCreatedBy(), updatedAt, updatedBy
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                row.append(',');
+            }
+            appendField(row, values[i]);
+        }
+        row.append('\n');
+    }
+
+    // CSV format: an unquoted empty field is NULL, a quoted one is a value ("" is the empty string)
+    static void appendField(StringBuilder row, Object value) {
+        if (value == null) {
+            return;
+        }
+        String text = value instanceof Enum<?> e ? e.name() : value.toString();
+        row.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                row.append('"');
+            }
+            row.append(c);
+        }
+        row.append('"');
+    }
+
+    private String toJson(Map<String, String> errors) {
+        try {
+            return objectMapper.writeValueAsString(errors);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize import rejection", ex);
+        }
+    }
+
+    public record ImportRejection(long lineNumber, Map<String, String> errors) {
+    }
+}
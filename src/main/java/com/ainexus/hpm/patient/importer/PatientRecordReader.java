@@ -0,0 +1,34 @@
+package com.ainexus.hpm.patient.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Pull-based reader over an import upload: one record per {@link #next()} call, so only the
+ * record being parsed is held in memory and the upload is consumed no faster than it is written.
+ */
+public interface PatientRecordReader extends Closeable {
+
+    /**
+     * The next record, or null at the end of the input.
+     */
+    ImportRecord next() throws IOException;
+
+    /**
+     * Field-level description of a binding failure. Jackson's own messages quote the offending
+     * value, which may be PHI, so only the field name is kept.
+     */
+    static Map<String, String> describe(JsonProcessingException ex) {
+        if (ex instanceof JsonMappingException mapping && !mapping.getPath().isEmpty()) {
+            String field = mapping.getPath().get(mapping.getPath().size() - 1).getFieldName();
+            if (field != null) {
+                return Map.of(field, "Invalid value");
+            }
+        }
+        return Map.of("record", "Malformed record");
+    }
+}
@@ -1,16 +1,22 @@
 package com.ainexus.hpm.patient.mapper;
 
+import com.ainexus.hpm.patient.dto.request.PatientPatchRequest;
 import com.ainexus.hpm.patient.dto.request.PatientRegistrationRequest;
 import com.ainexus.hpm.patient.dto.request.PatientUpdateRequest;
 import com.ainexus.hpm.patient.dto.response.PatientResponse;
 import com.ainexus.hpm.patient.dto.response.PatientSummaryResponse;
 import com.ainexus.hpm.patient.entity.Patient;
+import com.ainexus.hpm.patient.enums.EditOutcome;
 import com.ainexus.hpm.patient.enums.PatientStatus;
+import com.ainexus.hpm.patient.repository.PatientSummaryView;
+import com.ainexus.hpm.patient.validator.PhoneNumbers;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Period;
+import java.util.Objects;
+import java.util.function.Consumer;
 
 @Component
 public class PatientMapper {
@@ -23,6 +29,7 @@ public class PatientMapper {
                 .dateOfBirth(request.getDateOfBirth())
                 .gender(request.getGender())
                 .phoneNumber(request.getPhoneNumber().trim())
+                .phoneNormalized(PhoneNumbers.normalize(request.getPhoneNumber().trim()))
                 .email(request.getEmail())
                 .address(request.getAddress())
                 .city(request.getCity())
@@ -40,28 +47,66 @@ public class PatientMapper {
                 .build();
     }
 
-    public void updateEntity(Patient patient, PatientUpdateRequest request, String updatedBy) {
-        patient.setFirstName(request.getFirstName().trim());
-        patient.setLastName(request.getLastName().trim());
-        patient.setDateOfBirth(request.getDateOfBirth());
-        patient.setGender(request.getGender());
-        patient.setPhoneNumber(request.getPhoneNumber().trim());
-        patient.setEmail(request.getEmail());
-        patient.setAddress(request.getAddress());
-        patient.setCity(request.getCity());
-        patient.setState(request.getState());
-        patient.setZipCode(request.getZipCode());
-        patient.setEmergencyContactName(request.getEmergencyContactName());
-        patient.setEmergencyContactPhone(request.getEmergencyContactPhone());
-        patient.setEmergencyContactRelationship(request.getEmergencyContactRelationship());
+    /**
+     * Applies a full update. Returns UNCHANGED, leaving the entity and its audit fields untouched,
+     * when every field already holds the requested value, so the caller can skip the write;
+     * PHONE_CHANGED when phone_normalized took a new value.
+     */
+    public EditOutcome updateEntity(Patient patient, PatientUpdateRequest request, String updatedBy) {
+        EditOutcome phone = assignPhone(patient, request.getPhoneNumber());
+        boolean changed = phone != EditOutcome.UNCHANGED;
+        changed |= assign(patient.getFirstName(), request.getFirstName().trim(), patient::setFirstName);
+        changed |= assign(patient.getLastName(), request.getLastName().trim(), patient::setLastName);
+        changed |= assign(patient.getDateOfBirth(), request.getDateOfBirth(), patient::setDateOfBirth);
+        changed |= assign(patient.getGender(), request.getGender(), patient::setGender);
+        changed |= assign(patient.getEmail(), request.getEmail(), patient::setEmail);
+        changed |= assign(patient.getAddress(), request.getAddress(), patient::setAddress);
+        changed |= assign(patient.getCity(), request.getCity(), patient::setCity);
+        changed |= assign(patient.getState(), request.getState(), patient::setState);
+        changed |= assign(patient.getZipCode(), request.getZipCode(), patient::setZipCode);
+        changed |= assign(patient.getEmergencyContactName(), request.getEmergencyContactName(), patient::setEmergencyContactName);
+        changed |= assign(patient.getEmergencyContactPhone(), request.getEmergencyContactPhone(), patient::setEmergencyContactPhone);
+        changed |= assign(patient.getEmergencyContactRelationship(), request.getEmergencyContactRelationship(),
+                patient::setEmergencyContactRelationship);
         // bloodGroup is NOT NULL in DB — preserve existing value if not supplied in update
         if (request.getBloodGroup() != null) {
-            patient.setBloodGroup(request.getBloodGroup());
+            changed |= assign(patient.getBloodGroup(), request.getBloodGroup(), patient::setBloodGroup);
         }
-        patient.setKnownAllergies(request.getKnownAllergies());
-        patient.setChronicConditions(request.getChronicConditions());
-        patient.setUpdatedAt(LocalDateTime.now());
-        patient.setUpdatedBy(updatedBy);
+        changed |= assign(patient.getKnownAllergies(), request.getKnownAllergies(), patient::setKnownAllergies);
+        changed |= assign(patient.getChronicConditions(), request.getChronicConditions(), patient::setChronicConditions);
+        return touchIfChanged(patient, changed, phone, updatedBy);
+    }
+
+    /**
+     * Applies the non-null fields of a partial update; returns UNCHANGED when none of them
+     * differs from the current value, as {@link #updateEntity} does.
+     */
+    public EditOutcome patchEntity(Patient patient, PatientPatchRequest request, String updatedBy) {
+        EditOutcome phone = request.getPhoneNumber() == null
+                ? EditOutcome.UNCHANGED
+                : assignPhone(patient, request.getPhoneNumber());
+        boolean changed = phone != EditOutcome.UNCHANGED;
+        if (request.getFirstName() != null) {
+            changed |= assign(patient.getFirstName(), request.getFirstName().trim(), patient::setFirstName);
+        }
+        if (request.getLastName() != null) {
+            changed |= assign(patient.getLastName(), request.getLastName().trim(), patient::setLastName);
+        }
+        changed |= patch(patient.getDateOfBirth(), request.getDateOfBirth(), patient::setDateOfBirth);
+        changed |= patch(patient.getGender(), request.getGender(), patient::setGender);
+        changed |= patch(patient.getEmail(), request.getEmail(), patient::setEmail);
+        changed |= patch(patient.getAddress(), request.getAddress(), patient::setAddress);
+        changed |= patch(patient.getCity(), request.getCity(), patient::setCity);
+        changed |= patch(patient.getState(), request.getState(), patient::setState);
+        changed |= patch(patient.getZipCode(), request.getZipCode(), patient::setZipCode);
+        changed |= patch(patient.getEmergencyContactName(), request.getEmergencyContactName(), patient::setEmergencyContactName);
+        changed |= patch(patient.getEmergencyContactPhone(), request.getEmergencyContactPhone(), patient::setEmergencyContactPhone);
+        changed |= patch(patient.getEmergencyContactRelationship(), request.getEmergencyContactRelationship(),
+                patient::setEmergencyContactRelationship);
+        changed |= patch(patient.getBloodGroup(), request.getBloodGroup(), patient::setBloodGroup);
+        changed |= patch(patient.getKnownAllergies(), request.getKnownAllergies(), patient::setKnownAllergies);
+        changed |= patch(patient.getChronicConditions(), request.getChronicConditions(), patient::setChronicConditions);
+        return touchIfChanged(patient, changed, phone, updatedBy);
     }
 
     public PatientResponse toResponse(Patient patient) {
@@ -93,6 +138,7 @@ public class PatientMapper {
                 .deactivatedBy(patient.getDeactivatedBy())
                 .activatedAt(patient.getActivatedAt())
                 .activatedBy(patient.getActivatedBy())
+                .version(patient.getVersion())
                 .build();
     }
 
@@ -108,6 +154,63 @@ public class PatientMapper {
                 .build();
     }
 
+    public PatientSummaryResponse toSummaryResponse(PatientSummaryView row) {
+        return PatientSummaryResponse.builder()
+                .patientId(row.patientId())
+                .firstName(row.firstName())
+                .lastName(row.lastName())
+                .age(calculateAge(row.dateOfBirth()))
+                .gender(row.gender())
+                .phoneNumber(row.phoneNumber())
+                .status(row.status())
+                .build();
+    }
+
+    public PatientSummaryResponse toSummaryResponse(PatientResponse profile) {
+        return PatientSummaryResponse.builder()
+                .patientId(profile.getPatientId())
+                .firstName(profile.getFirstName())
+                .lastName(profile.getLastName())
+                .age(profile.getAge())
+                .gender(profile.getGender())
+                .phoneNumber(profile.getPhoneNumber())
+                .status(profile.getStatus())
+                .build();
+    }
+
+    // A respelling of the same number changes only the phone column, not phone_normalized
+    private static EditOutcome assignPhone(Patient patient, String phoneNumber) {
+        String trimmed = phoneNumber.trim();
+        boolean respelled = assign(patient.getPhoneNumber(), trimmed, patient::setPhoneNumber);
+        // Also fills phone_normalized on rows the backfill has not reached yet
+        if (assign(patient.getPhoneNormalized(), PhoneNumbers.normalize(trimmed), patient::setPhoneNormalized)) {
+            return EditOutcome.PHONE_CHANGED;
+        }
+        return respelled ? EditOutcome.CHANGED : EditOutcome.UNCHANGED;
+    }
+
+    private static <T> boolean patch(T current, T value, Consumer<T> setter) {
+        return value != null && assign(current, value, setter);
+    }
+
+    private static <T> boolean assign(T current, T value, Consumer<T> setter) {
+        if (Objects.equals(current, value)) {
+            return false;
+        }
+        setter.accept(value);
+        return true;
+    }
+
+    // Audit fields move only with a real change; otherwise they alone would bump the version
+    private static EditOutcome touchIfChanged(Patient patient, boolean changed, EditOutcome phone, String updatedBy) {
+        if (!changed) {
+            return EditOutcome.UNCHANGED;
+        }
+        patient.setUpdatedAt(LocalDateTime.now());
+        patient.setUpdatedBy(updatedBy);
+        return phone == EditOutcome.PHONE_CHANGED ? EditOutcome.PHONE_CHANGED : EditOutcome.CHANGED;
+    }
+
     private int calculateAge(LocalDate dateOfBirth) {
         if (dateOfBirth == null) return 0;
         return Period.between(dateOfBirth, LocalDate.now()).getYears();
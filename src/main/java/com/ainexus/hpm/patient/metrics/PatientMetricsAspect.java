@@ -0,0 +1,136 @@
+package com.ainexus.hpm.patient.metrics;
+
+import com.ainexus.hpm.patient.enums.BloodGroup;
+import com.ainexus.hpm.patient.enums.Gender;
+import com.ainexus.hpm.patient.enums.PatientStatusFilter;
+import com.ainexus.hpm.patient.exception.PatientNotFoundException;
+import com.ainexus.hpm.patient.exception.PatientStatusConflictException;
+import com.ainexus.hpm.patient.search.PatientSearchCriteria;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolationException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Latency timers with percentile histograms around {@code PatientService},
+ * {@code PatientIdGenerator} and {@code PatientRepository}, so a slow registration can be split
+ * into ID generation, each query and the rest.
+ *
+ * Meters: patient.service and patient.repository (tags method, outcome, exception, filters) and
+ * patient.id.generator (tags method, outcome, exception). The filters tag lists which search
+ * filters were present, never their values (PHI); repository calls made inside a search carry
+ * that search's shape. Runs outside the transaction proxy so commit time is included.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class PatientMetricsAspect {
+
+    static final String SERVICE_TIMER = "patient.service";
+    static final String ID_GENERATOR_TIMER = "patient.id.generator";
+    static final String REPOSITORY_TIMER = "patient.repository";
+
+    private static final Tag NO_FILTERS = Tag.of("filters", "n/a");
+
+    // Filter shape of the search running on this thread, for the repository calls it makes
+    private static final ThreadLocal<Tag> SEARCH_FILTERS = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+
+    public PatientMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    // Every searchPatients* method takes (search, status, gender, bloodGroup, ...)
+    @Around("execution(* com.ainexus.hpm.patient.service.PatientService.searchPatients*(..))")
+    public Object timeSearch(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object[] args = joinPoint.getArgs();
+        String filterShape = PatientSearchCriteria.builder()
+                .search((String) args[0])
+                .status((PatientStatusFilter) args[1])
+                .gender((Gender) args[2])
+                .bloodGroup((BloodGroup) args[3])
+                .build()
+                .filterShape();
+        Tag filters = Tag.of("filters", filterShape);
+        Tag enclosing = SEARCH_FILTERS.get();
+        SEARCH_FILTERS.set(filters);
+        try {
+            return time(SERVICE_TIMER, joinPoint, filters);
+        } finally {
+            if (enclosing != null) {
+                SEARCH_FILTERS.set(enclosing);
+            } else {
+                SEARCH_FILTERS.remove();
+            }
+        }
+    }
+
+    @Around("execution(* com.ainexus.hpm.patient.service.PatientService.*(..)) "
+            + "&& !execution(* com.ainexus.hpm.patient.service.PatientService.searchPatients*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(SERVICE_TIMER, joinPoint, NO_FILTERS);
+    }
+
+    @Around("execution(* com.ainexus.hpm.patient.service.PatientIdGenerator.*(..))")
+    public Object timeIdGenerator(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(ID_GENERATOR_TIMER, joinPoint, null);
+    }
+
+    @Around("execution(* com.ainexus.hpm.patient.repository.PatientRepository+.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        Tag filters = SEARCH_FILTERS.get();
+        return time(REPOSITORY_TIMER, joinPoint, filters != null ? filters : NO_FILTERS);
+    }
+
+    private Object time(String name, ProceedingJoinPoint joinPoint, Tag extraTag) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Throwable failure = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            Tags tags = Tags.of(
+                    Tag.of("method", joinPoint.getSignature().getName()),
+                    Tag.of("outcome", outcome(failure)),
+                    Tag.of("exception", failure == null ? "none" : failure.getClass().getSimpleName()));
+            if (extraTag != null) {
+                tags = tags.and(extraTag);
+            }
+            sample.stop(Timer.builder(name)
+                    .tags(tags)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Outcome class mirroring the HTTP status GlobalExceptionHandler maps the failure to.
+     */
+    static String outcome(Throwable failure) {
+        if (failure == null) {
+            return "success";
+        }
+        if (failure instanceof PatientNotFoundException) {
+            return "not_found";
+        }
+        if (failure instanceof PatientStatusConflictException
+                || failure instanceof OptimisticLockingFailureException) {
+            return "conflict";
+        }
+        if (failure instanceof IllegalArgumentException || failure instanceof ConstraintViolationException) {
+            return "invalid";
+        }
+        return "error";
+    }
+}
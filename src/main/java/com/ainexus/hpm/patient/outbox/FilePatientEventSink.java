@@ -0,0 +1,53 @@
+package com.ainexus.hpm.patient.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends each event as one JSON line to patient.outbox.file.path and forces the batch to
+ * disk before returning, so a batch is only removed from the outbox once it is durable.
+ * For local development and tests; a broker-backed sink replaces it in production.
+ */
+@Component
+@ConditionalOnProperty(name = "patient.outbox.sink", havingValue = "file")
+public class FilePatientEventSink implements PatientEventSink {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    public FilePatientEventSink(@Value("${patient.outbox.file.path}") Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void deliver(List<PatientEvent> events) {
+        StringBuilder lines = new StringBuilder(events.size() * 128);
+        try {
+            for (PatientEvent event : events) {
+                lines.append(objectMapper.writeValueAsString(event)).append('\n');
+            }
+            try (FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not append patient events to " + path, ex);
+        }
+    }
+}
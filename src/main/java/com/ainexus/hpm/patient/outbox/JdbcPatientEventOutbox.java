@@ -0,0 +1,53 @@
+package com.ainexus.hpm.patient.outbox;
+
+import com.ainexus.hpm.patient.entity.Patient;
+import com.ainexus.hpm.patient.enums.PatientEventType;
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Inserts outbox rows with JDBC on the caller's transaction connection.
+ *
+ * The persistence context is flushed first so the recorded version is the one the patient row
+ * commits with — an update only increments @Version at flush. A @Repository, so an optimistic
+ * locking failure raised by that flush is translated like any other repository call.
+ */
+@Repository
+@Transactional(propagation = Propagation.MANDATORY)
+public class JdbcPatientEventOutbox implements PatientEventOutbox {
+
+    static final String INSERT_EVENT =
+            "INSERT INTO patient_outbox (event_type, patient_id, patient_version) VALUES (?, ?, ?)";
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcPatientEventOutbox(EntityManager entityManager, JdbcTemplate jdbcTemplate) {
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void record(PatientEventType type, Patient patient) {
+        recordAll(type, List.of(patient));
+    }
+
+    @Override
+    public void recordAll(PatientEventType type, Collection<Patient> patients) {
+        if (patients.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        jdbcTemplate.batchUpdate(INSERT_EVENT, patients, patients.size(), (ps, patient) -> {
+            ps.setString(1, type.name());
+            ps.setString(2, patient.getPatientId());
+            ps.setInt(3, patient.getVersion() != null ? patient.getVersion() : 0);
+        });
+    }
+}
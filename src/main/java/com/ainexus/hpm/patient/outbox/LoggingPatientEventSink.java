@@ -0,0 +1,24 @@
+package com.ainexus.hpm.patient.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Default sink until a message broker is wired in: logs each event (identifiers only).
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "patient.outbox.sink", havingValue = "log", matchIfMissing = true)
+public class LoggingPatientEventSink implements PatientEventSink {
+
+    @Override
+    public void deliver(List<PatientEvent> events) {
+        for (PatientEvent event : events) {
+            log.info("Patient event {}: type={}, patientId={}, version={}",
+                    event.eventId(), event.type(), event.patientId(), event.patientVersion());
+        }
+    }
+}
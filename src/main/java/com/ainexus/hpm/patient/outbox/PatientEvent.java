@@ -0,0 +1,22 @@
+package com.ainexus.hpm.patient.outbox;
+
+import com.ainexus.hpm.patient.enums.PatientEventType;
+
+import java.time.Instant;
+
+/**
+ * One outbox row as handed to a {@link PatientEventSink}. Carries identifiers only, no PHI;
+ * consumers read the profile itself through the API or the change feed.
+ *
+ * Delivery is at-least-once and instances drain concurrently, so events for the same patient
+ * can arrive twice or out of order. {@code patientVersion} is the row's @Version after the
+ * write: consumers keep the highest version they have applied and ignore anything older.
+ */
+public record PatientEvent(
+        long eventId,
+        PatientEventType type,
+        String patientId,
+        int patientVersion,
+        Instant occurredAt
+) {
+}
@@ -0,0 +1,18 @@
+package com.ainexus.hpm.patient.outbox;
+
+import com.ainexus.hpm.patient.entity.Patient;
+import com.ainexus.hpm.patient.enums.PatientEventType;
+
+import java.util.Collection;
+
+/**
+ * Writes lifecycle events into the patient_outbox table. Must be called inside the transaction
+ * that saves the patient, so the event commits or rolls back with the write itself;
+ * {@link PatientOutboxRelay} delivers it afterwards.
+ */
+public interface PatientEventOutbox {
+
+    void record(PatientEventType type, Patient patient);
+
+    void recordAll(PatientEventType type, Collection<Patient> patients);
+}
@@ -0,0 +1,13 @@
+package com.ainexus.hpm.patient.outbox;
+
+import java.util.List;
+
+/**
+ * Destination of relayed outbox events, selected with patient.outbox.sink. A sink either
+ * accepts the whole batch or throws; on failure the relay rolls back and the same events are
+ * offered again on a later run.
+ */
+public interface PatientEventSink {
+
+    void deliver(List<PatientEvent> events);
+}
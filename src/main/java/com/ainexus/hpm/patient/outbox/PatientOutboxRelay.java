@@ -0,0 +1,131 @@
+package com.ainexus.hpm.patient.outbox;
+
+import com.ainexus.hpm.patient.enums.PatientEventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Array;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Drains patient_outbox into the configured {@link PatientEventSink}.
+ *
+ * Each batch is claimed with FOR UPDATE SKIP LOCKED, handed to the sink and deleted in one
+ * transaction. Concurrent relays on other instances skip the rows this one holds and claim the
+ * next ones instead of waiting, so adding instances adds throughput. A sink failure rolls the
+ * transaction back and the rows are offered again on the next run (at-least-once delivery).
+ *
+ * Meters: patient.outbox.relay.lag (time from the writing transaction's start, the row's
+ * occurred_at, to delivery), patient.outbox.relay.batch.size and patient.outbox.relay.failures.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "patient.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class PatientOutboxRelay {
+
+    static final String CLAIM_BATCH = """
+            SELECT event_id, event_type, patient_id, patient_version, occurred_at
+            FROM patient_outbox
+            ORDER BY event_id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    static final String DELETE_DELIVERED = "DELETE FROM patient_outbox WHERE event_id = ANY (?)";
+
+    private static final RowMapper<PatientEvent> EVENT_ROW_MAPPER = (rs, rowNum) -> new PatientEvent(
+            rs.getLong("event_id"),
+            PatientEventType.valueOf(rs.getString("event_type")),
+            rs.getString("patient_id"),
+            rs.getInt("patient_version"),
+            rs.getObject("occurred_at", OffsetDateTime.class).toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PatientEventSink sink;
+    private final int batchSize;
+    private final Timer lagTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter failureCounter;
+
+    public PatientOutboxRelay(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            PatientEventSink sink,
+            MeterRegistry meterRegistry,
+            @Value("${patient.outbox.relay.batch-size:100}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("patient.outbox.relay.batch-size must be at least 1");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.lagTimer = Timer.builder("patient.outbox.relay.lag")
+                .description("Time from outbox write to delivery to the sink")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("patient.outbox.relay.batch.size")
+                .description("Events delivered per relay batch")
+                .baseUnit("events")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("patient.outbox.relay.failures")
+                .description("Relay batches rolled back because the sink failed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Delivers full batches back to back until the outbox is drained, then waits for the next run.
+     */
+    @Scheduled(fixedDelayString = "${patient.outbox.relay.interval:1s}")
+    public void drain() {
+        try {
+            int delivered;
+            do {
+                delivered = relayBatch();
+            } while (delivered == batchSize);
+        } catch (RuntimeException ex) {
+            failureCounter.increment();
+            log.warn("Patient outbox relay batch failed, will retry: {}", ex.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Claims, delivers and deletes one batch.
+     *
+     * @return the number of events delivered
+     */
+    public int relayBatch() {
+        Integer delivered = transactionTemplate.execute(status -> {
+            List<PatientEvent> batch = jdbcTemplate.query(CLAIM_BATCH, EVENT_ROW_MAPPER, batchSize);
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            sink.deliver(batch);
+            Long[] ids = batch.stream().map(PatientEvent::eventId).toArray(Long[]::new);
+            jdbcTemplate.update(DELETE_DELIVERED, ps -> {
+                Array array = ps.getConnection().createArrayOf("bigint", ids);
+                ps.setArray(1, array);
+            });
+
+            Instant now = Instant.now();
+            batch.forEach(event -> lagTimer.record(Duration.between(event.occurredAt(), now)));
+            batchSizeSummary.record(batch.size());
+            return batch.size();
+        });
+        return delivered != null ? delivered : 0;
+    }
+}
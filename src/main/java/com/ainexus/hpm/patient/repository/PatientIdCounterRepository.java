@@ -0,0 +1,50 @@
+package com.ainexus.hpm.patient.repository;
+
+import com.ainexus.hpm.patient.entity.PatientIdCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Block reservation against patient_id_counters.
+ *
+ * Both queries return the exclusive upper bound of the reserved block, i.e. the
+ * caller owns counters [result - blockSize, result). Each runs in its own
+ * REQUIRES_NEW transaction so the counter row lock is held only for the single
+ * UPDATE, never for the duration of the caller's registration transaction.
+ */
+@Repository
+public interface PatientIdCounterRepository extends JpaRepository<PatientIdCounter, Integer> {
+
+    /**
+     * Fast path: advances an existing counter row. Empty when the year has no row yet.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = "UPDATE patient_id_counters SET next_value = next_value + :blockSize " +
+                   "WHERE counter_year = :year RETURNING next_value",
+           nativeQuery = true)
+    Optional<Long> reserveBlock(@Param("year") int year, @Param("blockSize") int blockSize);
+
+    /**
+     * First reservation of a year: seeds the counter past any IDs already issued by the
+     * legacy MAX-based generator, then reserves the first block. ON CONFLICT covers the
+     * race where another instance created the row between our UPDATE and this INSERT.
+     * The REGEXP_REPLACE strips PatientIdCodec's length marker from extended IDs.
+     * The MAX scan runs at most once per year per cluster.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = "INSERT INTO patient_id_counters (counter_year, next_value) " +
+                   "SELECT :year, COALESCE(MAX(CAST(REGEXP_REPLACE(SUBSTRING(p.patient_id, 6), '^[A-Z]', '') AS BIGINT)), 0) " +
+                   "+ 1 + :blockSize " +
+                   "FROM patients p WHERE p.patient_id LIKE CONCAT('P', CAST(:year AS TEXT), '%') " +
+                   "ON CONFLICT (counter_year) DO UPDATE " +
+                   "SET next_value = patient_id_counters.next_value + :blockSize " +
+                   "RETURNING next_value",
+           nativeQuery = true)
+    Long initializeAndReserveBlock(@Param("year") int year, @Param("blockSize") int blockSize);
+}
@@ -0,0 +1,16 @@
+package com.ainexus.hpm.patient.repository;
+
+import com.ainexus.hpm.patient.entity.PatientImportRejection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface PatientImportRejectionRepository
+        extends JpaRepository<PatientImportRejection, PatientImportRejection.Key> {
+
+    Page<PatientImportRejection> findByImportIdOrderByLineNumber(UUID importId, Pageable pageable);
+}
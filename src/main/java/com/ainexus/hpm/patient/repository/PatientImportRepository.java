@@ -0,0 +1,39 @@
+package com.ainexus.hpm.patient.repository;
+
+import com.ainexus.hpm.patient.entity.PatientImport;
+import com.ainexus.hpm.patient.enums.ImportStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface PatientImportRepository extends JpaRepository<PatientImport, UUID> {
+
+    List<PatientImport> findTop20ByOrderByStartedAtDesc();
+
+    /**
+     * Adds one chunk's counts. Runs in the chunk's transaction, next to its COPY.
+     */
+    @Modifying
+    @Query("UPDATE PatientImport i SET i.recordsRead = i.recordsRead + :read, " +
+           "i.imported = i.imported + :imported, i.rejected = i.rejected + :rejected " +
+           "WHERE i.importId = :importId")
+    int recordProgress(@Param("importId") UUID importId,
+                       @Param("read") long read,
+                       @Param("imported") long imported,
+                       @Param("rejected") long rejected);
+
+    @Modifying
+    @Query("UPDATE PatientImport i SET i.status = :status, i.finishedAt = :finishedAt, " +
+           "i.errorMessage = :errorMessage WHERE i.importId = :importId")
+    int finish(@Param("importId") UUID importId,
+               @Param("status") ImportStatus status,
+               @Param("finishedAt") LocalDateTime finishedAt,
+               @Param("errorMessage") String errorMessage);
+}
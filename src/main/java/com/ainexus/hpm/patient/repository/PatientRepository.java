@@ -7,27 +7,69 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface PatientRepository extends JpaRepository<Patient, String>,
-        JpaSpecificationExecutor<Patient> {
+        JpaSpecificationExecutor<Patient>, PatientRepositoryCustom {
 
     // findByPatientId == findById since patientId is the @Id; kept for readability
     Optional<Patient> findByPatientId(String patientId);
 
-    // phoneNumber is the entity field name (mapped to DB column "phone")
-    boolean existsByPhoneNumber(String phoneNumber);
-
     boolean existsByPatientId(String patientId);
 
     /**
-     * Finds the maximum sequential counter used for patient IDs in a given year.
-     * Format: P{year}{3-digit-counter} e.g. P2026001 → counter = "001" (substring from pos 6).
+     * Which of the given IDs exist — tells the unknown IDs of a bulk status change apart from
+     * those already in the target status.
+     */
+    @Query("SELECT p.patientId FROM Patient p WHERE p.patientId IN :patientIds")
+    Set<String> findExistingPatientIds(@Param("patientIds") Collection<String> patientIds);
+
+    /**
+     * Current @Version alone, for conditional GETs — one primary-key probe without loading
+     * or mapping the row.
+     */
+    @Query("SELECT p.version FROM Patient p WHERE p.patientId = :patientId")
+    Optional<Integer> findVersionByPatientId(@Param("patientId") String patientId);
+
+    /**
+     * Finds the highest patient ID issued in a given year.
+     * PatientIdCodec keeps string order equal to counter order (patient_id is COLLATE "C"),
+     * so this resolves from the primary-key index without parsing every row. Legacy
+     * overflow IDs are the exception; see {@link #findMaxLegacyOverflowCounterForYear}.
+     */
+    @Query("SELECT MAX(p.patientId) FROM Patient p WHERE p.patientId LIKE CONCAT('P', :year, '%')")
+    Optional<String> findMaxPatientIdForYear(@Param("year") String year);
+
+    /**
+     * Highest counter among legacy overflow IDs for a year — P{year} followed by 4 to 12
+     * plain digits, e.g. P20261000. Under COLLATE "C" these sort below P{year}999, so
+     * {@link #findMaxPatientIdForYear} cannot see them. PatientIdCodec never issues this
+     * shape, so the result is fixed once read.
+     */
+    @Query(value = "SELECT MAX(CAST(SUBSTRING(p.patient_id, 6) AS BIGINT)) FROM patients p " +
+                   "WHERE p.patient_id LIKE CONCAT('P', :year, '%') AND p.patient_id ~ '^P[0-9]{8,16}$'",
+           nativeQuery = true)
+    Optional<Long> findMaxLegacyOverflowCounterForYear(@Param("year") String year);
+
+    // Phone lookups compare the E.164 form (column phone_normalized), so every accepted
+    // spelling of a number matches
+    boolean existsByPhoneNormalizedAndPatientIdNot(String phoneNormalized, String patientId);
+
+    /**
+     * Which of the given normalized phones already belong to a patient — one indexed lookup
+     * for a whole bulk registration instead of an exists query per entry.
      */
-    @Query("SELECT MAX(CAST(SUBSTRING(p.patientId, 6) AS integer)) FROM Patient p " +
-           "WHERE p.patientId LIKE CONCAT('P', :year, '%')")
-    Optional<Integer> findMaxCounterForYear(@Param("year") String year);
+    @Query("SELECT DISTINCT p.phoneNormalized FROM Patient p WHERE p.phoneNormalized IN :phones")
+    Set<String> findExistingNormalizedPhones(@Param("phones") Collection<String> phones);
 
-    boolean existsByPhoneNumberAndPatientIdNot(String phoneNumber, String patientId);
+    /**
+     * Planner row estimate for the whole patients table, maintained by ANALYZE/autovacuum.
+     * Negative when the table has never been analyzed.
+     */
+    @Query(value = "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = CAST('patients' AS regclass)",
+            nativeQuery = true)
+    long estimateTotalPatients();
 }
@@ -0,0 +1,90 @@
+package com.ainexus.hpm.patient.repository;
+
+import com.ainexus.hpm.patient.entity.Patient;
+import com.ainexus.hpm.patient.enums.PatientStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Query fragments Spring Data cannot derive; implemented by {@link PatientRepositoryCustomImpl}.
+ */
+public interface PatientRepositoryCustom {
+
+    /**
+     * Inserts a new patient and reports whether another patient already has the same
+     * normalized phone — one statement (INSERT in a CTE plus an EXISTS probe on
+     * idx_patients_phone_normalized) instead of a lookup followed by an insert. The row is
+     * written with JDBC on the transaction's connection; the entity is not made managed.
+     */
+    boolean insertReportingDuplicatePhone(Patient patient);
+
+    /**
+     * Runs a Specification as a {@link PatientSummaryView} projection with ORDER BY and LIMIT only.
+     * Unlike findAll(spec, pageable) it never issues a COUNT query and never uses OFFSET.
+     */
+    List<PatientSummaryView> findSummaries(Specification<Patient> spec, Sort sort, int limit);
+
+    /**
+     * Offset variant of {@link #findSummaries(Specification, Sort, int)} for numbered pages
+     * whose total is skipped, estimated or cached rather than counted.
+     */
+    List<PatientSummaryView> findSummaries(Specification<Patient> spec, Sort sort, long offset, int limit);
+
+    /**
+     * Projection counterpart of findAll(spec, pageable): one page of summaries plus an exact
+     * COUNT, which is skipped when the page itself shows the total (first page not full).
+     */
+    Page<PatientSummaryView> findSummaryPage(Specification<Patient> spec, Pageable pageable);
+
+    /**
+     * Full entities for a Specification with ORDER BY and LIMIT only — no COUNT, no OFFSET.
+     */
+    List<Patient> findPatients(Specification<Patient> spec, Sort sort, int limit);
+
+    /**
+     * Full entities for the given IDs in one {@code patient_id = ANY(?)} query, in no particular
+     * order; IDs without a row are simply absent. Entities are loaded read-only.
+     */
+    List<Patient> findAllByPatientIds(Collection<String> patientIds);
+
+    /**
+     * Summary rows for the given IDs in one {@code patient_id = ANY(?)} query, in no particular
+     * order; IDs without a row are simply absent.
+     */
+    List<PatientSummaryView> findSummariesByPatientIds(Collection<String> patientIds);
+
+    /**
+     * Moves one patient from status {@code from} to {@code to} in a single
+     * {@code UPDATE ... WHERE patient_id = ? AND status = ? RETURNING *}: bumps @Version and stamps
+     * updated_* and the activated_* or deactivated_* audit columns. A non-null
+     * {@code expectedVersion} is added to the WHERE clause. Empty when no row matched — unknown
+     * ID, not in {@code from}, or not at {@code expectedVersion}; the caller tells these apart.
+     * The returned entity is read-only.
+     */
+    Optional<Patient> transitionStatus(String patientId, PatientStatus from, PatientStatus to,
+                                       Integer expectedVersion, String userId, LocalDateTime at);
+
+    /**
+     * Bulk {@link #transitionStatus}: one {@code patient_id = ANY(?)} UPDATE for all IDs, returning
+     * the rows that changed. IDs that are unknown or not in {@code from} are simply absent.
+     */
+    List<Patient> transitionStatuses(Collection<String> patientIds, PatientStatus from, PatientStatus to,
+                                     String userId, LocalDateTime at);
+
+    /**
+     * Every patient matching the Specification, read through a forward-only JDBC cursor
+     * {@code fetchSize} rows at a time. Entities are read-only and detached as they are
+     * consumed, so memory stays flat however many rows the stream yields. Must be consumed
+     * and closed inside a transaction — PostgreSQL only honours the fetch size with
+     * autocommit off.
+     */
+    Stream<Patient> streamAll(Specification<Patient> spec, Sort sort, int fetchSize);
+}
@@ -0,0 +1,242 @@
+package com.ainexus.hpm.patient.repository;
+
+import com.ainexus.hpm.patient.entity.Patient;
+import com.ainexus.hpm.patient.enums.BloodGroup;
+import com.ainexus.hpm.patient.enums.Gender;
+import com.ainexus.hpm.patient.enums.PatientStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public class PatientRepositoryCustomImpl implements PatientRepositoryCustom {
+
+    // The outer SELECT runs on the statement's snapshot, so it never sees the row being inserted
+    static final String INSERT_REPORTING_DUPLICATE_PHONE = """
+            WITH inserted AS (
+                INSERT INTO patients (patient_id, first_name, last_name, date_of_birth, gender, blood_group,
+                                      phone, phone_normalized, email, address, city, state, zip_code,
+                                      emergency_contact_name, emergency_contact_phone,
+                                      emergency_contact_relationship, known_allergies, chronic_conditions,
+                                      status, created_at, created_by, updated_at, updated_by)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                RETURNING phone_normalized
+            )
+            SELECT EXISTS (
+                SELECT 1 FROM patients p JOIN inserted i ON p.phone_normalized = i.phone_normalized
+            )
+            """;
+
+    // One array parameter, so every lookup size shares a single prepared statement and plan
+    static final String FIND_BY_PATIENT_IDS = "SELECT p.* FROM patients p WHERE p.patient_id = ANY (CAST(:ids AS varchar[]))";
+
+    static final String FIND_SUMMARIES_BY_PATIENT_IDS = """
+            SELECT patient_id, first_name, last_name, date_of_birth, gender, phone, status, created_at
+            FROM patients
+            WHERE patient_id = ANY (?)
+            """;
+
+    // %1$s is the transition's audit column prefix (activated / deactivated), %2$s the optional version guard
+    static final String TRANSITION_STATUS = """
+            UPDATE patients
+            SET status = :to, version = version + 1, updated_at = :at, updated_by = :userId,
+                %1$s_at = :at, %1$s_by = :userId
+            WHERE patient_id = ANY (CAST(:ids AS varchar[])) AND status = :from%2$s
+            RETURNING *
+            """;
+
+    private static final RowMapper<PatientSummaryView> SUMMARY_ROW_MAPPER = (rs, rowNum) -> new PatientSummaryView(
+            rs.getString("patient_id"),
+            rs.getString("first_name"),
+            rs.getString("last_name"),
+            rs.getObject("date_of_birth", LocalDate.class),
+            Gender.valueOf(rs.getString("gender")),
+            rs.getString("phone"),
+            PatientStatus.valueOf(rs.getString("status")),
+            rs.getObject("created_at", LocalDateTime.class));
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PatientRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean insertReportingDuplicatePhone(Patient patient) {
+        // Mirrors Patient's @PrePersist defaults, which a JDBC insert bypasses
+        LocalDateTime now = LocalDateTime.now();
+        if (patient.getCreatedAt() == null) patient.setCreatedAt(now);
+        if (patient.getUpdatedAt() == null) patient.setUpdatedAt(patient.getCreatedAt());
+        if (patient.getUpdatedBy() == null) patient.setUpdatedBy(patient.getCreatedBy());
+        if (patient.getStatus() == null) patient.setStatus(PatientStatus.ACTIVE);
+        if (patient.getBloodGroup() == null) patient.setBloodGroup(BloodGroup.UNKNOWN);
+
+        Boolean duplicatePhone = jdbcTemplate.queryForObject(INSERT_REPORTING_DUPLICATE_PHONE, Boolean.class,
+                patient.getPatientId(), patient.getFirstName(), patient.getLastName(), patient.getDateOfBirth(),
+                patient.getGender().name(), patient.getBloodGroup().name(),
+                patient.getPhoneNumber(), patient.getPhoneNormalized(), patient.getEmail(), patient.getAddress(),
+                patient.getCity(), patient.getState(), patient.getZipCode(),
+                patient.getEmergencyContactName(), patient.getEmergencyContactPhone(),
+                patient.getEmergencyContactRelationship(), patient.getKnownAllergies(),
+                patient.getChronicConditions(), patient.getStatus().name(),
+                patient.getCreatedAt(), patient.getCreatedBy(), patient.getUpdatedAt(), patient.getUpdatedBy());
+        // DB default for the @Version column
+        patient.setVersion(0);
+        return Boolean.TRUE.equals(duplicatePhone);
+    }
+
+    @Override
+    public List<PatientSummaryView> findSummaries(Specification<Patient> spec, Sort sort, int limit) {
+        return findSummaries(spec, sort, 0, limit);
+    }
+
+    @Override
+    public List<PatientSummaryView> findSummaries(Specification<Patient> spec, Sort sort, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PatientSummaryView> query = cb.createQuery(PatientSummaryView.class);
+        Root<Patient> root = query.from(Patient.class);
+
+        query.select(cb.construct(PatientSummaryView.class,
+                root.get("patientId"),
+                root.get("firstName"),
+                root.get("lastName"),
+                root.get("dateOfBirth"),
+                root.get("gender"),
+                root.get("phoneNumber"),
+                root.get("status"),
+                root.get("createdAt")));
+        applyPredicate(spec, root, query, cb);
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Page<PatientSummaryView> findSummaryPage(Specification<Patient> spec, Pageable pageable) {
+        List<PatientSummaryView> content =
+                findSummaries(spec, pageable.getSort(), pageable.getOffset(), pageable.getPageSize());
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<Patient> findPatients(Specification<Patient> spec, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Patient> query = cb.createQuery(Patient.class);
+        Root<Patient> root = query.from(Patient.class);
+
+        applyPredicate(spec, root, query, cb);
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Patient> findAllByPatientIds(Collection<String> patientIds) {
+        return entityManager.createNativeQuery(FIND_BY_PATIENT_IDS, Patient.class)
+                .setParameter("ids", patientIds.toArray(String[]::new))
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList();
+    }
+
+    @Override
+    public List<PatientSummaryView> findSummariesByPatientIds(Collection<String> patientIds) {
+        String[] ids = patientIds.toArray(String[]::new);
+        return jdbcTemplate.query(FIND_SUMMARIES_BY_PATIENT_IDS,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("varchar", ids)),
+                SUMMARY_ROW_MAPPER);
+    }
+
+    @Override
+    public Optional<Patient> transitionStatus(String patientId, PatientStatus from, PatientStatus to,
+                                              Integer expectedVersion, String userId, LocalDateTime at) {
+        return transition(List.of(patientId), from, to, expectedVersion, userId, at).stream().findFirst();
+    }
+
+    @Override
+    public List<Patient> transitionStatuses(Collection<String> patientIds, PatientStatus from, PatientStatus to,
+                                            String userId, LocalDateTime at) {
+        return transition(patientIds, from, to, null, userId, at);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Patient> transition(Collection<String> patientIds, PatientStatus from, PatientStatus to,
+                                     Integer expectedVersion, String userId, LocalDateTime at) {
+        String auditPrefix = to == PatientStatus.ACTIVE ? "activated" : "deactivated";
+        String versionGuard = expectedVersion != null ? " AND version = :expectedVersion" : "";
+        Query query = entityManager.createNativeQuery(TRANSITION_STATUS.formatted(auditPrefix, versionGuard), Patient.class)
+                .setParameter("ids", patientIds.toArray(String[]::new))
+                .setParameter("from", from.name())
+                .setParameter("to", to.name())
+                .setParameter("userId", userId)
+                .setParameter("at", at)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        if (expectedVersion != null) {
+            query.setParameter("expectedVersion", expectedVersion);
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public Stream<Patient> streamAll(Specification<Patient> spec, Sort sort, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Patient> query = cb.createQuery(Patient.class);
+        Root<Patient> root = query.from(Patient.class);
+
+        applyPredicate(spec, root, query, cb);
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                // Without this the persistence context would keep every row read so far
+                .peek(entityManager::detach);
+    }
+
+    private long count(Specification<Patient> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Patient> root = query.from(Patient.class);
+
+        query.select(cb.count(root));
+        applyPredicate(spec, root, query, cb);
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static void applyPredicate(Specification<Patient> spec, Root<Patient> root,
+                                       CriteriaQuery<?> query, CriteriaBuilder cb) {
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
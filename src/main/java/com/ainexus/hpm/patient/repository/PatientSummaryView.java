@@ -0,0 +1,24 @@
+package com.ainexus.hpm.patient.repository;
+
+import com.ainexus.hpm.patient.enums.Gender;
+import com.ainexus.hpm.patient.enums.PatientStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only row for patient lists: the PatientSummaryResponse columns plus createdAt
+ * for keyset cursors. Selected with a constructor expression, so rows are never managed
+ * entities and the TEXT medical columns and audit columns are never read.
+ */
+public record PatientSummaryView(
+        String patientId,
+        String firstName,
+        String lastName,
+        LocalDate dateOfBirth,
+        Gender gender,
+        String phoneNumber,
+        PatientStatus status,
+        LocalDateTime createdAt
+) {
+}
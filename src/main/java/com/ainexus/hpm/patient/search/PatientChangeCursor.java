@@ -0,0 +1,42 @@
+package com.ainexus.hpm.patient.search;
+
+import com.ainexus.hpm.patient.entity.Patient;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Change-feed position in the (updatedAt ASC, patientId ASC) ordering — the last change a
+ * consumer has applied. Serialized like {@link PatientCursor}; clients must pass it back unchanged.
+ */
+public record PatientChangeCursor(LocalDateTime updatedAt, String patientId) {
+
+    private static final char SEPARATOR = '|';
+
+    public static PatientChangeCursor of(Patient patient) {
+        return new PatientChangeCursor(patient.getUpdatedAt(), patient.getPatientId());
+    }
+
+    public String encode() {
+        String raw = updatedAt + String.valueOf(SEPARATOR) + patientId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the token was not produced by {@link #encode()}
+     */
+    public static PatientChangeCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(SEPARATOR);
+            if (sep <= 0 || sep == raw.length() - 1) {
+                throw new IllegalArgumentException("Invalid change cursor");
+            }
+            return new PatientChangeCursor(LocalDateTime.parse(raw.substring(0, sep)), raw.substring(sep + 1));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid change cursor");
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.ainexus.hpm.patient.search;
+
+import com.ainexus.hpm.patient.repository.PatientSummaryView;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in the (createdAt DESC, patientId DESC) ordering.
+ * Serialized as an opaque URL-safe token; clients must pass it back unchanged.
+ */
+public record PatientCursor(LocalDateTime createdAt, String patientId) {
+
+    private static final char SEPARATOR = '|';
+
+    public static PatientCursor of(PatientSummaryView row) {
+        return new PatientCursor(row.createdAt(), row.patientId());
+    }
+
+    public String encode() {
+        String raw = createdAt + String.valueOf(SEPARATOR) + patientId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the token was not produced by {@link #encode()}
+     */
+    public static PatientCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(SEPARATOR);
+            if (sep <= 0 || sep == raw.length() - 1) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new PatientCursor(LocalDateTime.parse(raw.substring(0, sep)), raw.substring(sep + 1));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
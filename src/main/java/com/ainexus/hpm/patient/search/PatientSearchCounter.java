@@ -0,0 +1,99 @@
+package com.ainexus.hpm.patient.search;
+
+import com.ainexus.hpm.patient.entity.Patient;
+import com.ainexus.hpm.patient.enums.CountMode;
+import com.ainexus.hpm.patient.repository.PatientRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Supplies the total for offset-mode patient lists according to a {@link CountMode}.
+ *
+ * The default mode comes from patient.search.count-mode and can be overridden per request.
+ * CACHED keeps COUNT(*) results in memory for patient.search.count-cache-ttl, keyed by the
+ * full filter tuple; the key contains the free-text term (PHI) and is never logged.
+ */
+@Component
+public class PatientSearchCounter {
+
+    static final int MAX_CACHED_COUNTS = 10_000;
+
+    private final PatientRepository patientRepository;
+    private final CountMode defaultMode;
+    private final Duration cacheTtl;
+    private final Clock clock;
+
+    private final Map<PatientSearchCriteria, CachedCount> cache = new ConcurrentHashMap<>();
+
+    @Autowired
+    public PatientSearchCounter(
+            PatientRepository patientRepository,
+            @Value("${patient.search.count-mode:exact}") CountMode defaultMode,
+            @Value("${patient.search.count-cache-ttl:30s}") Duration cacheTtl) {
+        this(patientRepository, defaultMode, cacheTtl, Clock.systemUTC());
+    }
+
+    PatientSearchCounter(PatientRepository patientRepository, CountMode defaultMode, Duration cacheTtl, Clock clock) {
+        if (cacheTtl.isNegative() || cacheTtl.isZero()) {
+            throw new IllegalArgumentException("patient.search.count-cache-ttl must be positive");
+        }
+        this.patientRepository = patientRepository;
+        this.defaultMode = defaultMode;
+        this.cacheTtl = cacheTtl;
+        this.clock = clock;
+    }
+
+    /**
+     * Mode actually used for a request: the requested one (or the configured default),
+     * downgraded to EXACT when ESTIMATE is asked for a filtered list — the table-wide
+     * planner estimate says nothing about how many rows match a predicate.
+     */
+    public CountMode resolveMode(CountMode requested, PatientSearchCriteria criteria) {
+        CountMode mode = requested != null ? requested : defaultMode;
+        if (mode == CountMode.ESTIMATE && !criteria.isUnfiltered()) {
+            return CountMode.EXACT;
+        }
+        return mode;
+    }
+
+    /**
+     * Planner estimate of the table size; empty when the table has not been analyzed yet.
+     */
+    public OptionalLong estimatedTotal() {
+        long estimate = patientRepository.estimateTotalPatients();
+        return estimate < 0 ? OptionalLong.empty() : OptionalLong.of(estimate);
+    }
+
+    /**
+     * COUNT(*) for the filters, reused for cacheTtl after it was first computed.
+     */
+    public long cachedTotal(PatientSearchCriteria criteria, Specification<Patient> spec) {
+        Instant now = clock.instant();
+        CachedCount cached = cache.get(criteria);
+        if (cached != null && now.isBefore(cached.expiresAt())) {
+            return cached.count();
+        }
+
+        long count = patientRepository.count(spec);
+        if (cache.size() >= MAX_CACHED_COUNTS) {
+            cache.values().removeIf(entry -> !now.isBefore(entry.expiresAt()));
+            if (cache.size() >= MAX_CACHED_COUNTS) {
+                cache.clear();
+            }
+        }
+        cache.put(criteria, new CachedCount(count, now.plus(cacheTtl)));
+        return count;
+    }
+
+    private record CachedCount(long count, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.ainexus.hpm.patient.search;
+
+import com.ainexus.hpm.patient.enums.BloodGroup;
+import com.ainexus.hpm.patient.enums.Gender;
+import com.ainexus.hpm.patient.enums.PatientStatusFilter;
+import lombok.Builder;
+import lombok.ToString;
+import lombok.Value;
+
+import java.util.StringJoiner;
+
+/**
+ * Filter tuple of a patient list/search request. Immutable so it can be passed
+ * between search components without defensive copies.
+ */
+@Value
+@Builder
+@ToString(exclude = "search")
+public class PatientSearchCriteria {
+
+    // Free text matched against patientId, firstName, lastName, phoneNumber, email — PHI, never log
+    String search;
+    PatientStatusFilter status;
+    Gender gender;
+    BloodGroup bloodGroup;
+
+    public boolean hasSearchTerm() {
+        return search != null && !search.isBlank();
+    }
+
+    /**
+     * True when no predicate applies, i.e. the request lists the whole registry.
+     */
+    public boolean isUnfiltered() {
+        return !hasSearchTerm() && (status == null || status == PatientStatusFilter.ALL)
+                && gender == null && bloodGroup == null;
+    }
+
+    /**
+     * Which filters are present, e.g. "search+status" or "none" — never their values, so it is
+     * safe as a metric tag or log field. At most 16 distinct shapes.
+     */
+    public String filterShape() {
+        StringJoiner shape = new StringJoiner("+");
+        shape.setEmptyValue("none");
+        if (hasSearchTerm()) {
+            shape.add("search");
+        }
+        if (status != null && status != PatientStatusFilter.ALL) {
+            shape.add("status");
+        }
+        if (gender != null) {
+            shape.add("gender");
+        }
+        if (bloodGroup != null) {
+            shape.add("bloodGroup");
+        }
+        return shape.toString();
+    }
+}
@@ -0,0 +1,14 @@
+package com.ainexus.hpm.patient.search;
+
+import com.ainexus.hpm.patient.entity.Patient;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Turns a patient search into a JPA Specification. Returning a Specification (rather than
+ * executing it) lets offset pages, keyset pages and other read paths share one predicate.
+ * Selected by patient.search.strategy: "trigram" (default) or "specification".
+ */
+public interface PatientSearchStrategy {
+
+    Specification<Patient> toSpecification(PatientSearchCriteria criteria);
+}
@@ -0,0 +1,129 @@
+package com.ainexus.hpm.patient.search;
+
+import com.ainexus.hpm.patient.entity.Patient;
+import com.ainexus.hpm.patient.enums.PatientStatus;
+import com.ainexus.hpm.patient.enums.PatientStatusFilter;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Specification building blocks shared by the search strategies.
+ */
+public final class PatientSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private PatientSpecifications() {
+    }
+
+    /**
+     * Exact-match filters (status, gender, bloodGroup). Served by the single-column B-tree indexes.
+     */
+    public static Specification<Patient> filters(PatientSearchCriteria criteria) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            // Status filter — null or ALL means no filter
+            PatientStatusFilter status = criteria.getStatus();
+            if (status != null && status != PatientStatusFilter.ALL) {
+                PatientStatus entityStatus = PatientStatus.valueOf(status.name());
+                predicates.add(cb.equal(root.get("status"), entityStatus));
+            }
+
+            // Gender filter (null = ALL)
+            if (criteria.getGender() != null) {
+                predicates.add(cb.equal(root.get("gender"), criteria.getGender()));
+            }
+
+            // Blood group filter
+            if (criteria.getBloodGroup() != null) {
+                predicates.add(cb.equal(root.get("bloodGroup"), criteria.getBloodGroup()));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Original free-text search: LOWER(col) LIKE '%term%' ORed across five columns.
+     * No index can serve the leading wildcard, so this is a sequential scan.
+     */
+    public static Specification<Patient> columnLikeSearch(String search) {
+        return (root, query, cb) -> {
+            String pattern = "%" + search.toLowerCase() + "%";
+            return cb.or(
+                    cb.like(cb.lower(root.get("patientId")), pattern),
+                    cb.like(cb.lower(root.get("firstName")), pattern),
+                    cb.like(cb.lower(root.get("lastName")), pattern),
+                    cb.like(cb.lower(root.get("phoneNumber")), pattern),
+                    cb.like(cb.lower(root.get("email")), pattern)
+            );
+        };
+    }
+
+    /**
+     * Free-text search against the generated search_text column, served by the
+     * idx_patients_search_text_trgm GIN index. LIKE wildcards in the term are escaped.
+     */
+    public static Specification<Patient> trigramSearch(String search) {
+        return (root, query, cb) -> {
+            String pattern = "%" + escapeLike(search.toLowerCase()) + "%";
+            return cb.like(root.get("searchText"), pattern, LIKE_ESCAPE);
+        };
+    }
+
+    /**
+     * Rows that follow the cursor in (createdAt DESC, patientId DESC) order.
+     * The redundant createdAt <= bound gives PostgreSQL an index condition on
+     * idx_patients_created_at_patient_id, so the scan starts at the cursor instead of
+     * filtering from the newest row.
+     */
+    public static Specification<Patient> afterCursor(PatientCursor cursor) {
+        return (root, query, cb) -> cb.and(
+                cb.lessThanOrEqualTo(root.get("createdAt"), cursor.createdAt()),
+                cb.or(
+                        cb.lessThan(root.get("createdAt"), cursor.createdAt()),
+                        cb.lessThan(root.get("patientId"), cursor.patientId())
+                )
+        );
+    }
+
+    /**
+     * Changes after the cursor in (updatedAt ASC, patientId ASC) order. As with
+     * {@link #afterCursor}, the redundant updatedAt >= bound lets
+     * idx_patients_updated_at_patient_id start the scan at the cursor.
+     */
+    public static Specification<Patient> changedAfter(PatientChangeCursor cursor) {
+        return (root, query, cb) -> cb.and(
+                cb.greaterThanOrEqualTo(root.get("updatedAt"), cursor.updatedAt()),
+                cb.or(
+                        cb.greaterThan(root.get("updatedAt"), cursor.updatedAt()),
+                        cb.greaterThan(root.get("patientId"), cursor.patientId())
+                )
+        );
+    }
+
+    public static Specification<Patient> changedAfter(LocalDateTime since) {
+        return (root, query, cb) -> cb.greaterThan(root.get("updatedAt"), since);
+    }
+
+    public static Specification<Patient> changedNoLaterThan(LocalDateTime horizon) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("updatedAt"), horizon);
+    }
+
+    static String escapeLike(String term) {
+        StringBuilder sb = new StringBuilder(term.length());
+        for (int i = 0; i < term.length(); i++) {
+            char c = term.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                sb.append(LIKE_ESCAPE);
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+}
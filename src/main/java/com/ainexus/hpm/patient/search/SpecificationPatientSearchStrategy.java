@@ -0,0 +1,24 @@
+package com.ainexus.hpm.patient.search;
+
+import com.ainexus.hpm.patient.entity.Patient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fallback search path: the original JPA Specification with per-column leading-wildcard LIKE.
+ * Works on any PostgreSQL schema (no pg_trgm needed) at the cost of a sequential scan.
+ */
+@Component
+@ConditionalOnProperty(name = "patient.search.strategy", havingValue = "specification")
+public class SpecificationPatientSearchStrategy implements PatientSearchStrategy {
+
+    @Override
+    public Specification<Patient> toSpecification(PatientSearchCriteria criteria) {
+        Specification<Patient> spec = PatientSpecifications.filters(criteria);
+        if (criteria.hasSearchTerm()) {
+            spec = spec.and(PatientSpecifications.columnLikeSearch(criteria.getSearch()));
+        }
+        return spec;
+    }
+}
@@ -0,0 +1,34 @@
+package com.ainexus.hpm.patient.search;
+
+import com.ainexus.hpm.patient.entity.Patient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+/**
+ * Default search path. Free text is matched against the generated search_text column
+ * (lower-cased patientId, names, phone and email joined by a unit separator) through a
+ * pg_trgm GIN index, turning the five-way OR of leading-wildcard LIKEs into one bitmap
+ * index scan.
+ *
+ * Terms shorter than a trigram yield no index keys — pg_trgm would scan the whole
+ * index — so those fall back to the per-column Specification search.
+ */
+@Component
+@ConditionalOnProperty(name = "patient.search.strategy", havingValue = "trigram", matchIfMissing = true)
+public class TrigramPatientSearchStrategy implements PatientSearchStrategy {
+
+    static final int MIN_TRIGRAM_TERM_LENGTH = 3;
+
+    @Override
+    public Specification<Patient> toSpecification(PatientSearchCriteria criteria) {
+        Specification<Patient> spec = PatientSpecifications.filters(criteria);
+        if (criteria.hasSearchTerm()) {
+            String term = criteria.getSearch();
+            spec = spec.and(term.length() >= MIN_TRIGRAM_TERM_LENGTH
+                    ? PatientSpecifications.trigramSearch(term)
+                    : PatientSpecifications.columnLikeSearch(term));
+        }
+        return spec;
+    }
+}
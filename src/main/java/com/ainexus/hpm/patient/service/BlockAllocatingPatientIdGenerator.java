@@ -0,0 +1,129 @@
+package com.ainexus.hpm.patient.service;
+
+import com.ainexus.hpm.patient.repository.PatientIdCounterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Default patient ID generator.
+ *
+ * Reserves counters from patient_id_counters in blocks (one short UPDATE per block)
+ * and hands them out in-process with an atomic increment. Registrations therefore
+ * never take a SERIALIZABLE lock or scan the patients table. Uniqueness across
+ * instances comes from the counter row: every instance gets a disjoint block.
+ *
+ * Trade-off: IDs are unique and increasing per instance, but not gap-free — a block
+ * that is only partly used when an instance stops is simply skipped.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "patient.id.generator", havingValue = "block", matchIfMissing = true)
+public class BlockAllocatingPatientIdGenerator implements PatientIdGenerator {
+
+    private final PatientIdCounterRepository counterRepository;
+    private final PatientIdCodec patientIdCodec;
+    private final int blockSize;
+    private final Clock clock;
+
+    private final AtomicReference<IdBlock> currentBlock = new AtomicReference<>();
+    // Not a monitor: the refill holds it across a JDBC round-trip, which would pin a virtual thread
+    private final ReentrantLock refillLock = new ReentrantLock();
+
+    @Autowired
+    public BlockAllocatingPatientIdGenerator(
+            PatientIdCounterRepository counterRepository,
+            PatientIdCodec patientIdCodec,
+            @Value("${patient.id.block-size:50}") int blockSize) {
+        this(counterRepository, patientIdCodec, blockSize, Clock.systemDefaultZone());
+    }
+
+    BlockAllocatingPatientIdGenerator(PatientIdCounterRepository counterRepository, PatientIdCodec patientIdCodec,
+                                      int blockSize, Clock clock) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("patient.id.block-size must be at least 1");
+        }
+        this.counterRepository = counterRepository;
+        this.patientIdCodec = patientIdCodec;
+        this.blockSize = blockSize;
+        this.clock = clock;
+    }
+
+    @Override
+    public String generatePatientId() {
+        int year = Year.now(clock).getValue();
+        while (true) {
+            IdBlock block = currentBlock.get();
+            if (block != null && block.year == year) {
+                long counter = block.next.getAndIncrement();
+                if (counter < block.end) {
+                    return patientIdCodec.encode(year, counter);
+                }
+            }
+            refill(block, year);
+        }
+    }
+
+    /**
+     * Reserves exactly {@code count} counters with one UPDATE, separately from the shared
+     * block, so a bulk registration neither drains nor waits on single registrations.
+     */
+    @Override
+    public List<String> generatePatientIds(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("count must be at least 1");
+        }
+        int year = Year.now(clock).getValue();
+        long end = reserve(year, count);
+        List<String> ids = new ArrayList<>(count);
+        for (long counter = end - count; counter < end; counter++) {
+            ids.add(patientIdCodec.encode(year, counter));
+        }
+        return ids;
+    }
+
+    /**
+     * Replaces the exhausted (or previous-year) block. Only one thread per JVM goes to
+     * the database; the others wait on the lock and then retry against the new block.
+     */
+    private void refill(IdBlock exhausted, int year) {
+        refillLock.lock();
+        try {
+            if (currentBlock.get() != exhausted) {
+                return; // another thread already refilled
+            }
+            long end = reserve(year, blockSize);
+            currentBlock.set(new IdBlock(year, end - blockSize, end));
+            log.debug("Reserved patient ID block year={} range=[{}, {})", year, end - blockSize, end);
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+    private long reserve(int year, int size) {
+        return counterRepository.reserveBlock(year, size)
+                .orElseGet(() -> counterRepository.initializeAndReserveBlock(year, size));
+    }
+
+    private static final class IdBlock {
+        private final int year;
+        private final AtomicLong next;
+        private final long end;
+
+        private IdBlock(int year, long start, long end) {
+            this.year = year;
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.ainexus.hpm.patient.service;
+
+import com.ainexus.hpm.patient.dto.response.PatientChangesResponse;
+
+import java.time.LocalDateTime;
+
+public interface PatientChangeFeedService {
+
+    /**
+     * Patients created or modified after {@code cursor} (a nextCursor from an earlier call) or,
+     * when no cursor is given, after {@code since}; both null reads the feed from the start.
+     */
+    PatientChangesResponse getChanges(String cursor, LocalDateTime since, int size);
+}
@@ -0,0 +1,26 @@
+package com.ainexus.hpm.patient.service;
+
+import com.ainexus.hpm.patient.enums.BloodGroup;
+import com.ainexus.hpm.patient.enums.ExportFormat;
+import com.ainexus.hpm.patient.enums.Gender;
+import com.ainexus.hpm.patient.enums.PatientStatusFilter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface PatientExportService {
+
+    /**
+     * Writes every patient matching the filters to {@code output}, in patientId order, as rows
+     * are read from the database. Null filters (and status ALL) match everything.
+     *
+     * @return the number of patients written
+     */
+    long exportPatients(
+            PatientStatusFilter status,
+            Gender gender,
+            BloodGroup bloodGroup,
+            ExportFormat format,
+            OutputStream output
+    ) throws IOException;
+}
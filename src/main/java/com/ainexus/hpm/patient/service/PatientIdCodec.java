@@ -0,0 +1,144 @@
+package com.ainexus.hpm.patient.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Encodes and parses patient IDs.
+ *
+ * Two forms share the P{year} prefix:
+ * <ul>
+ *   <li>Compact (legacy): counters 1–999 as three zero-padded digits — P2026001 … P2026999.</li>
+ *   <li>Extended: counters ≥ 1000 as a length marker followed by the unpadded digits —
+ *       'A' = 4 digits, 'B' = 5, … — e.g. P2026A1000, P2026D1234567.</li>
+ * </ul>
+ *
+ * Digits sort before letters and the marker grows with the digit count, so plain
+ * byte-wise string order equals (year, counter) order. The patient_id column uses
+ * COLLATE "C" so the primary-key B-tree, MAX(patient_id) and LIKE 'P2026%' all follow it.
+ *
+ * Legacy IDs that overflowed the 3-digit format (e.g. P20261000) are still parsed, but are
+ * the one exception to that ordering: they sort below P2026999. Generators that seed from
+ * MAX(patient_id) must also take PatientRepository#findMaxLegacyOverflowCounterForYear.
+ */
+@Component
+public class PatientIdCodec {
+
+    static final int COMPACT_COUNTER_DIGITS = 3;
+    static final int MAX_SUPPORTED_COUNTER_DIGITS = 12;
+
+    private static final int YEAR_END = 5; // "P" + 4-digit year
+    private static final char FIRST_MARKER = 'A';
+
+    private final int maxCounterDigits;
+    private final long maxCounter;
+
+    public PatientIdCodec(@Value("${patient.id.max-counter-digits:9}") int maxCounterDigits) {
+        if (maxCounterDigits < COMPACT_COUNTER_DIGITS || maxCounterDigits > MAX_SUPPORTED_COUNTER_DIGITS) {
+            throw new IllegalArgumentException("patient.id.max-counter-digits must be between "
+                    + COMPACT_COUNTER_DIGITS + " and " + MAX_SUPPORTED_COUNTER_DIGITS);
+        }
+        this.maxCounterDigits = maxCounterDigits;
+        this.maxCounter = (long) Math.pow(10, maxCounterDigits) - 1;
+    }
+
+    public long getMaxCounter() {
+        return maxCounter;
+    }
+
+    public String encode(int year, long counter) {
+        if (year < 1000 || year > 9999) {
+            throw new IllegalArgumentException("Year must have 4 digits: " + year);
+        }
+        if (counter < 1) {
+            throw new IllegalArgumentException("Patient ID counter must be positive: " + counter);
+        }
+        if (counter > maxCounter) {
+            throw new IllegalStateException("Patient ID counter capacity exhausted for year " + year);
+        }
+
+        StringBuilder sb = new StringBuilder(YEAR_END + 1 + maxCounterDigits).append('P').append(year);
+        if (counter < 1000) {
+            if (counter < 100) sb.append('0');
+            if (counter < 10) sb.append('0');
+        } else {
+            sb.append((char) (FIRST_MARKER + digitCount(counter) - (COMPACT_COUNTER_DIGITS + 1)));
+        }
+        return sb.append(counter).toString();
+    }
+
+    /**
+     * Parses a patient ID in either form.
+     *
+     * @throws IllegalArgumentException if the value is not a well-formed patient ID
+     */
+    public ParsedPatientId decode(String patientId) {
+        if (patientId == null || patientId.length() < YEAR_END + COMPACT_COUNTER_DIGITS
+                || patientId.charAt(0) != 'P') {
+            throw invalid(patientId);
+        }
+        int year = (int) parseDigits(patientId, 1, YEAR_END);
+        char c = patientId.charAt(YEAR_END);
+
+        long counter;
+        if (isDigit(c)) {
+            if (patientId.length() - YEAR_END > maxCounterDigits) {
+                throw invalid(patientId);
+            }
+            counter = parseDigits(patientId, YEAR_END, patientId.length());
+        } else {
+            int digits = c - FIRST_MARKER + COMPACT_COUNTER_DIGITS + 1;
+            int start = YEAR_END + 1;
+            if (c < FIRST_MARKER || digits > maxCounterDigits
+                    || patientId.length() - start != digits || patientId.charAt(start) == '0') {
+                throw invalid(patientId);
+            }
+            counter = parseDigits(patientId, start, patientId.length());
+        }
+        if (counter < 1) {
+            throw invalid(patientId);
+        }
+        return new ParsedPatientId(year, counter);
+    }
+
+    public boolean isValid(String patientId) {
+        try {
+            decode(patientId);
+            return true;
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    private static long parseDigits(String s, int from, int to) {
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (!isDigit(c)) {
+                throw invalid(s);
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int digitCount(long value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    private static IllegalArgumentException invalid(String patientId) {
+        return new IllegalArgumentException("Invalid patient ID format: " + patientId);
+    }
+
+    public record ParsedPatientId(int year, long counter) {
+    }
+}
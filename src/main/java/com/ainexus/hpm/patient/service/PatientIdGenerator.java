@@ -1,5 +1,7 @@
 package com.ainexus.hpm.patient.service;
 
+import java.util.List;
+
 /**
  * Contract for generating unique patient IDs.
  * Separated into an interface so it can be mocked in unit tests
@@ -8,4 +10,9 @@ package com.ainexus.hpm.patient.service;
  */
 public interface PatientIdGenerator {
     String generatePatientId();
+
+    /**
+     * Reserves {@code count} consecutive IDs at once, for bulk registration.
+     */
+    List<String> generatePatientIds(int count);
 }
@@ -2,15 +2,22 @@ package com.ainexus.hpm.patient.service;
 
 import com.ainexus.hpm.patient.repository.PatientRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
- * Dedicated bean for patient ID generation.
+ * Legacy MAX-query patient ID generator, selected with patient.id.generator=max-query.
+ * Superseded by {@link BlockAllocatingPatientIdGenerator}; kept as a fallback for
+ * databases that do not yet have the patient_id_counters table.
  *
  * Separated from PatientServiceImpl so that Spring's AOP proxy can apply
  * SERIALIZABLE isolation via a REQUIRES_NEW transaction — which suspends
@@ -20,13 +27,21 @@ import java.time.Year;
  */
 @Service
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "patient.id.generator", havingValue = "max-query")
 public class PatientIdGeneratorService implements PatientIdGenerator {
 
     private final PatientRepository patientRepository;
+    private final PatientIdCodec patientIdCodec;
+
+    /** Legacy overflow maximum per year; no new IDs of that shape are issued, so it is read once. */
+    private final ConcurrentMap<Integer, Long> legacyOverflowMaxByYear = new ConcurrentHashMap<>();
 
     /**
-     * Generates the next patient ID in format P{year}{3-digit-counter}.
-     * Examples: P2026001, P2026002 … P2026999.
+     * Generates the next patient ID via {@link PatientIdCodec}.
+     * Examples: P2026001 … P2026999, then P2026A1000, P2026A1001 …
+     * The current maximum is read as MAX(patient_id), which the codec's ordering makes
+     * an index-only lookup on the primary key. Legacy overflow IDs (P20261000) sort below
+     * P2026999, so their numeric maximum is read separately, once per year.
      *
      * REQUIRES_NEW ensures this runs in a brand-new SERIALIZABLE transaction
      * independent of the caller's transaction, so the isolation level is
@@ -34,10 +49,31 @@ public class PatientIdGeneratorService implements PatientIdGenerator {
      */
     @Transactional(isolation = Isolation.SERIALIZABLE, propagation = Propagation.REQUIRES_NEW)
     public String generatePatientId() {
-        String year = String.valueOf(Year.now().getValue());
-        int nextCounter = patientRepository.findMaxCounterForYear(year)
-                .map(max -> max + 1)
-                .orElse(1);
-        return String.format("P%s%03d", year, nextCounter);
+        int year = Year.now().getValue();
+        return patientIdCodec.encode(year, firstFreeCounter(year));
+    }
+
+    /**
+     * Same MAX lookup, then {@code count} consecutive counters after it.
+     */
+    @Transactional(isolation = Isolation.SERIALIZABLE, propagation = Propagation.REQUIRES_NEW)
+    public List<String> generatePatientIds(int count) {
+        int year = Year.now().getValue();
+        long firstCounter = firstFreeCounter(year);
+        List<String> ids = new ArrayList<>(count);
+        for (long counter = firstCounter; counter < firstCounter + count; counter++) {
+            ids.add(patientIdCodec.encode(year, counter));
+        }
+        return ids;
+    }
+
+    private long firstFreeCounter(int year) {
+        String yearPrefix = String.valueOf(year);
+        long max = patientRepository.findMaxPatientIdForYear(yearPrefix)
+                .map(maxId -> patientIdCodec.decode(maxId).counter())
+                .orElse(0L);
+        long legacyOverflowMax = legacyOverflowMaxByYear.computeIfAbsent(year,
+                y -> patientRepository.findMaxLegacyOverflowCounterForYear(yearPrefix).orElse(0L));
+        return Math.max(max, legacyOverflowMax) + 1;
     }
 }
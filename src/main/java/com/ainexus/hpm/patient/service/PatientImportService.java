@@ -0,0 +1,28 @@
+package com.ainexus.hpm.patient.service;
+
+import com.ainexus.hpm.patient.dto.response.PagedResponse;
+import com.ainexus.hpm.patient.dto.response.PatientImportRejectionResponse;
+import com.ainexus.hpm.patient.dto.response.PatientImportResponse;
+import com.ainexus.hpm.patient.enums.ImportFormat;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.UUID;
+
+public interface PatientImportService {
+
+    /**
+     * Streams the upload into patients in chunks, committing each chunk on its own, and
+     * returns the finished import. Progress is visible through {@link #getImport} while it runs.
+     */
+    PatientImportResponse importPatients(InputStream input, ImportFormat format, String userId);
+
+    /**
+     * The 20 most recently started imports, running ones included.
+     */
+    List<PatientImportResponse> listImports();
+
+    PatientImportResponse getImport(UUID importId);
+
+    PagedResponse<PatientImportRejectionResponse> getRejections(UUID importId, int page, int size);
+}
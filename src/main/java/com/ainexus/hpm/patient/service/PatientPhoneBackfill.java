@@ -0,0 +1,129 @@
+package com.ainexus.hpm.patient.service;
+
+import com.ainexus.hpm.patient.validator.PhoneNumbers;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fills patients.phone_normalized, online, for rows written before the column existed.
+ *
+ * Walks idx_patients_phone_normalized_pending in patient_id order, one batch of
+ * patient.phone-backfill.batch-size rows at a time, each in its own short transaction. An
+ * UPDATE only applies while the row still has the phone that was read and no normalized value,
+ * so it never overwrites a concurrent registration or update. Runs shortly after startup and
+ * then every patient.phone-backfill.interval, which also picks up a row that a concurrent
+ * activate/deactivate of an already-loaded entity reset to NULL.
+ *
+ * A legacy phone that PhoneNumbers cannot normalize is set to {@link PhoneNumbers#UNNORMALIZABLE},
+ * which leaves the pending index and is skipped by duplicate-phone checks, so it is logged once
+ * and not retried. Once caught up, a run is one probe of an empty index.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "patient.phone-backfill.enabled", havingValue = "true", matchIfMissing = true)
+public class PatientPhoneBackfill {
+
+    static final String SELECT_PENDING = """
+            SELECT patient_id, phone
+            FROM patients
+            WHERE phone_normalized IS NULL AND patient_id > ?
+            ORDER BY patient_id
+            LIMIT ?
+            """;
+
+    static final String SET_NORMALIZED = "UPDATE patients SET phone_normalized = ? "
+            + "WHERE patient_id = ? AND phone = ? AND phone_normalized IS NULL";
+
+    private static final RowMapper<PendingPhone> PENDING_ROW_MAPPER =
+            (rs, rowNum) -> new PendingPhone(rs.getString("patient_id"), rs.getString("phone"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public PatientPhoneBackfill(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${patient.phone-backfill.batch-size:1000}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("patient.phone-backfill.batch-size must be at least 1");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${patient.phone-backfill.initial-delay:30s}",
+            fixedDelayString = "${patient.phone-backfill.interval:1h}")
+    public void run() {
+        try {
+            long normalized = backfill();
+            if (normalized > 0) {
+                log.info("Phone backfill normalized {} patients", normalized);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Phone backfill stopped, will resume on the next run: {}", ex.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * One pass over every row still missing its normalized phone.
+     *
+     * @return the number of rows normalized
+     */
+    public long backfill() {
+        long normalized = 0;
+        long unrecognized = 0;
+        String after = "";
+        List<PendingPhone> batch;
+        do {
+            batch = jdbcTemplate.query(SELECT_PENDING, PENDING_ROW_MAPPER, after, batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+            int[] applied = normalize(batch);
+            normalized += applied[0];
+            unrecognized += applied[1];
+            after = batch.get(batch.size() - 1).patientId();
+        } while (batch.size() == batchSize);
+        if (unrecognized > 0) {
+            log.warn("Phone backfill marked {} patients whose phone is not in an accepted format", unrecognized);
+        }
+        return normalized;
+    }
+
+    /**
+     * @return rows normalized and rows marked {@link PhoneNumbers#UNNORMALIZABLE}
+     */
+    private int[] normalize(List<PendingPhone> batch) {
+        List<Object[]> updates = new ArrayList<>(batch.size());
+        boolean[] recognized = new boolean[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            PendingPhone row = batch.get(i);
+            // A phone that predates validation is never reported as a duplicate
+            String phoneNormalized = PhoneNumbers.normalize(row.phone());
+            recognized[i] = phoneNormalized != null;
+            updates.add(new Object[]{recognized[i] ? phoneNormalized : PhoneNumbers.UNNORMALIZABLE, row.patientId(), row.phone()});
+        }
+        int[] counts = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(SET_NORMALIZED, updates));
+        int[] applied = new int[2];
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                applied[recognized[i] ? 0 : 1]++;
+            }
+        }
+        return applied;
+    }
+
+    private record PendingPhone(String patientId, String phone) {
+    }
+}
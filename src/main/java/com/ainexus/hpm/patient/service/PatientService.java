@@ -1,32 +1,103 @@
 package com.ainexus.hpm.patient.service;
 
+import com.ainexus.hpm.patient.dto.request.PatientPatchRequest;
 import com.ainexus.hpm.patient.dto.request.PatientRegistrationRequest;
 import com.ainexus.hpm.patient.dto.request.PatientUpdateRequest;
+import com.ainexus.hpm.patient.dto.response.BatchRegistrationResponse;
 import com.ainexus.hpm.patient.dto.response.PagedResponse;
+import com.ainexus.hpm.patient.dto.response.PatientLookupResponse;
 import com.ainexus.hpm.patient.dto.response.PatientResponse;
+import com.ainexus.hpm.patient.dto.response.PatientStatusChangeResponse;
 import com.ainexus.hpm.patient.dto.response.PatientSummaryResponse;
 import com.ainexus.hpm.patient.enums.BloodGroup;
+import com.ainexus.hpm.patient.enums.CountMode;
 import com.ainexus.hpm.patient.enums.Gender;
+import com.ainexus.hpm.patient.enums.PatientStatus;
 import com.ainexus.hpm.patient.enums.PatientStatusFilter;
 
+import java.util.List;
+
 public interface PatientService {
 
     PatientResponse registerPatient(PatientRegistrationRequest request, String userId);
 
+    /**
+     * Registers many patients in one transaction. Each entry is validated on its own; invalid
+     * entries are reported as REJECTED and the valid ones are still inserted.
+     */
+    BatchRegistrationResponse registerPatients(List<PatientRegistrationRequest> requests, String userId);
+
+    /**
+     * Offset page of patients. {@code countMode} selects how totals are computed;
+     * null uses the configured default (patient.search.count-mode).
+     */
     PagedResponse<PatientSummaryResponse> searchPatients(
             String search,
             PatientStatusFilter status,
             Gender gender,
             BloodGroup bloodGroup,
             int page,
+            int size,
+            CountMode countMode
+    );
+
+    /**
+     * Keyset variant of {@link #searchPatients}: pages in (createdAt DESC, patientId DESC) order
+     * starting after {@code cursor} (null for the first page). No totals are computed.
+     */
+    PagedResponse<PatientSummaryResponse> searchPatientsKeyset(
+            String search,
+            PatientStatusFilter status,
+            Gender gender,
+            BloodGroup bloodGroup,
+            String cursor,
             int size
     );
 
     PatientResponse getPatientById(String patientId);
 
-    PatientResponse updatePatient(String patientId, PatientUpdateRequest request, String userId);
+    /**
+     * Current @Version of a patient, for conditional GETs: from the profile cache when present,
+     * otherwise from a version-only query. Throws PatientNotFoundException like getPatientById.
+     */
+    int getPatientVersion(String patientId);
+
+    /**
+     * Profiles for many IDs at once: cached profiles first, the rest in one query. Duplicate
+     * IDs collapse to one entry; unknown IDs come back as NOT_FOUND rather than an error.
+     */
+    PatientLookupResponse<PatientResponse> lookupPatients(List<String> patientIds);
+
+    /**
+     * Summary counterpart of {@link #lookupPatients}; misses are read with the list-page projection.
+     */
+    PatientLookupResponse<PatientSummaryResponse> lookupPatientSummaries(List<String> patientIds);
+
+    /**
+     * Applies the update. A non-null {@code expectedVersion} (from If-Match) makes it
+     * conditional: PatientPreconditionFailedException unless the patient is at that version.
+     * An update that changes no field writes nothing and keeps the version.
+     */
+    PatientResponse updatePatient(String patientId, PatientUpdateRequest request, String userId, Integer expectedVersion);
+
+    /**
+     * Applies the non-null fields of {@code request}; otherwise as {@link #updatePatient}.
+     */
+    PatientResponse patchPatient(String patientId, PatientPatchRequest request, String userId, Integer expectedVersion);
+
+    /**
+     * Deactivates the patient; {@code expectedVersion} as for {@link #updatePatient}.
+     */
+    PatientResponse deactivatePatient(String patientId, String userId, Integer expectedVersion);
 
-    PatientResponse deactivatePatient(String patientId, String userId);
+    /**
+     * Activates the patient; {@code expectedVersion} as for {@link #updatePatient}.
+     */
+    PatientResponse activatePatient(String patientId, String userId, Integer expectedVersion);
 
-    PatientResponse activatePatient(String patientId, String userId);
+    /**
+     * Moves many patients to {@code status} with one conditional UPDATE. Each distinct ID is
+     * reported as CHANGED, ALREADY_IN_STATUS or NOT_FOUND; individual IDs never fail the call.
+     */
+    PatientStatusChangeResponse changePatientStatuses(List<String> patientIds, PatientStatus status, String userId);
 }
@@ -0,0 +1,88 @@
+package com.ainexus.hpm.patient.service.impl;
+
+import com.ainexus.hpm.patient.datasource.ReadReplicaRoutingDataSource;
+import com.ainexus.hpm.patient.dto.response.PatientChangesResponse;
+import com.ainexus.hpm.patient.dto.response.PatientResponse;
+import com.ainexus.hpm.patient.entity.Patient;
+import com.ainexus.hpm.patient.mapper.PatientMapper;
+import com.ainexus.hpm.patient.repository.PatientRepository;
+import com.ainexus.hpm.patient.search.PatientChangeCursor;
+import com.ainexus.hpm.patient.search.PatientSpecifications;
+import com.ainexus.hpm.patient.service.PatientChangeFeedService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Keyset change feed over (updated_at, patient_id), served by idx_patients_updated_at_patient_id.
+ *
+ * updated_at is stamped by the application before commit, so a write can become visible after
+ * a later-stamped one. Changes younger than patient.changes.settle-delay are held back until
+ * every write stamped before them has committed; otherwise a consumer's cursor could move past
+ * a change that was still in flight and skip it for good.
+ *
+ * For the same reason the feed always reads from the primary: a replica's replay lag would add
+ * to commit lag, and the settle delay does not cover it.
+ */
+@Service
+public class PatientChangeFeedServiceImpl implements PatientChangeFeedService {
+
+    private static final Sort CHANGE_SORT = Sort.by(Sort.Order.asc("updatedAt"), Sort.Order.asc("patientId"));
+
+    private final PatientRepository patientRepository;
+    private final PatientMapper patientMapper;
+    private final Duration settleDelay;
+
+    public PatientChangeFeedServiceImpl(
+            PatientRepository patientRepository,
+            PatientMapper patientMapper,
+            @Value("${patient.changes.settle-delay:5s}") Duration settleDelay) {
+        if (settleDelay.isNegative()) {
+            throw new IllegalArgumentException("patient.changes.settle-delay must not be negative");
+        }
+        this.patientRepository = patientRepository;
+        this.patientMapper = patientMapper;
+        this.settleDelay = settleDelay;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PatientChangesResponse getChanges(String cursor, LocalDateTime since, int size) {
+        try (ReadReplicaRoutingDataSource.PrimaryScope ignored = ReadReplicaRoutingDataSource.primaryOnly()) {
+            return readChanges(cursor, since, size);
+        }
+    }
+
+    private PatientChangesResponse readChanges(String cursor, LocalDateTime since, int size) {
+        Specification<Patient> spec = PatientSpecifications.changedNoLaterThan(
+                LocalDateTime.now().minus(settleDelay));
+        if (cursor != null) {
+            spec = spec.and(PatientSpecifications.changedAfter(PatientChangeCursor.decode(cursor)));
+        } else if (since != null) {
+            spec = spec.and(PatientSpecifications.changedAfter(since));
+        }
+
+        // One extra row tells us whether the consumer should poll again straight away
+        List<Patient> rows = patientRepository.findPatients(spec, CHANGE_SORT, size + 1);
+        boolean hasMore = rows.size() > size;
+        List<Patient> pageRows = hasMore ? rows.subList(0, size) : rows;
+
+        List<PatientResponse> changes = pageRows.stream()
+                .map(patientMapper::toResponse)
+                .toList();
+
+        return PatientChangesResponse.builder()
+                .changes(changes)
+                .nextCursor(pageRows.isEmpty()
+                        ? cursor
+                        : PatientChangeCursor.of(pageRows.get(pageRows.size() - 1)).encode())
+                .hasMore(hasMore)
+                .build();
+    }
+}
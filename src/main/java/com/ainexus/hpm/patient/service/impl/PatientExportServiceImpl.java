@@ -0,0 +1,119 @@
+package com.ainexus.hpm.patient.service.impl;
+
+import com.ainexus.hpm.patient.entity.Patient;
+import com.ainexus.hpm.patient.enums.BloodGroup;
+import com.ainexus.hpm.patient.enums.ExportFormat;
+import com.ainexus.hpm.patient.enums.Gender;
+import com.ainexus.hpm.patient.enums.PatientStatusFilter;
+import com.ainexus.hpm.patient.mapper.PatientMapper;
+import com.ainexus.hpm.patient.repository.PatientRepository;
+import com.ainexus.hpm.patient.search.PatientSearchCriteria;
+import com.ainexus.hpm.patient.search.PatientSpecifications;
+import com.ainexus.hpm.patient.service.PatientExportService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Streams the registry straight from a database cursor to the response body: one row is read,
+ * mapped and serialized at a time, so memory use does not grow with the number of patients
+ * and no OFFSET or COUNT query runs.
+ */
+@Service
+@Slf4j
+public class PatientExportServiceImpl implements PatientExportService {
+
+    // patientId order walks the primary key; stable across runs for warehouse diffing
+    private static final Sort EXPORT_SORT = Sort.by("patientId");
+
+    static final List<String> CSV_COLUMNS = List.of(
+            "patientId", "firstName", "lastName", "dateOfBirth", "age", "gender", "phoneNumber", "email",
+            "address", "city", "state", "zipCode",
+            "emergencyContactName", "emergencyContactPhone", "emergencyContactRelationship",
+            "bloodGroup", "knownAllergies", "chronicConditions",
+            "status", "createdAt", "createdBy", "updatedAt", "updatedBy",
+            "deactivatedAt", "deactivatedBy", "activatedAt", "activatedBy");
+
+    private static final ObjectWriter CSV_WRITER = CsvMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            // duplicatePhoneWarning is always null here; skip it rather than fail on it
+            .enable(JsonGenerator.Feature.IGNORE_UNKNOWN)
+            .build()
+            .writer(CsvSchema.builder()
+                    .addColumns(CSV_COLUMNS, CsvSchema.ColumnType.STRING)
+                    .build()
+                    .withHeader());
+
+    private final PatientRepository patientRepository;
+    private final PatientMapper patientMapper;
+    private final ObjectWriter ndjsonWriter;
+    private final int fetchSize;
+
+    public PatientExportServiceImpl(
+            PatientRepository patientRepository,
+            PatientMapper patientMapper,
+            ObjectMapper objectMapper,
+            @Value("${patient.export.fetch-size:500}") int fetchSize) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("patient.export.fetch-size must be at least 1");
+        }
+        this.patientRepository = patientRepository;
+        this.patientMapper = patientMapper;
+        this.ndjsonWriter = objectMapper.writer().withRootValueSeparator("\n");
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportPatients(
+            PatientStatusFilter status,
+            Gender gender,
+            BloodGroup bloodGroup,
+            ExportFormat format,
+            OutputStream output) throws IOException {
+
+        Specification<Patient> spec = PatientSpecifications.filters(PatientSearchCriteria.builder()
+                .status(status)
+                .gender(gender)
+                .bloodGroup(bloodGroup)
+                .build());
+
+        long written = 0;
+        // The servlet container owns the response stream; closing the sequence must not close it
+        ObjectWriter writer = (format == ExportFormat.CSV ? CSV_WRITER : ndjsonWriter)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        try (Stream<Patient> patients = patientRepository.streamAll(spec, EXPORT_SORT, fetchSize);
+             SequenceWriter sequence = writer.writeValues(output)) {
+            Iterator<Patient> rows = patients.iterator();
+            while (rows.hasNext()) {
+                sequence.write(patientMapper.toResponse(rows.next()));
+                written++;
+            }
+        }
+        if (format == ExportFormat.NDJSON && written > 0) {
+            // withRootValueSeparator only separates values; end the last line too
+            output.write('\n');
+        }
+        output.flush();
+        log.info("Patient export finished: format={}, patients={}", format, written);
+        return written;
+    }
+}
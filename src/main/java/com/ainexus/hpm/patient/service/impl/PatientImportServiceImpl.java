@@ -0,0 +1,233 @@
+package com.ainexus.hpm.patient.service.impl;
+
+import com.ainexus.hpm.patient.dto.response.PagedResponse;
+import com.ainexus.hpm.patient.dto.response.PatientImportRejectionResponse;
+import com.ainexus.hpm.patient.dto.response.PatientImportResponse;
+import com.ainexus.hpm.patient.entity.Patient;
+import com.ainexus.hpm.patient.entity.PatientImport;
+import com.ainexus.hpm.patient.entity.PatientImportRejection;
+import com.ainexus.hpm.patient.enums.ImportFormat;
+import com.ainexus.hpm.patient.enums.ImportStatus;
+import com.ainexus.hpm.patient.enums.PatientEventType;
+import com.ainexus.hpm.patient.exception.PatientImportNotFoundException;
+import com.ainexus.hpm.patient.importer.CsvPatientRecordReader;
+import com.ainexus.hpm.patient.importer.ImportRecord;
+import com.ainexus.hpm.patient.importer.NdjsonPatientRecordReader;
+import com.ainexus.hpm.patient.importer.PatientImportWriter;
+import com.ainexus.hpm.patient.importer.PatientImportWriter.ImportRejection;
+import com.ainexus.hpm.patient.importer.PatientRecordReader;
+import com.ainexus.hpm.patient.mapper.PatientMapper;
+import com.ainexus.hpm.patient.outbox.PatientEventOutbox;
+import com.ainexus.hpm.patient.repository.PatientImportRejectionRepository;
+import com.ainexus.hpm.patient.repository.PatientImportRepository;
+import com.ainexus.hpm.patient.service.PatientIdGenerator;
+import com.ainexus.hpm.patient.service.PatientImportService;
+import com.ainexus.hpm.patient.validator.RegistrationRequestValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Bulk import pipeline: read → validate → COPY, one bounded chunk at a time.
+ *
+ * The upload is pulled from the request stream only as fast as chunks are written, so the
+ * client is throttled by TCP flow control and heap use is bounded by patient.import.chunk-size
+ * whatever the file size. Each chunk (COPY, outbox events, rejections, progress counters) is one transaction;
+ * a failure stops the import but keeps the chunks already committed.
+ */
+@Service
+@Slf4j
+public class PatientImportServiceImpl implements PatientImportService {
+
+    private final PatientImportRepository importRepository;
+    private final PatientImportRejectionRepository rejectionRepository;
+    private final PatientImportWriter importWriter;
+    private final PatientMapper patientMapper;
+    private final PatientIdGenerator patientIdGenerator;
+    private final RegistrationRequestValidator registrationRequestValidator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final PatientEventOutbox patientEventOutbox;
+    private final int chunkSize;
+
+    public PatientImportServiceImpl(
+            PatientImportRepository importRepository,
+            PatientImportRejectionRepository rejectionRepository,
+            PatientImportWriter importWriter,
+            PatientMapper patientMapper,
+            PatientIdGenerator patientIdGenerator,
+            RegistrationRequestValidator registrationRequestValidator,
+            ObjectMapper objectMapper,
+            TransactionTemplate transactionTemplate,
+            PatientEventOutbox patientEventOutbox,
+            @Value("${patient.import.chunk-size:5000}") int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("patient.import.chunk-size must be at least 1");
+        }
+        this.importRepository = importRepository;
+        this.rejectionRepository = rejectionRepository;
+        this.importWriter = importWriter;
+        this.patientMapper = patientMapper;
+        this.patientIdGenerator = patientIdGenerator;
+        this.registrationRequestValidator = registrationRequestValidator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.patientEventOutbox = patientEventOutbox;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public PatientImportResponse importPatients(InputStream input, ImportFormat format, String userId) {
+        UUID importId = UUID.randomUUID();
+        transactionTemplate.executeWithoutResult(status -> importRepository.save(PatientImport.builder()
+                .importId(importId)
+                .format(format)
+                .status(ImportStatus.RUNNING)
+                .createdBy(userId)
+                .startedAt(LocalDateTime.now())
+                .build()));
+        log.info("Patient import {} started by userId={}, format={}", importId, userId, format);
+
+        long firstLineOfChunk = 0;
+        try (PatientRecordReader reader = openReader(input, format)) {
+            List<ImportRecord> chunk = new ArrayList<>(chunkSize);
+            ImportRecord record;
+            while ((record = reader.next()) != null) {
+                if (chunk.isEmpty()) {
+                    firstLineOfChunk = record.lineNumber();
+                }
+                chunk.add(record);
+                if (chunk.size() == chunkSize) {
+                    writeChunk(importId, chunk, userId);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(importId, chunk, userId);
+            }
+            finish(importId, ImportStatus.COMPLETED, null);
+        } catch (IOException | RuntimeException ex) {
+            // The exception message may quote record values (PHI) — record only its type and position
+            log.error("Patient import {} failed in the chunk starting at line {}: {}",
+                    importId, firstLineOfChunk, ex.getClass().getSimpleName());
+            finish(importId, ImportStatus.FAILED, "Import stopped in the chunk starting at line "
+                    + firstLineOfChunk + " (" + ex.getClass().getSimpleName() + "); earlier chunks were imported");
+        }
+        return getImport(importId);
+    }
+
+    @Override
+    public List<PatientImportResponse> listImports() {
+        return importRepository.findTop20ByOrderByStartedAtDesc().stream()
+                .map(PatientImportServiceImpl::toResponse)
+                .toList();
+    }
+
+    @Override
+    public PatientImportResponse getImport(UUID importId) {
+        return importRepository.findById(importId)
+                .map(PatientImportServiceImpl::toResponse)
+                .orElseThrow(() -> new PatientImportNotFoundException(importId));
+    }
+
+    @Override
+    public PagedResponse<PatientImportRejectionResponse> getRejections(UUID importId, int page, int size) {
+        if (!importRepository.existsById(importId)) {
+            throw new PatientImportNotFoundException(importId);
+        }
+        Page<PatientImportRejection> rejections =
+                rejectionRepository.findByImportIdOrderByLineNumber(importId, PageRequest.of(page, size));
+
+        return PagedResponse.<PatientImportRejectionResponse>builder()
+                .content(rejections.getContent().stream()
+                        .map(r -> PatientImportRejectionResponse.builder()
+                                .lineNumber(r.getLineNumber())
+                                .errors(r.getErrors())
+                                .build())
+                        .toList())
+                .page(rejections.getNumber())
+                .size(rejections.getSize())
+                .totalElements(rejections.getTotalElements())
+                .totalPages(rejections.getTotalPages())
+                .first(rejections.isFirst())
+                .last(rejections.isLast())
+                .build();
+    }
+
+    // -------------------------------------------------------------------------
+    // Private helpers
+    // -------------------------------------------------------------------------
+
+    private PatientRecordReader openReader(InputStream input, ImportFormat format) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonPatientRecordReader(input, objectMapper);
+            case CSV -> new CsvPatientRecordReader(input);
+        };
+    }
+
+    private void writeChunk(UUID importId, List<ImportRecord> chunk, String userId) {
+        List<ImportRecord> accepted = new ArrayList<>(chunk.size());
+        List<ImportRejection> rejections = new ArrayList<>();
+        for (ImportRecord record : chunk) {
+            Map<String, String> errors = record.parseErrors().isEmpty()
+                    ? registrationRequestValidator.validate(record.request())
+                    : record.parseErrors();
+            if (errors.isEmpty()) {
+                accepted.add(record);
+            } else {
+                rejections.add(new ImportRejection(record.lineNumber(), errors));
+            }
+        }
+
+        // One counter reservation per chunk; IDs of a chunk that later fails are skipped
+        List<String> patientIds = accepted.isEmpty()
+                ? List.of()
+                : patientIdGenerator.generatePatientIds(accepted.size());
+        List<Patient> patients = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            patients.add(patientMapper.toEntity(accepted.get(i).request(), patientIds.get(i), userId));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            long copied = importWriter.copyPatients(patients);
+            patientEventOutbox.recordAll(PatientEventType.REGISTERED, patients);
+            importWriter.insertRejections(importId, rejections);
+            importRepository.recordProgress(importId, chunk.size(), copied, rejections.size());
+        });
+        log.debug("Patient import {} chunk committed: imported={}, rejected={}",
+                importId, patients.size(), rejections.size());
+    }
+
+    private void finish(UUID importId, ImportStatus status, String errorMessage) {
+        transactionTemplate.executeWithoutResult(tx ->
+                importRepository.finish(importId, status, LocalDateTime.now(), errorMessage));
+        log.info("Patient import {} finished with status {}", importId, status);
+    }
+
+    private static PatientImportResponse toResponse(PatientImport job) {
+        return PatientImportResponse.builder()
+                .importId(job.getImportId())
+                .format(job.getFormat())
+                .status(job.getStatus())
+                .recordsRead(job.getRecordsRead())
+                .imported(job.getImported())
+                .rejected(job.getRejected())
+                .errorMessage(job.getErrorMessage())
+                .createdBy(job.getCreatedBy())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
@@ -1,72 +1,185 @@
 package com.ainexus.hpm.patient.service.impl;
 
+import com.ainexus.hpm.patient.cache.PatientInvalidation;
+import com.ainexus.hpm.patient.cache.PatientInvalidationPublisher;
+import com.ainexus.hpm.patient.cache.PatientProfileCache;
+import com.ainexus.hpm.patient.dto.request.PatientPatchRequest;
 import com.ainexus.hpm.patient.dto.request.PatientRegistrationRequest;
 import com.ainexus.hpm.patient.dto.request.PatientUpdateRequest;
+import com.ainexus.hpm.patient.dto.response.BatchRegistrationItemResult;
+import com.ainexus.hpm.patient.dto.response.BatchRegistrationResponse;
 import com.ainexus.hpm.patient.dto.response.PagedResponse;
+import com.ainexus.hpm.patient.dto.response.PatientLookupResponse;
 import com.ainexus.hpm.patient.dto.response.PatientResponse;
+import com.ainexus.hpm.patient.dto.response.PatientStatusChangeResponse;
 import com.ainexus.hpm.patient.dto.response.PatientSummaryResponse;
 import com.ainexus.hpm.patient.entity.Patient;
+import com.ainexus.hpm.patient.enums.BatchItemStatus;
 import com.ainexus.hpm.patient.enums.BloodGroup;
+import com.ainexus.hpm.patient.enums.CountMode;
+import com.ainexus.hpm.patient.enums.EditOutcome;
 import com.ainexus.hpm.patient.enums.Gender;
+import com.ainexus.hpm.patient.enums.PatientEventType;
+import com.ainexus.hpm.patient.enums.PatientProjection;
 import com.ainexus.hpm.patient.enums.PatientStatus;
 import com.ainexus.hpm.patient.enums.PatientStatusFilter;
 import com.ainexus.hpm.patient.exception.PatientNotFoundException;
+import com.ainexus.hpm.patient.exception.PatientPreconditionFailedException;
 import com.ainexus.hpm.patient.exception.PatientStatusConflictException;
 import com.ainexus.hpm.patient.mapper.PatientMapper;
+import com.ainexus.hpm.patient.outbox.PatientEventOutbox;
 import com.ainexus.hpm.patient.repository.PatientRepository;
+import com.ainexus.hpm.patient.repository.PatientSummaryView;
+import com.ainexus.hpm.patient.search.PatientCursor;
+import com.ainexus.hpm.patient.search.PatientSearchCounter;
+import com.ainexus.hpm.patient.search.PatientSearchCriteria;
+import com.ainexus.hpm.patient.search.PatientSearchStrategy;
+import com.ainexus.hpm.patient.search.PatientSpecifications;
 import com.ainexus.hpm.patient.service.PatientIdGenerator;
 import com.ainexus.hpm.patient.service.PatientService;
-import jakarta.persistence.criteria.Predicate;
+import com.ainexus.hpm.patient.validator.PhoneNumbers;
+import com.ainexus.hpm.patient.validator.RegistrationRequestValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PatientServiceImpl implements PatientService {
 
+    // patientId breaks createdAt ties so every row has exactly one keyset position
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("patientId"));
+
     private final PatientRepository patientRepository;
     private final PatientMapper patientMapper;
     private final PatientIdGenerator patientIdGeneratorService;
+    private final PatientSearchStrategy patientSearchStrategy;
+    private final PatientSearchCounter patientSearchCounter;
+    private final PatientProfileCache patientProfileCache;
+    private final PatientInvalidationPublisher patientInvalidationPublisher;
+    private final RegistrationRequestValidator registrationRequestValidator;
+    private final PatientEventOutbox patientEventOutbox;
 
     @Override
     @Transactional
     public PatientResponse registerPatient(PatientRegistrationRequest request, String userId) {
         log.info("Registering new patient by userId={}", userId);
 
-        // Check for duplicate phone (soft warning) — log patientId only, never the phone number (PHI)
-        boolean duplicatePhone = patientRepository.existsByPhoneNumber(request.getPhoneNumber());
-
-        // generatePatientId runs in its own REQUIRES_NEW + SERIALIZABLE transaction
-        // via PatientIdGeneratorService so the isolation is actually enforced by the DB
+        // ID generation never joins this transaction — the block generator reserves counters
+        // in its own REQUIRES_NEW UPDATE, the legacy generator in its own SERIALIZABLE tx
         String patientId = patientIdGeneratorService.generatePatientId();
+        Patient patient = patientMapper.toEntity(request, patientId, userId);
 
+        // Insert and duplicate-phone check (soft warning) are one round-trip
+        boolean duplicatePhone = patientRepository.insertReportingDuplicatePhone(patient);
         if (duplicatePhone) {
+            // Log patientId only, never the phone number (PHI)
             log.warn("Duplicate phone detected for incoming registration, generatedPatientId={}", patientId);
         }
-
-        Patient patient = patientMapper.toEntity(request, patientId, userId);
-        Patient saved = patientRepository.save(patient);
+        patientEventOutbox.record(PatientEventType.REGISTERED, patient);
         log.info("Patient registered successfully with ID: {}", patientId);
 
-        PatientResponse response = patientMapper.toResponse(saved);
+        PatientResponse response = patientMapper.toResponse(patient);
         if (duplicatePhone) {
             response.setDuplicatePhoneWarning(true);
         }
         return response;
     }
 
+    @Override
+    @Transactional
+    public BatchRegistrationResponse registerPatients(List<PatientRegistrationRequest> requests, String userId) {
+        log.info("Registering batch of {} patients by userId={}", requests.size(), userId);
+
+        BatchRegistrationItemResult[] results = new BatchRegistrationItemResult[requests.size()];
+        List<Integer> accepted = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            Map<String, String> errors = registrationRequestValidator.validate(requests.get(i));
+            if (errors.isEmpty()) {
+                accepted.add(i);
+            } else {
+                results[i] = BatchRegistrationItemResult.builder()
+                        .index(i)
+                        .status(BatchItemStatus.REJECTED)
+                        .errors(errors)
+                        .build();
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            Set<String> phones = accepted.stream()
+                    .map(i -> PhoneNumbers.normalize(requests.get(i).getPhoneNumber().trim()))
+                    .collect(Collectors.toSet());
+            Set<String> existingPhones = patientRepository.findExistingNormalizedPhones(phones);
+            // One counter reservation for the whole batch instead of one per patient
+            List<String> patientIds = patientIdGeneratorService.generatePatientIds(accepted.size());
+
+            Set<String> batchPhones = new HashSet<>();
+            List<Patient> patients = new ArrayList<>(accepted.size());
+            int duplicatePhones = 0;
+            for (int k = 0; k < accepted.size(); k++) {
+                int index = accepted.get(k);
+                Patient patient = patientMapper.toEntity(requests.get(index), patientIds.get(k), userId);
+                // Earlier entries of the same batch count as existing owners of the number
+                boolean duplicatePhone = existingPhones.contains(patient.getPhoneNormalized())
+                        | !batchPhones.add(patient.getPhoneNormalized());
+                if (duplicatePhone) {
+                    duplicatePhones++;
+                }
+                patients.add(patient);
+                results[index] = BatchRegistrationItemResult.builder()
+                        .index(index)
+                        .status(BatchItemStatus.CREATED)
+                        .patientId(patient.getPatientId())
+                        .duplicatePhoneWarning(duplicatePhone ? Boolean.TRUE : null)
+                        .build();
+            }
+            if (duplicatePhones > 0) {
+                log.warn("Duplicate phones detected in batch registration, count={}", duplicatePhones);
+            }
+
+            // Persisted in hibernate.jdbc.batch_size INSERT batches at flush
+            patientRepository.saveAll(patients);
+            patientEventOutbox.recordAll(PatientEventType.REGISTERED, patients);
+        }
+
+        log.info("Batch registration finished: created={}, rejected={}",
+                accepted.size(), requests.size() - accepted.size());
+        return BatchRegistrationResponse.builder()
+                .received(requests.size())
+                .created(accepted.size())
+                .rejected(requests.size() - accepted.size())
+                .results(Arrays.asList(results))
+                .build();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<PatientSummaryResponse> searchPatients(
@@ -75,50 +188,174 @@ public class PatientServiceImpl implements PatientService {
             Gender gender,
             BloodGroup bloodGroup,
             int page,
-            int size) {
+            int size,
+            CountMode countMode) {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Specification<Patient> spec = buildSearchSpec(search, status, gender, bloodGroup);
+        PatientSearchCriteria criteria = buildCriteria(search, status, gender, bloodGroup);
+        Specification<Patient> spec = patientSearchStrategy.toSpecification(criteria);
 
-        Page<Patient> patientPage = patientRepository.findAll(spec, pageable);
-        List<PatientSummaryResponse> content = patientPage.getContent()
-                .stream()
+        CountMode mode = patientSearchCounter.resolveMode(countMode, criteria);
+        if (mode == CountMode.SKIP) {
+            return searchWithoutCount(spec, pageable);
+        }
+
+        OptionalLong total = switch (mode) {
+            case ESTIMATE -> patientSearchCounter.estimatedTotal();
+            case CACHED -> OptionalLong.of(patientSearchCounter.cachedTotal(criteria, spec));
+            default -> OptionalLong.empty();
+        };
+        if (total.isEmpty()) {
+            // EXACT, or ESTIMATE on a table that has never been analyzed
+            return toPagedResponse(patientRepository.findSummaryPage(spec, pageable), CountMode.EXACT);
+        }
+
+        List<PatientSummaryView> rows = patientRepository.findSummaries(spec, pageable.getSort(), pageable.getOffset(), size);
+        return toPagedResponse(new PageImpl<>(rows, pageable, total.getAsLong()), mode);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<PatientSummaryResponse> searchPatientsKeyset(
+            String search,
+            PatientStatusFilter status,
+            Gender gender,
+            BloodGroup bloodGroup,
+            String cursor,
+            int size) {
+
+        Specification<Patient> spec = patientSearchStrategy.toSpecification(
+                buildCriteria(search, status, gender, bloodGroup));
+        if (cursor != null) {
+            spec = spec.and(PatientSpecifications.afterCursor(PatientCursor.decode(cursor)));
+        }
+
+        // One extra row tells us whether another page exists — no COUNT query
+        List<PatientSummaryView> rows = patientRepository.findSummaries(spec, KEYSET_SORT, size + 1);
+        boolean hasMore = rows.size() > size;
+        List<PatientSummaryView> pageRows = hasMore ? rows.subList(0, size) : rows;
+
+        List<PatientSummaryResponse> content = pageRows.stream()
                 .map(patientMapper::toSummaryResponse)
                 .toList();
 
         return PagedResponse.<PatientSummaryResponse>builder()
                 .content(content)
-                .page(patientPage.getNumber())
-                .size(patientPage.getSize())
-                .totalElements(patientPage.getTotalElements())
-                .totalPages(patientPage.getTotalPages())
-                .first(patientPage.isFirst())
-                .last(patientPage.isLast())
+                .size(size)
+                .countMode(CountMode.SKIP)
+                .first(cursor == null)
+                .last(!hasMore)
+                .nextCursor(hasMore ? PatientCursor.of(pageRows.get(size - 1)).encode() : null)
                 .build();
     }
 
     @Override
     @Transactional(readOnly = true)
     public PatientResponse getPatientById(String patientId) {
-        Patient patient = findPatientOrThrow(patientId);
-        return patientMapper.toResponse(patient);
+        return patientProfileCache.get(patientId).orElseGet(() -> {
+            Patient patient = findPatientOrThrow(patientId);
+            PatientResponse response = patientMapper.toResponse(patient);
+            patientProfileCache.put(response, versionOf(patient));
+            return response;
+        });
+    }
+
+    /**
+     * Not @Transactional: a cache hit needs no connection, and the version query is a single
+     * statement.
+     */
+    @Override
+    public int getPatientVersion(String patientId) {
+        OptionalInt cached = patientProfileCache.version(patientId);
+        if (cached.isPresent()) {
+            return cached.getAsInt();
+        }
+        return patientRepository.findVersionByPatientId(patientId)
+                .orElseThrow(() -> new PatientNotFoundException(patientId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PatientLookupResponse<PatientResponse> lookupPatients(List<String> patientIds) {
+        Set<String> ids = new LinkedHashSet<>(patientIds);
+        Map<String, PatientResponse> found = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String patientId : ids) {
+            patientProfileCache.get(patientId).ifPresentOrElse(
+                    profile -> found.put(patientId, profile), () -> misses.add(patientId));
+        }
+        if (!misses.isEmpty()) {
+            for (Patient patient : patientRepository.findAllByPatientIds(misses)) {
+                PatientResponse response = patientMapper.toResponse(patient);
+                patientProfileCache.put(response, versionOf(patient));
+                found.put(patient.getPatientId(), response);
+            }
+        }
+        return PatientLookupResponse.of(PatientProjection.FULL, ids, found);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PatientLookupResponse<PatientSummaryResponse> lookupPatientSummaries(List<String> patientIds) {
+        Set<String> ids = new LinkedHashSet<>(patientIds);
+        Map<String, PatientSummaryResponse> found = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String patientId : ids) {
+            patientProfileCache.get(patientId).ifPresentOrElse(
+                    profile -> found.put(patientId, patientMapper.toSummaryResponse(profile)),
+                    () -> misses.add(patientId));
+        }
+        if (!misses.isEmpty()) {
+            for (PatientSummaryView row : patientRepository.findSummariesByPatientIds(misses)) {
+                found.put(row.patientId(), patientMapper.toSummaryResponse(row));
+            }
+        }
+        return PatientLookupResponse.of(PatientProjection.SUMMARY, ids, found);
     }
 
     @Override
     @Transactional
-    public PatientResponse updatePatient(String patientId, PatientUpdateRequest request, String userId) {
+    public PatientResponse updatePatient(String patientId, PatientUpdateRequest request, String userId,
+                                         Integer expectedVersion) {
         log.info("Updating patient: {} by user: {}", patientId, userId);
+        return applyEdit(patientId, expectedVersion, patient -> patientMapper.updateEntity(patient, request, userId));
+    }
+
+    @Override
+    @Transactional
+    public PatientResponse patchPatient(String patientId, PatientPatchRequest request, String userId,
+                                        Integer expectedVersion) {
+        log.info("Patching patient: {} by user: {}", patientId, userId);
+        return applyEdit(patientId, expectedVersion, patient -> patientMapper.patchEntity(patient, request, userId));
+    }
+
+    /**
+     * Loads the patient and applies {@code edit}, which reports what it changed. A no-op edit
+     * returns the current profile without a write, outbox event or version bump; otherwise
+     * @DynamicUpdate limits the UPDATE to the changed columns. Only an edit that changed the
+     * phone pays for the duplicate-phone lookup.
+     */
+    private PatientResponse applyEdit(String patientId, Integer expectedVersion, Function<Patient, EditOutcome> edit) {
         Patient patient = findPatientOrThrow(patientId);
-        patientMapper.updateEntity(patient, request, userId);
+        checkExpectedVersion(patient, expectedVersion);
+        EditOutcome outcome = edit.apply(patient);
+        if (outcome == EditOutcome.UNCHANGED) {
+            log.info("Patient {} unchanged, write skipped", patientId);
+            return patientMapper.toResponse(patient);
+        }
 
-        // Duplicate phone check for update — warn if another patient owns this number
-        boolean duplicatePhone = patientRepository
-                .existsByPhoneNumberAndPatientIdNot(request.getPhoneNumber(), patientId);
+        // Duplicate phone check, only for a new number — a null (not yet backfilled) or
+        // unnormalizable value would otherwise match every other such row
+        String phone = patient.getPhoneNormalized();
+        boolean duplicatePhone = outcome == EditOutcome.PHONE_CHANGED && PhoneNumbers.isComparable(phone)
+                && patientRepository.existsByPhoneNormalizedAndPatientIdNot(phone, patientId);
         if (duplicatePhone) {
             log.warn("Duplicate phone detected during update, patientId={}", patientId);
         }
 
         Patient saved = patientRepository.save(patient);
+        patientEventOutbox.record(PatientEventType.UPDATED, saved);
+        syncProfileCachesOnCommit(saved);
         log.info("Patient {} updated successfully", patientId);
 
         PatientResponse response = patientMapper.toResponse(saved);
@@ -130,96 +367,189 @@ public class PatientServiceImpl implements PatientService {
 
     @Override
     @Transactional
-    public PatientResponse deactivatePatient(String patientId, String userId) {
+    public PatientResponse deactivatePatient(String patientId, String userId, Integer expectedVersion) {
         log.info("Deactivating patient: {} by user: {}", patientId, userId);
-        Patient patient = findPatientOrThrow(patientId);
-
-        if (patient.getStatus() == PatientStatus.INACTIVE) {
-            throw new PatientStatusConflictException("Patient " + patientId + " is already inactive");
-        }
-
-        LocalDateTime now = LocalDateTime.now();
-        patient.setStatus(PatientStatus.INACTIVE);
-        patient.setDeactivatedAt(now);
-        patient.setDeactivatedBy(userId);
-        patient.setUpdatedAt(now);
-        patient.setUpdatedBy(userId);
-
-        Patient saved = patientRepository.save(patient);
+        Patient saved = transitionStatus(patientId, PatientStatus.ACTIVE, PatientStatus.INACTIVE, userId, expectedVersion);
+        patientEventOutbox.record(PatientEventType.DEACTIVATED, saved);
+        syncProfileCachesOnCommit(saved);
         log.info("Patient {} deactivated successfully", patientId);
         return patientMapper.toResponse(saved);
     }
 
     @Override
     @Transactional
-    public PatientResponse activatePatient(String patientId, String userId) {
+    public PatientResponse activatePatient(String patientId, String userId, Integer expectedVersion) {
         log.info("Activating patient: {} by user: {}", patientId, userId);
-        Patient patient = findPatientOrThrow(patientId);
+        Patient saved = transitionStatus(patientId, PatientStatus.INACTIVE, PatientStatus.ACTIVE, userId, expectedVersion);
+        patientEventOutbox.record(PatientEventType.ACTIVATED, saved);
+        syncProfileCachesOnCommit(saved);
+        log.info("Patient {} activated successfully", patientId);
+        return patientMapper.toResponse(saved);
+    }
 
-        if (patient.getStatus() == PatientStatus.ACTIVE) {
-            throw new PatientStatusConflictException("Patient " + patientId + " is already active");
+    @Override
+    @Transactional
+    public PatientStatusChangeResponse changePatientStatuses(List<String> patientIds, PatientStatus status, String userId) {
+        Set<String> ids = new LinkedHashSet<>(patientIds);
+        log.info("Changing status of {} patients to {} by user: {}", ids.size(), status, userId);
+        PatientStatus from = status == PatientStatus.ACTIVE ? PatientStatus.INACTIVE : PatientStatus.ACTIVE;
+        List<Patient> changed = patientRepository.transitionStatuses(ids, from, status, userId, LocalDateTime.now());
+
+        Map<String, Integer> changedVersions = new HashMap<>();
+        changed.forEach(patient -> changedVersions.put(patient.getPatientId(), versionOf(patient)));
+        Set<String> existing = Set.of();
+        if (changed.size() < ids.size()) {
+            // The IDs the UPDATE skipped either do not exist or are already in the target status
+            existing = patientRepository.findExistingPatientIds(
+                    ids.stream().filter(id -> !changedVersions.containsKey(id)).toList());
+        }
+        if (!changed.isEmpty()) {
+            patientEventOutbox.recordAll(
+                    status == PatientStatus.ACTIVE ? PatientEventType.ACTIVATED : PatientEventType.DEACTIVATED, changed);
+            syncProfileCachesOnCommit(changed);
         }
 
-        LocalDateTime now = LocalDateTime.now();
-        patient.setStatus(PatientStatus.ACTIVE);
-        patient.setActivatedAt(now);
-        patient.setActivatedBy(userId);
-        patient.setUpdatedAt(now);
-        patient.setUpdatedBy(userId);
-
-        Patient saved = patientRepository.save(patient);
-        log.info("Patient {} activated successfully", patientId);
-        return patientMapper.toResponse(saved);
+        log.info("Status change to {} finished: changed={}, unchanged={}", status, changed.size(), ids.size() - changed.size());
+        return PatientStatusChangeResponse.of(status, ids, changedVersions, existing);
     }
 
     // -------------------------------------------------------------------------
     // Private helpers
     // -------------------------------------------------------------------------
 
-    private Patient findPatientOrThrow(String patientId) {
-        return patientRepository.findByPatientId(patientId)
-                .orElseThrow(() -> new PatientNotFoundException(patientId));
+    /**
+     * Numbered page without a total: one extra row decides whether a next page exists.
+     */
+    private PagedResponse<PatientSummaryResponse> searchWithoutCount(Specification<Patient> spec, Pageable pageable) {
+        int size = pageable.getPageSize();
+        List<PatientSummaryView> rows = patientRepository.findSummaries(spec, pageable.getSort(), pageable.getOffset(), size + 1);
+        boolean hasNext = rows.size() > size;
+
+        return PagedResponse.<PatientSummaryResponse>builder()
+                .content((hasNext ? rows.subList(0, size) : rows).stream()
+                        .map(patientMapper::toSummaryResponse)
+                        .toList())
+                .page(pageable.getPageNumber())
+                .size(size)
+                .countMode(CountMode.SKIP)
+                .first(pageable.getPageNumber() == 0)
+                .last(!hasNext)
+                .build();
     }
 
-    private Specification<Patient> buildSearchSpec(
-            String search,
-            PatientStatusFilter status,
-            Gender gender,
-            BloodGroup bloodGroup) {
+    private PagedResponse<PatientSummaryResponse> toPagedResponse(Page<PatientSummaryView> patientPage, CountMode countMode) {
+        List<PatientSummaryResponse> content = patientPage.getContent()
+                .stream()
+                .map(patientMapper::toSummaryResponse)
+                .toList();
 
-        return (root, query, cb) -> {
-            List<Predicate> predicates = new ArrayList<>();
+        return PagedResponse.<PatientSummaryResponse>builder()
+                .content(content)
+                .page(patientPage.getNumber())
+                .size(patientPage.getSize())
+                .totalElements(patientPage.getTotalElements())
+                .totalPages(patientPage.getTotalPages())
+                .countMode(countMode)
+                .first(patientPage.isFirst())
+                .last(patientPage.isLast())
+                .build();
+    }
 
-            // Status filter — null or ALL means no filter
-            if (status != null && status != PatientStatusFilter.ALL) {
-                PatientStatus entityStatus = PatientStatus.valueOf(status.name());
-                predicates.add(cb.equal(root.get("status"), entityStatus));
-            }
+    /**
+     * Keeps profile caches in step with a write. Locally the entry is a pending marker while the
+     * transaction commits and holds the re-mapped entity (with its flushed @Version) once it has;
+     * a rollback drops it so the next read reloads from the database. Other instances are told
+     * through the invalidation publisher, which only delivers if this transaction commits.
+     */
+    private void syncProfileCachesOnCommit(Patient saved) {
+        // Callers record the outbox event first, which flushes — this is the version the row commits with
+        patientInvalidationPublisher.publish(new PatientInvalidation(saved.getPatientId(), versionOf(saved)));
+        refreshProfileCacheOnCommit(List.of(saved));
+    }
+
+    /**
+     * Bulk counterpart of {@link #syncProfileCachesOnCommit(Patient)}: the invalidations go out together.
+     */
+    private void syncProfileCachesOnCommit(List<Patient> saved) {
+        patientInvalidationPublisher.publishAll(saved.stream()
+                .map(patient -> new PatientInvalidation(patient.getPatientId(), versionOf(patient)))
+                .toList());
+        refreshProfileCacheOnCommit(saved);
+    }
 
-            // Gender filter (null = ALL)
-            if (gender != null) {
-                predicates.add(cb.equal(root.get("gender"), gender));
+    private void refreshProfileCacheOnCommit(List<Patient> saved) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            saved.forEach(patient -> patientProfileCache.refresh(patientMapper.toResponse(patient), versionOf(patient)));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                saved.forEach(patient -> patientProfileCache.markPending(patient.getPatientId(), versionOf(patient)));
             }
 
-            // Blood group filter
-            if (bloodGroup != null) {
-                predicates.add(cb.equal(root.get("bloodGroup"), bloodGroup));
+            @Override
+            public void afterCommit() {
+                saved.forEach(patient -> patientProfileCache.refresh(patientMapper.toResponse(patient), versionOf(patient)));
             }
 
-            // Full-text search across patientId, firstName, lastName, phoneNumber, email
-            if (search != null && !search.isBlank()) {
-                String pattern = "%" + search.toLowerCase() + "%";
-                Predicate searchPredicate = cb.or(
-                        cb.like(cb.lower(root.get("patientId")), pattern),
-                        cb.like(cb.lower(root.get("firstName")), pattern),
-                        cb.like(cb.lower(root.get("lastName")), pattern),
-                        cb.like(cb.lower(root.get("phoneNumber")), pattern),
-                        cb.like(cb.lower(root.get("email")), pattern)
-                );
-                predicates.add(searchPredicate);
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    saved.forEach(patient -> patientProfileCache.evict(patient.getPatientId()));
+                }
             }
+        });
+    }
 
-            return cb.and(predicates.toArray(new Predicate[0]));
-        };
+    /**
+     * Status flip as one conditional UPDATE ... RETURNING. Only when it matches nothing is the row
+     * read, to report which condition failed: existence, the If-Match version, or the status.
+     */
+    private Patient transitionStatus(String patientId, PatientStatus from, PatientStatus to,
+                                     String userId, Integer expectedVersion) {
+        Optional<Patient> changed = patientRepository.transitionStatus(
+                patientId, from, to, expectedVersion, userId, LocalDateTime.now());
+        if (changed.isPresent()) {
+            return changed.get();
+        }
+        Patient current = findPatientOrThrow(patientId);
+        checkExpectedVersion(current, expectedVersion);
+        if (current.getStatus() == to) {
+            throw new PatientStatusConflictException(
+                    "Patient " + patientId + " is already " + to.name().toLowerCase(Locale.ROOT));
+        }
+        // Every condition holds on the re-read, so a concurrent write moved the row in between
+        throw new ObjectOptimisticLockingFailureException(Patient.class, patientId);
+    }
+
+    /**
+     * If-Match check. For updates, the loaded row is the one the UPDATE is guarded on by
+     * @Version, so a write committed after this check still fails, with
+     * OptimisticLockingFailureException.
+     */
+    private static void checkExpectedVersion(Patient patient, Integer expectedVersion) {
+        if (expectedVersion != null && expectedVersion != versionOf(patient)) {
+            throw new PatientPreconditionFailedException(patient.getPatientId());
+        }
+    }
+
+    private static int versionOf(Patient patient) {
+        return patient.getVersion() != null ? patient.getVersion() : 0;
+    }
+
+    private static PatientSearchCriteria buildCriteria(
+            String search, PatientStatusFilter status, Gender gender, BloodGroup bloodGroup) {
+        return PatientSearchCriteria.builder()
+                .search(search)
+                .status(status)
+                .gender(gender)
+                .bloodGroup(bloodGroup)
+                .build();
+    }
+
+    private Patient findPatientOrThrow(String patientId) {
+        return patientRepository.findByPatientId(patientId)
+                .orElseThrow(() -> new PatientNotFoundException(patientId));
     }
 }
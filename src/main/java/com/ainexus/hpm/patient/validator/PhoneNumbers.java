@@ -0,0 +1,85 @@
+package com.ainexus.hpm.patient.validator;
+
+/**
+ * Single-pass scanner for the accepted phone formats: +1-XXX-XXX-XXXX, (XXX) XXX-XXXX and
+ * XXX-XXX-XXXX. The format is chosen from the first character and the value is compared
+ * against that one template character by character, so validation allocates nothing.
+ *
+ * {@link #normalize} returns the E.164 form (+1 followed by the 10 national digits), which is
+ * the same for every accepted spelling of a number. {@link #UNNORMALIZABLE} marks a stored
+ * phone that has no E.164 form.
+ */
+public final class PhoneNumbers {
+
+    /** Stored as phone_normalized for a legacy phone with no E.164 form; never a real number. */
+    public static final String UNNORMALIZABLE = "";
+
+    // '#' matches one digit; every other character must match literally
+    private static final String INTERNATIONAL = "+1-###-###-####";
+    private static final String PARENTHESIZED = "(###) ###-####";
+    private static final String DASHED = "###-###-####";
+
+    private static final String COUNTRY_CODE = "+1";
+    private static final int NATIONAL_DIGITS = 10;
+
+    private PhoneNumbers() {
+    }
+
+    public static boolean isValid(CharSequence value) {
+        return templateFor(value) != null;
+    }
+
+    /**
+     * E.164 form of an accepted number, e.g. "(555) 867-5309" → "+15558675309"; null when the
+     * value is not in an accepted format.
+     */
+    public static String normalize(CharSequence value) {
+        String template = templateFor(value);
+        if (template == null) {
+            return null;
+        }
+        char[] e164 = new char[COUNTRY_CODE.length() + NATIONAL_DIGITS];
+        COUNTRY_CODE.getChars(0, COUNTRY_CODE.length(), e164, 0);
+        int next = COUNTRY_CODE.length();
+        for (int i = 0; i < template.length(); i++) {
+            if (template.charAt(i) == '#') {
+                e164[next++] = value.charAt(i);
+            }
+        }
+        return new String(e164);
+    }
+
+    /**
+     * Whether a stored phone_normalized value is a real E.164 number that duplicate checks may
+     * compare — false for rows not yet backfilled (null) and for {@link #UNNORMALIZABLE}.
+     */
+    public static boolean isComparable(String phoneNormalized) {
+        return phoneNormalized != null && !phoneNormalized.equals(UNNORMALIZABLE);
+    }
+
+    private static String templateFor(CharSequence value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        String template = switch (value.charAt(0)) {
+            case '+' -> INTERNATIONAL;
+            case '(' -> PARENTHESIZED;
+            default -> DASHED;
+        };
+        return matches(value, template) ? template : null;
+    }
+
+    private static boolean matches(CharSequence value, String template) {
+        if (value.length() != template.length()) {
+            return false;
+        }
+        for (int i = 0; i < template.length(); i++) {
+            char expected = template.charAt(i);
+            char actual = value.charAt(i);
+            if (expected == '#' ? actual < '0' || actual > '9' : actual != expected) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -5,15 +5,10 @@ import jakarta.validation.ConstraintValidatorContext;
 
 public class PhoneValidator implements ConstraintValidator<ValidPhone, String> {
 
-    // Accepts: +1-XXX-XXX-XXXX  |  (XXX) XXX-XXXX  |  XXX-XXX-XXXX
-    private static final String PHONE_REGEX =
-            "^(\\+1-\\d{3}-\\d{3}-\\d{4}|\\(\\d{3}\\) \\d{3}-\\d{4}|\\d{3}-\\d{3}-\\d{4})$";
-
+    // Accepts: +1-XXX-XXX-XXXX  |  (XXX) XXX-XXXX  |  XXX-XXX-XXXX — see PhoneNumbers.
+    // Null is left to @NotBlank, so optional fields (PatientPatchRequest) can carry @ValidPhone.
     @Override
     public boolean isValid(String value, ConstraintValidatorContext context) {
-        if (value == null || value.isBlank()) {
-            return false;
-        }
-        return value.matches(PHONE_REGEX);
+        return value == null || PhoneNumbers.isValid(value);
     }
 }
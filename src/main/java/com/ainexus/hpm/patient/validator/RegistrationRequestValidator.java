@@ -0,0 +1,38 @@
+package com.ainexus.hpm.patient.validator;
+
+import com.ainexus.hpm.patient.dto.request.PatientRegistrationRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Applies the PatientRegistrationRequest constraints (including {@link ValidPhone}) to one
+ * record at a time, for bulk paths where a single bad record must not fail the whole request.
+ * Errors are keyed by field name like the single-registration validation response.
+ */
+@Component
+public class RegistrationRequestValidator {
+
+    private final Validator validator;
+
+    public RegistrationRequestValidator(Validator validator) {
+        this.validator = validator;
+    }
+
+    /**
+     * Field → message for every violated constraint; empty when the request is valid.
+     */
+    public Map<String, String> validate(PatientRegistrationRequest request) {
+        if (request == null) {
+            return Map.of("request", "Patient entry must not be null");
+        }
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (ConstraintViolation<PatientRegistrationRequest> violation : validator.validate(request)) {
+            errors.putIfAbsent(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors;
+    }
+}
@@ -0,0 +1,94 @@
+package com.ainexus.hpm.patient.web;
+
+import java.time.Duration;
+
+/**
+ * Concurrency limit that adapts to observed latency with additive-increase /
+ * multiplicative-decrease.
+ *
+ * While requests finish under the latency threshold and at least half the limit is in use, the
+ * limit grows by roughly one per limit's worth of completions. A slow completion or a dropped
+ * request (5xx, exception) multiplies it by the backoff ratio. When PostgreSQL slows down the
+ * limit therefore falls to what the database can serve within the threshold, and excess
+ * requests are turned away at the door instead of queueing for a pool connection.
+ *
+ * All methods are short and non-blocking, so the monitor is never held across I/O.
+ */
+public class AimdConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private double limit;
+    private int inFlight;
+
+    public AimdConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Admission limits must satisfy 1 <= min <= initial <= max");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("patient.admission.backoff-ratio must be between 0 and 1");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Admits a request if fewer than {@code share} of the current limit are in flight.
+     *
+     * @param share fraction of the limit this request class may occupy, in (0, 1]
+     * @return true if admitted; the caller must then report exactly one completion
+     */
+    public synchronized boolean tryAcquire(double share) {
+        int allowed = Math.max(1, (int) (limit * share));
+        if (inFlight >= allowed) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * Completion that feeds the latency signal.
+     */
+    public synchronized void onSuccess(long latencyNanos) {
+        inFlight--;
+        if (latencyNanos > latencyThresholdNanos) {
+            decrease();
+        } else if (inFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    /**
+     * Completion that failed in a way that suggests overload.
+     */
+    public synchronized void onDropped() {
+        inFlight--;
+        decrease();
+    }
+
+    /**
+     * Completion whose latency says nothing about load, e.g. a streamed export.
+     */
+    public synchronized void onIgnored() {
+        inFlight--;
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private void decrease() {
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+}
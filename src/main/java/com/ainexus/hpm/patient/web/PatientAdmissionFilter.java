@@ -0,0 +1,122 @@
+package com.ainexus.hpm.patient.web;
+
+import com.ainexus.hpm.patient.dto.response.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Sheds /api requests beyond an {@link AimdConcurrencyLimit} with 503 + Retry-After.
+ *
+ * Requests are never queued: when PostgreSQL slows down the limit shrinks and the excess fails
+ * immediately, instead of every request waiting up to the Hikari connection-timeout. Bulk
+ * requests (list searches, the change feed, export, import, batch registration, multi-get
+ * lookups) may use only
+ * bulk-share of the limit, which keeps the rest free for profile reads and single-patient
+ * writes. Only those interactive requests feed the limit's latency signal; a long export is not
+ * a sign of overload.
+ *
+ * Meters: patient.admission.limit, patient.admission.in.flight and patient.admission.rejected
+ * (tagged priority).
+ */
+public class PatientAdmissionFilter extends OncePerRequestFilter {
+
+    static final String RETRY_AFTER_SECONDS = "1";
+    static final String REJECTION_MESSAGE = "The service is at capacity. Please retry shortly.";
+
+    private static final String PATIENTS_PATH = "/api/v1/patients";
+    private static final String[] BULK_PREFIXES = {
+            PATIENTS_PATH + "/batch", PATIENTS_PATH + "/changes", PATIENTS_PATH + "/export", PATIENTS_PATH + "/imports",
+            PATIENTS_PATH + "/lookup"};
+
+    enum Priority { INTERACTIVE, BULK }
+
+    private final AimdConcurrencyLimit limit;
+    private final double bulkShare;
+    private final ObjectMapper objectMapper;
+    private final Map<Priority, Counter> rejectedCounters = new EnumMap<>(Priority.class);
+
+    public PatientAdmissionFilter(AimdConcurrencyLimit limit, double bulkShare, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        if (bulkShare <= 0 || bulkShare > 1) {
+            throw new IllegalArgumentException("patient.admission.bulk-share must be in (0, 1]");
+        }
+        this.limit = limit;
+        this.bulkShare = bulkShare;
+        this.objectMapper = objectMapper;
+        Gauge.builder("patient.admission.limit", limit, AimdConcurrencyLimit::getLimit)
+                .description("Current adaptive concurrency limit for API requests")
+                .register(meterRegistry);
+        Gauge.builder("patient.admission.in.flight", limit, AimdConcurrencyLimit::getInFlight)
+                .description("API requests currently admitted")
+                .register(meterRegistry);
+        for (Priority priority : Priority.values()) {
+            rejectedCounters.put(priority, Counter.builder("patient.admission.rejected")
+                    .description("API requests shed with 503 because the concurrency limit was reached")
+                    .tag("priority", priority.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Priority priority = priorityOf(request);
+        if (!limit.tryAcquire(priority == Priority.BULK ? bulkShare : 1.0)) {
+            rejectedCounters.get(priority).increment();
+            reject(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            chain.doFilter(request, response);
+            dropped = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            if (dropped) {
+                limit.onDropped();
+            } else if (priority == Priority.INTERACTIVE) {
+                limit.onSuccess(System.nanoTime() - start);
+            } else {
+                limit.onIgnored();
+            }
+        }
+    }
+
+    static Priority priorityOf(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (PATIENTS_PATH.equals(path) && HttpMethod.GET.matches(request.getMethod())) {
+            return Priority.BULK;
+        }
+        for (String prefix : BULK_PREFIXES) {
+            if (path.startsWith(prefix)) {
+                return Priority.BULK;
+            }
+        }
+        return Priority.INTERACTIVE;
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(REJECTION_MESSAGE));
+    }
+}
@@ -0,0 +1,81 @@
+package com.ainexus.hpm.patient.web;
+
+import com.ainexus.hpm.patient.dto.response.PatientResponse;
+
+/**
+ * Strong entity tags for patient profiles, built from the patientId and the row's @Version,
+ * e.g. {@code "P2026001-3"}. Every committed write bumps the version, so a tag can be checked
+ * against a version-only query without loading the profile.
+ *
+ * The one part of a profile that changes without a write is age, which is derived from the
+ * date of birth when the profile is mapped; it can be a day stale behind a matching tag.
+ */
+public final class PatientETags {
+
+    /**
+     * Expected version that no row ever has: an If-Match tag that cannot match this patient.
+     */
+    public static final int NO_MATCH = -1;
+
+    private static final String WILDCARD = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private PatientETags() {
+    }
+
+    public static String of(String patientId, int version) {
+        return "\"" + patientId + "-" + version + "\"";
+    }
+
+    /**
+     * Tag of a profile, or null when it carries no version.
+     */
+    public static String of(PatientResponse profile) {
+        return profile.getVersion() != null ? of(profile.getPatientId(), profile.getVersion()) : null;
+    }
+
+    /**
+     * Whether an If-None-Match header matches the current tag, so the client's copy is current.
+     * Uses weak comparison, as RFC 9110 prescribes for If-None-Match.
+     */
+    public static boolean notModified(String ifNoneMatch, String currentETag) {
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if (WILDCARD.equals(candidate) || opaque(candidate).equals(opaque(currentETag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The version an If-Match header requires the patient to be at: null when the header is
+     * absent or {@code *} (the write is unconditional), {@link #NO_MATCH} for a tag that is
+     * weak, malformed or belongs to another patient. Strong comparison, as for If-Match.
+     *
+     * @throws IllegalArgumentException if the header lists more than one tag
+     */
+    public static Integer expectedVersion(String patientId, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || WILDCARD.equals(ifMatch.trim())) {
+            return null;
+        }
+        String[] tags = ifMatch.split(",");
+        if (tags.length > 1) {
+            throw new IllegalArgumentException("If-Match must carry a single entity tag");
+        }
+        String tag = tags[0].trim();
+        String prefix = "\"" + patientId + "-";
+        if (!tag.startsWith(prefix) || !tag.endsWith("\"") || tag.length() <= prefix.length() + 1) {
+            return NO_MATCH;
+        }
+        try {
+            return Integer.parseInt(tag.substring(prefix.length(), tag.length() - 1));
+        } catch (NumberFormatException ex) {
+            return NO_MATCH;
+        }
+    }
+
+    private static String opaque(String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+}
@@ -0,0 +1,149 @@
+package com.ainexus.hpm.patient.cache;
+
+import com.ainexus.hpm.patient.dto.response.PatientResponse;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PatientProfileCache Unit Tests")
+class PatientProfileCacheTest {
+
+    private static final String ID = "P2026001";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = nanos::get;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PatientProfileCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new PatientProfileCache(100, Duration.ofMinutes(5), meterRegistry, ticker);
+    }
+
+    private static PatientResponse profile(String lastName) {
+        return PatientResponse.builder().patientId(ID).firstName("John").lastName(lastName).build();
+    }
+
+    // ─── get / put ───────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("get: returns a copy that callers cannot use to change the cached entry")
+    void get_returnsDefensiveCopy() {
+        cache.put(profile("Doe"), 0);
+
+        cache.get(ID).orElseThrow().setLastName("Changed");
+
+        assertThat(cache.get(ID)).get().extracting(PatientResponse::getLastName).isEqualTo("Doe");
+    }
+
+    @Test
+    @DisplayName("put: never replaces a newer version with an older one")
+    void put_olderVersion_ignored() {
+        cache.refresh(profile("Updated"), 3);
+        cache.put(profile("Stale"), 2);
+
+        assertThat(cache.get(ID)).get().extracting(PatientResponse::getLastName).isEqualTo("Updated");
+    }
+
+    @Test
+    @DisplayName("put: duplicate phone warning is not cached")
+    void put_dropsDuplicatePhoneWarning() {
+        PatientResponse response = profile("Doe");
+        response.setDuplicatePhoneWarning(true);
+
+        cache.put(response, 0);
+
+        assertThat(cache.get(ID)).get().extracting(PatientResponse::getDuplicatePhoneWarning).isNull();
+    }
+
+    // ─── pending writes ──────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("markPending: reads miss and same-version reads cannot refill until the write commits")
+    void markPending_blocksReadsUntilRefresh() {
+        cache.put(profile("Doe"), 4);
+        cache.markPending(ID, 4);
+
+        assertThat(cache.get(ID)).isEmpty();
+        cache.put(profile("Doe"), 4);
+        assertThat(cache.get(ID)).isEmpty();
+
+        cache.refresh(profile("Updated"), 5);
+        assertThat(cache.get(ID)).get().extracting(PatientResponse::getLastName).isEqualTo("Updated");
+    }
+
+    @Test
+    @DisplayName("markPending: a read of a newer committed version replaces the marker")
+    void markPending_newerRead_replacesMarker() {
+        cache.markPending(ID, 4);
+        cache.put(profile("Updated"), 5);
+
+        assertThat(cache.get(ID)).isPresent();
+    }
+
+    // ─── eviction & metrics ──────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("evictIfNotNewer: a lagging read of the old version cannot refill, the written version can")
+    void evictIfNotNewer_blocksOlderRefill() {
+        cache.put(profile("Doe"), 1);
+
+        cache.evictIfNotNewer(ID, 2);
+        cache.put(profile("Stale"), 1);
+        assertThat(cache.get(ID)).isEmpty();
+
+        cache.put(profile("Remote"), 2);
+        assertThat(cache.get(ID)).get().extracting(PatientResponse::getLastName).isEqualTo("Remote");
+    }
+
+    @Test
+    @DisplayName("evictIfNotNewer: an entry already at the written version is kept")
+    void evictIfNotNewer_keepsSameVersion() {
+        cache.refresh(profile("Fresh"), 2);
+
+        cache.evictIfNotNewer(ID, 2);
+
+        assertThat(cache.get(ID)).get().extracting(PatientResponse::getLastName).isEqualTo("Fresh");
+        assertThat(cache.version(ID)).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("entries expire after the TTL")
+    void entriesExpireAfterTtl() {
+        cache.put(profile("Doe"), 0);
+        nanos.addAndGet(Duration.ofMinutes(5).toNanos());
+
+        assertThat(cache.get(ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("hits and misses are published as cache meters")
+    void hitsAndMissesArePublished() {
+        cache.get(ID);
+        cache.put(profile("Doe"), 0);
+        cache.get(ID);
+        cache.get(ID);
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "patient.profile").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "patient.profile").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("constructor: rejects a non-positive TTL")
+    void constructor_invalidTtl_throws() {
+        assertThatThrownBy(() -> new PatientProfileCache(100, Duration.ZERO, meterRegistry))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,147 @@
+package com.ainexus.hpm.patient.cache;
+
+import com.ainexus.hpm.patient.dto.response.PatientResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two "instances" against one PostgreSQL: the publisher writes through the Spring-managed
+ * pool, the listener owns its own connection and evicts from a separate profile cache.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.open-in-view=false"
+})
+@DisplayName("PostgreSQL LISTEN/NOTIFY patient cache invalidation")
+class PgNotifyPatientInvalidationIntegrationTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withInitScript("db/init-schema.sql");
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private PgNotifyPatientInvalidationPublisher publisher;
+    private PatientProfileCache remoteCache;
+    private PgNotifyPatientInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        publisher = new PgNotifyPatientInvalidationPublisher(jdbcTemplate);
+        remoteCache = new PatientProfileCache(100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+        listener = new PgNotifyPatientInvalidationListener(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword(), remoteCache);
+        listener.start();
+        awaitTrue(listener::isListening);
+    }
+
+    @AfterEach
+    void tearDown() {
+        listener.stop();
+    }
+
+    private static PatientResponse profile(String patientId) {
+        return PatientResponse.builder().patientId(patientId).firstName("John").lastName("Doe").build();
+    }
+
+    private void publishAndCommit(String patientId, int version) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+                status -> publisher.publish(new PatientInvalidation(patientId, version)));
+    }
+
+    @Test
+    @DisplayName("a committed write evicts the profile on the other instance")
+    void committedWrite_evictsRemoteEntry() throws InterruptedException {
+        remoteCache.put(profile("P2026001"), 3);
+
+        publishAndCommit("P2026001", 4);
+
+        awaitTrue(() -> remoteCache.get("P2026001").isEmpty());
+    }
+
+    @Test
+    @DisplayName("a rolled-back write is never delivered")
+    void rolledBackWrite_notDelivered() throws InterruptedException {
+        remoteCache.put(profile("P2026001"), 3);
+        remoteCache.put(profile("P2026002"), 3);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            publisher.publish(new PatientInvalidation("P2026001", 4));
+            status.setRollbackOnly();
+        });
+        // Notifications arrive in commit order: once this one is seen the rolled-back one would have been too
+        publishAndCommit("P2026002", 4);
+        awaitTrue(() -> remoteCache.get("P2026002").isEmpty());
+
+        assertThat(remoteCache.get("P2026001")).isPresent();
+    }
+
+    @Test
+    @DisplayName("an entry already at the written version or newer survives the invalidation")
+    void currentRemoteEntry_survives() throws InterruptedException {
+        remoteCache.put(profile("P2026001"), 5);
+        remoteCache.put(profile("P2026003"), 4);
+        remoteCache.put(profile("P2026002"), 3);
+
+        publishAndCommit("P2026001", 4);
+        publishAndCommit("P2026003", 4);
+        publishAndCommit("P2026002", 4);
+        awaitTrue(() -> remoteCache.get("P2026002").isEmpty());
+
+        assertThat(remoteCache.get("P2026001")).isPresent();
+        assertThat(remoteCache.get("P2026003")).isPresent();
+    }
+
+    @Test
+    @DisplayName("a bulk write's invalidations are sent in one statement and all delivered")
+    void publishAll_evictsEveryRemoteEntry() throws InterruptedException {
+        remoteCache.put(profile("P2026001"), 3);
+        remoteCache.put(profile("P2026002"), 7);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> publisher.publishAll(List.of(
+                new PatientInvalidation("P2026001", 4), new PatientInvalidation("P2026002", 8))));
+
+        awaitTrue(() -> remoteCache.get("P2026001").isEmpty() && remoteCache.get("P2026002").isEmpty());
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within %s", TIMEOUT).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+}
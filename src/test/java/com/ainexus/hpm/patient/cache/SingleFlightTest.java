@@ -0,0 +1,126 @@
+package com.ainexus.hpm.patient.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SingleFlight Unit Tests")
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<String, String> flight =
+            new SingleFlight<>("profile", UnaryOperator.identity(), meterRegistry);
+    private final ExecutorService pool = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    private double calls(String outcome) {
+        return meterRegistry.get(SingleFlight.CALLS_COUNTER)
+                .tag("operation", "profile")
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+
+    private void awaitCoalesced(int followers) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (calls("coalesced") < followers && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    @DisplayName("concurrent calls for the same key share one execution and its result")
+    void concurrentCalls_shareOneExecution() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        SingleFlight.Loader<String> loader = () -> {
+            loads.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            return "profile-P2026001";
+        };
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(pool.submit(() -> {
+                try {
+                    return flight.execute("P2026001", loader);
+                } catch (Throwable ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }));
+        }
+        awaitCoalesced(3);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("profile-P2026001");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(calls("executed")).isEqualTo(1.0);
+        assertThat(calls("coalesced")).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("followers receive the leader's exception")
+    void leaderFailure_propagatesToFollowers() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> leader = pool.submit(() -> {
+            try {
+                return flight.execute("P2026404", () -> {
+                    entered.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    throw new IllegalArgumentException("not found");
+                });
+            } catch (Throwable ex) {
+                return ex;
+            }
+        });
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<?> follower = pool.submit(() -> {
+            try {
+                return flight.execute("P2026404", () -> "unreachable");
+            } catch (Throwable ex) {
+                return ex;
+            }
+        });
+        awaitCoalesced(1);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("nothing is retained once a call completes, successfully or not")
+    void completedCalls_executeAgain() throws Throwable {
+        AtomicInteger loads = new AtomicInteger();
+
+        flight.execute("P2026001", () -> "v" + loads.incrementAndGet());
+        assertThat(flight.execute("P2026001", () -> "v" + loads.incrementAndGet())).isEqualTo("v2");
+
+        assertThat(calls("executed")).isEqualTo(2.0);
+        assertThatThrownBy(() -> flight.execute("P2026001", () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(flight.execute("P2026001", () -> "v" + loads.incrementAndGet())).isEqualTo("v3");
+    }
+}
@@ -1,15 +1,23 @@
 package com.ainexus.hpm.patient.controller;
 
 import com.ainexus.hpm.patient.dto.request.PatientRegistrationRequest;
+import com.ainexus.hpm.patient.dto.response.BatchRegistrationItemResult;
+import com.ainexus.hpm.patient.dto.response.BatchRegistrationResponse;
 import com.ainexus.hpm.patient.dto.response.PagedResponse;
+import com.ainexus.hpm.patient.dto.response.PatientLookupResponse;
 import com.ainexus.hpm.patient.dto.response.PatientResponse;
+import com.ainexus.hpm.patient.dto.response.PatientStatusChangeResponse;
 import com.ainexus.hpm.patient.dto.response.PatientSummaryResponse;
+import com.ainexus.hpm.patient.enums.BatchItemStatus;
 import com.ainexus.hpm.patient.enums.BloodGroup;
+import com.ainexus.hpm.patient.enums.CountMode;
 import com.ainexus.hpm.patient.enums.Gender;
+import com.ainexus.hpm.patient.enums.PatientProjection;
 import com.ainexus.hpm.patient.enums.PatientStatus;
 import com.ainexus.hpm.patient.enums.PatientStatusFilter;
 import com.ainexus.hpm.patient.exception.GlobalExceptionHandler;
 import com.ainexus.hpm.patient.exception.PatientNotFoundException;
+import com.ainexus.hpm.patient.exception.PatientPreconditionFailedException;
 import com.ainexus.hpm.patient.exception.PatientStatusConflictException;
 import com.ainexus.hpm.patient.service.PatientService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -21,15 +29,21 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -67,6 +81,7 @@ class PatientControllerTest {
                 .createdBy("receptionist01")
                 .updatedAt(LocalDateTime.now())
                 .updatedBy("receptionist01")
+                .version(3)
                 .build();
     }
 
@@ -147,6 +162,87 @@ class PatientControllerTest {
                 .andExpect(status().isCreated());
     }
 
+    // ─── POST /api/v1/patients/batch ──────────────────────────────────────────
+
+    @Test
+    @DisplayName("POST /patients/batch: 201 with a result per entry, invalid entries do not fail the batch")
+    void registerPatients_mixedBatch_returns201WithPerItemResults() throws Exception {
+        PatientRegistrationRequest invalid = buildValidRequest();
+        invalid.setPhoneNumber("12345");
+        BatchRegistrationResponse result = BatchRegistrationResponse.builder()
+                .received(2).created(1).rejected(1)
+                .results(List.of(
+                        BatchRegistrationItemResult.builder().index(0).status(BatchItemStatus.CREATED)
+                                .patientId("P2026001").build(),
+                        BatchRegistrationItemResult.builder().index(1).status(BatchItemStatus.REJECTED)
+                                .errors(Map.of("phoneNumber", "Invalid phone number")).build()))
+                .build();
+        given(patientService.registerPatients(anyList(), eq("migration01"))).willReturn(result);
+
+        mockMvc.perform(post("/api/v1/patients/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("X-User-ID", "migration01")
+                        .content(objectMapper.writeValueAsString(List.of(buildValidRequest(), invalid))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.created").value(1))
+                .andExpect(jsonPath("$.data.results[0].patientId").value("P2026001"))
+                .andExpect(jsonPath("$.data.results[1].status").value("REJECTED"))
+                .andExpect(jsonPath("$.data.results[1].errors.phoneNumber").exists());
+    }
+
+    @Test
+    @DisplayName("POST /patients/batch: 400 for an empty batch")
+    void registerPatients_emptyBatch_returns400() throws Exception {
+        mockMvc.perform(post("/api/v1/patients/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+
+        verify(patientService, never()).registerPatients(anyList(), anyString());
+    }
+
+    // ─── POST /api/v1/patients/lookup ─────────────────────────────────────────
+
+    @Test
+    @DisplayName("POST /patients/lookup?projection=SUMMARY: 200 keyed by ID with explicit NOT_FOUND")
+    void lookupPatients_summary_returnsEntryPerId() throws Exception {
+        PatientSummaryResponse summary = PatientSummaryResponse.builder()
+                .patientId("P2026001").firstName("John").lastName("Doe").status(PatientStatus.ACTIVE).build();
+        given(patientService.lookupPatientSummaries(List.of("P2026001", "P9999999")))
+                .willReturn(PatientLookupResponse.of(PatientProjection.SUMMARY, List.of("P2026001", "P9999999"),
+                        Map.of("P2026001", summary)));
+
+        mockMvc.perform(post("/api/v1/patients/lookup")
+                        .param("projection", "SUMMARY")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"P2026001\",\"P9999999\"]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.found").value(1))
+                .andExpect(jsonPath("$.data.results.P2026001.status").value("FOUND"))
+                .andExpect(jsonPath("$.data.results.P2026001.patient.lastName").value("Doe"))
+                .andExpect(jsonPath("$.data.results.P9999999.status").value("NOT_FOUND"))
+                .andExpect(jsonPath("$.data.results.P9999999.patient").doesNotExist());
+
+        verify(patientService, never()).lookupPatients(anyList());
+    }
+
+    @Test
+    @DisplayName("POST /patients/lookup: 400 when more IDs than the limit are sent")
+    void lookupPatients_tooManyIds_returns400() throws Exception {
+        List<String> ids = IntStream.rangeClosed(1, PatientController.MAX_LOOKUP_SIZE + 1)
+                .mapToObj(i -> "P2026" + String.format("%03d", i % 1000))
+                .toList();
+
+        mockMvc.perform(post("/api/v1/patients/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(ids)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+
+        verify(patientService, never()).lookupPatients(anyList());
+    }
+
     // ─── GET /api/v1/patients ─────────────────────────────────────────────────
 
     @Test
@@ -159,10 +255,10 @@ class PatientControllerTest {
 
         PagedResponse<PatientSummaryResponse> pagedResponse = PagedResponse.<PatientSummaryResponse>builder()
                 .content(List.of(summary))
-                .page(0).size(20).totalElements(1).totalPages(1)
+                .page(0).size(20).totalElements(1L).totalPages(1)
                 .first(true).last(true).build();
 
-        given(patientService.searchPatients(any(), any(), any(), any(), anyInt(), anyInt()))
+        given(patientService.searchPatients(any(), any(), any(), any(), anyInt(), anyInt(), any()))
                 .willReturn(pagedResponse);
 
         mockMvc.perform(get("/api/v1/patients"))
@@ -176,10 +272,10 @@ class PatientControllerTest {
     @DisplayName("GET /patients: 200 with empty results when no match")
     void listPatients_noMatch_returnsEmptyList() throws Exception {
         PagedResponse<PatientSummaryResponse> emptyPage = PagedResponse.<PatientSummaryResponse>builder()
-                .content(List.of()).page(0).size(20).totalElements(0).totalPages(0)
+                .content(List.of()).page(0).size(20).totalElements(0L).totalPages(0)
                 .first(true).last(true).build();
 
-        given(patientService.searchPatients(any(), any(), any(), any(), anyInt(), anyInt()))
+        given(patientService.searchPatients(any(), any(), any(), any(), anyInt(), anyInt(), any()))
                 .willReturn(emptyPage);
 
 
@@ -190,6 +286,40 @@ class PatientControllerTest {
                 .andExpect(jsonPath("$.data.totalElements").value(0));
     }
 
+    @Test
+    @DisplayName("GET /patients?cursor=: keyset page with nextCursor and no totals")
+    void listPatients_withCursor_usesKeysetMode() throws Exception {
+        PagedResponse<PatientSummaryResponse> keysetPage = PagedResponse.<PatientSummaryResponse>builder()
+                .content(List.of()).size(20).first(false).last(false).nextCursor("next-token").build();
+
+        given(patientService.searchPatientsKeyset(any(), any(), any(), any(), eq("abc"), eq(20)))
+                .willReturn(keysetPage);
+
+        mockMvc.perform(get("/api/v1/patients").param("cursor", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.nextCursor").value("next-token"))
+                .andExpect(jsonPath("$.data.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.data.page").doesNotExist());
+
+        verify(patientService, never()).searchPatients(any(), any(), any(), any(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("GET /patients?count=SKIP: passes the count mode through and reports it")
+    void listPatients_countParam_isPassedThrough() throws Exception {
+        PagedResponse<PatientSummaryResponse> skipPage = PagedResponse.<PatientSummaryResponse>builder()
+                .content(List.of()).page(0).size(20).countMode(CountMode.SKIP)
+                .first(true).last(true).build();
+
+        given(patientService.searchPatients(any(), any(), any(), any(), anyInt(), anyInt(), eq(CountMode.SKIP)))
+                .willReturn(skipPage);
+
+        mockMvc.perform(get("/api/v1/patients").param("count", "SKIP"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.countMode").value("SKIP"))
+                .andExpect(jsonPath("$.data.totalElements").doesNotExist());
+    }
+
     // ─── GET /api/v1/patients/{patientId} ────────────────────────────────────
 
     @Test
@@ -201,7 +331,8 @@ class PatientControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.patientId").value("P2026001"))
-                .andExpect(jsonPath("$.data.gender").value("MALE"));
+                .andExpect(jsonPath("$.data.gender").value("MALE"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"P2026001-3\""));
     }
 
     @Test
@@ -216,13 +347,38 @@ class PatientControllerTest {
                 .andExpect(jsonPath("$.message").value("Patient not found: P9999999"));
     }
 
+    @Test
+    @DisplayName("GET /patients/{id}: 304 from the version alone when If-None-Match is current")
+    void getPatient_ifNoneMatchCurrent_returns304WithoutLoadingProfile() throws Exception {
+        given(patientService.getPatientVersion("P2026001")).willReturn(3);
+
+        mockMvc.perform(get("/api/v1/patients/P2026001").header(HttpHeaders.IF_NONE_MATCH, "\"P2026001-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"P2026001-3\""))
+                .andExpect(content().string(""));
+
+        verify(patientService, never()).getPatientById(anyString());
+    }
+
+    @Test
+    @DisplayName("GET /patients/{id}: 200 with the full profile when If-None-Match is stale")
+    void getPatient_ifNoneMatchStale_returns200() throws Exception {
+        given(patientService.getPatientVersion("P2026001")).willReturn(3);
+        given(patientService.getPatientById("P2026001")).willReturn(sampleResponse);
+
+        mockMvc.perform(get("/api/v1/patients/P2026001").header(HttpHeaders.IF_NONE_MATCH, "\"P2026001-2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"P2026001-3\""))
+                .andExpect(jsonPath("$.data.version").value(3));
+    }
+
     // ─── PUT /api/v1/patients/{patientId} ────────────────────────────────────
 
     @Test
     @DisplayName("PUT /patients/{id}: 200 when update succeeds")
     void updatePatient_success_returns200() throws Exception {
         PatientRegistrationRequest updateReq = buildValidRequest();
-        given(patientService.updatePatient(eq("P2026001"), any(), eq("admin01")))
+        given(patientService.updatePatient(eq("P2026001"), any(), eq("admin01"), isNull()))
                 .willReturn(sampleResponse);
 
         mockMvc.perform(put("/api/v1/patients/P2026001")
@@ -236,7 +392,7 @@ class PatientControllerTest {
     @Test
     @DisplayName("PUT /patients/{id}: 404 when patient not found")
     void updatePatient_notFound_returns404() throws Exception {
-        given(patientService.updatePatient(eq("P9999999"), any(), anyString()))
+        given(patientService.updatePatient(eq("P9999999"), any(), anyString(), any()))
                 .willThrow(new PatientNotFoundException("P9999999"));
 
         mockMvc.perform(put("/api/v1/patients/P9999999")
@@ -245,6 +401,49 @@ class PatientControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("PUT /patients/{id}: If-Match passes the tagged version; 412 when the patient has moved on")
+    void updatePatient_ifMatch_isConditional() throws Exception {
+        given(patientService.updatePatient(eq("P2026001"), any(), anyString(), eq(2)))
+                .willThrow(new PatientPreconditionFailedException("P2026001"));
+
+        mockMvc.perform(put("/api/v1/patients/P2026001")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_MATCH, "\"P2026001-2\"")
+                        .content(objectMapper.writeValueAsString(buildValidRequest())))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    // ─── PATCH /api/v1/patients/{patientId} ───────────────────────────────────
+
+    @Test
+    @DisplayName("PATCH /patients/{id}: 200 with only the supplied fields bound")
+    void patchPatient_success_returns200() throws Exception {
+        given(patientService.patchPatient(eq("P2026001"),
+                argThat(r -> "Denver".equals(r.getCity()) && r.getFirstName() == null),
+                eq("admin01"), isNull()))
+                .willReturn(sampleResponse);
+
+        mockMvc.perform(patch("/api/v1/patients/P2026001")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("X-User-ID", "admin01")
+                        .content("{\"city\":\"Denver\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true));
+    }
+
+    @Test
+    @DisplayName("PATCH /patients/{id}: 400 when a supplied field is invalid")
+    void patchPatient_invalidPhone_returns400() throws Exception {
+        mockMvc.perform(patch("/api/v1/patients/P2026001")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"phoneNumber\":\"12345\",\"firstName\":\"  \"}"))
+                .andExpect(status().isBadRequest());
+
+        verify(patientService, never()).patchPatient(anyString(), any(), anyString(), any());
+    }
+
     // ─── PATCH /api/v1/patients/{patientId}/deactivate ───────────────────────
 
     @Test
@@ -252,7 +451,7 @@ class PatientControllerTest {
     void deactivatePatient_success_returns200() throws Exception {
         PatientResponse deactivatedResponse = PatientResponse.builder()
                 .patientId("P2026001").status(PatientStatus.INACTIVE).build();
-        given(patientService.deactivatePatient("P2026001", "admin01")).willReturn(deactivatedResponse);
+        given(patientService.deactivatePatient("P2026001", "admin01", null)).willReturn(deactivatedResponse);
 
         mockMvc.perform(patch("/api/v1/patients/P2026001/deactivate")
                         .header("X-User-ID", "admin01"))
@@ -264,7 +463,7 @@ class PatientControllerTest {
     @Test
     @DisplayName("PATCH /patients/{id}/deactivate: 409 when already INACTIVE")
     void deactivatePatient_alreadyInactive_returns409() throws Exception {
-        given(patientService.deactivatePatient(eq("P2026001"), anyString()))
+        given(patientService.deactivatePatient(eq("P2026001"), anyString(), any()))
                 .willThrow(new PatientStatusConflictException("Patient P2026001 is already inactive"));
 
         mockMvc.perform(patch("/api/v1/patients/P2026001/deactivate")
@@ -277,7 +476,7 @@ class PatientControllerTest {
     @Test
     @DisplayName("PATCH /patients/{id}/deactivate: 404 when patient not found")
     void deactivatePatient_notFound_returns404() throws Exception {
-        given(patientService.deactivatePatient(eq("P9999999"), anyString()))
+        given(patientService.deactivatePatient(eq("P9999999"), anyString(), any()))
                 .willThrow(new PatientNotFoundException("P9999999"));
 
         mockMvc.perform(patch("/api/v1/patients/P9999999/deactivate"))
@@ -300,10 +499,10 @@ class PatientControllerTest {
 
         PagedResponse<PatientSummaryResponse> pagedResponse = PagedResponse.<PatientSummaryResponse>builder()
                 .content(List.of(active, inactive))
-                .page(0).size(20).totalElements(2).totalPages(1)
+                .page(0).size(20).totalElements(2L).totalPages(1)
                 .first(true).last(true).build();
 
-        given(patientService.searchPatients(any(), any(), any(), any(), anyInt(), anyInt()))
+        given(patientService.searchPatients(any(), any(), any(), any(), anyInt(), anyInt(), any()))
                 .willReturn(pagedResponse);
 
         mockMvc.perform(get("/api/v1/patients").param("status", "ALL"))
@@ -324,10 +523,10 @@ class PatientControllerTest {
 
         PagedResponse<PatientSummaryResponse> pagedResponse = PagedResponse.<PatientSummaryResponse>builder()
                 .content(List.of(inactive))
-                .page(0).size(20).totalElements(1).totalPages(1)
+                .page(0).size(20).totalElements(1L).totalPages(1)
                 .first(true).last(true).build();
 
-        given(patientService.searchPatients(any(), eq(PatientStatusFilter.INACTIVE), any(), any(), anyInt(), anyInt()))
+        given(patientService.searchPatients(any(), eq(PatientStatusFilter.INACTIVE), any(), any(), anyInt(), anyInt(), any()))
                 .willReturn(pagedResponse);
 
         mockMvc.perform(get("/api/v1/patients").param("status", "INACTIVE"))
@@ -346,10 +545,10 @@ class PatientControllerTest {
 
         PagedResponse<PatientSummaryResponse> pagedResponse = PagedResponse.<PatientSummaryResponse>builder()
                 .content(List.of(summary))
-                .page(0).size(20).totalElements(1).totalPages(1)
+                .page(0).size(20).totalElements(1L).totalPages(1)
                 .first(true).last(true).build();
 
-        given(patientService.searchPatients(eq("P2026001"), any(), any(), any(), anyInt(), anyInt()))
+        given(patientService.searchPatients(eq("P2026001"), any(), any(), any(), anyInt(), anyInt(), any()))
                 .willReturn(pagedResponse);
 
         mockMvc.perform(get("/api/v1/patients").param("search", "P2026001"))
@@ -367,10 +566,10 @@ class PatientControllerTest {
 
         PagedResponse<PatientSummaryResponse> pagedResponse = PagedResponse.<PatientSummaryResponse>builder()
                 .content(List.of(female))
-                .page(0).size(20).totalElements(1).totalPages(1)
+                .page(0).size(20).totalElements(1L).totalPages(1)
                 .first(true).last(true).build();
 
-        given(patientService.searchPatients(any(), any(), eq(Gender.FEMALE), any(), anyInt(), anyInt()))
+        given(patientService.searchPatients(any(), any(), eq(Gender.FEMALE), any(), anyInt(), anyInt(), any()))
                 .willReturn(pagedResponse);
 
         mockMvc.perform(get("/api/v1/patients").param("gender", "FEMALE"))
@@ -388,10 +587,10 @@ class PatientControllerTest {
 
         PagedResponse<PatientSummaryResponse> pagedResponse = PagedResponse.<PatientSummaryResponse>builder()
                 .content(List.of(summary))
-                .page(0).size(20).totalElements(1).totalPages(1)
+                .page(0).size(20).totalElements(1L).totalPages(1)
                 .first(true).last(true).build();
 
-        given(patientService.searchPatients(any(), any(), any(), eq(BloodGroup.A_POS), anyInt(), anyInt()))
+        given(patientService.searchPatients(any(), any(), any(), eq(BloodGroup.A_POS), anyInt(), anyInt(), any()))
                 .willReturn(pagedResponse);
 
         mockMvc.perform(get("/api/v1/patients").param("bloodGroup", "A_POS"))
@@ -409,10 +608,10 @@ class PatientControllerTest {
 
         PagedResponse<PatientSummaryResponse> pagedResponse = PagedResponse.<PatientSummaryResponse>builder()
                 .content(List.of(summary))
-                .page(0).size(20).totalElements(1).totalPages(1)
+                .page(0).size(20).totalElements(1L).totalPages(1)
                 .first(true).last(true).build();
 
-        given(patientService.searchPatients(eq("john"), eq(PatientStatusFilter.ACTIVE), any(), any(), anyInt(), anyInt()))
+        given(patientService.searchPatients(eq("john"), eq(PatientStatusFilter.ACTIVE), any(), any(), anyInt(), anyInt(), any()))
                 .willReturn(pagedResponse);
 
         mockMvc.perform(get("/api/v1/patients")
@@ -433,10 +632,10 @@ class PatientControllerTest {
 
         PagedResponse<PatientSummaryResponse> pagedResponse = PagedResponse.<PatientSummaryResponse>builder()
                 .content(List.of(summary))
-                .page(1).size(1).totalElements(2).totalPages(2)
+                .page(1).size(1).totalElements(2L).totalPages(2)
                 .first(false).last(true).build();
 
-        given(patientService.searchPatients(any(), any(), any(), any(), eq(1), eq(1)))
+        given(patientService.searchPatients(any(), any(), any(), any(), eq(1), eq(1), any()))
                 .willReturn(pagedResponse);
 
         mockMvc.perform(get("/api/v1/patients")
@@ -482,7 +681,7 @@ class PatientControllerTest {
     @Test
     @DisplayName("PATCH /patients/{id}/activate: 200 when patient activated")
     void activatePatient_success_returns200() throws Exception {
-        given(patientService.activatePatient("P2026001", "admin01")).willReturn(sampleResponse);
+        given(patientService.activatePatient("P2026001", "admin01", null)).willReturn(sampleResponse);
 
         mockMvc.perform(patch("/api/v1/patients/P2026001/activate")
                         .header("X-User-ID", "admin01"))
@@ -494,7 +693,7 @@ class PatientControllerTest {
     @Test
     @DisplayName("PATCH /patients/{id}/activate: 409 when already ACTIVE")
     void activatePatient_alreadyActive_returns409() throws Exception {
-        given(patientService.activatePatient(eq("P2026001"), anyString()))
+        given(patientService.activatePatient(eq("P2026001"), anyString(), any()))
                 .willThrow(new PatientStatusConflictException("Patient P2026001 is already active"));
 
         mockMvc.perform(patch("/api/v1/patients/P2026001/activate"))
@@ -502,6 +701,37 @@ class PatientControllerTest {
                 .andExpect(jsonPath("$.message").value(org.hamcrest.Matchers.containsString("already active")));
     }
 
+    // ─── PATCH /api/v1/patients/batch/{deactivate,activate} ──────────────────
+
+    @Test
+    @DisplayName("PATCH /patients/batch/deactivate: 200 with an outcome per ID")
+    void deactivatePatients_returnsOutcomePerId() throws Exception {
+        given(patientService.changePatientStatuses(List.of("P2026001", "P9999999"), PatientStatus.INACTIVE, "admin01"))
+                .willReturn(PatientStatusChangeResponse.of(PatientStatus.INACTIVE, List.of("P2026001", "P9999999"),
+                        Map.of("P2026001", 3), Set.of("P2026001")));
+
+        mockMvc.perform(patch("/api/v1/patients/batch/deactivate")
+                        .header("X-User-ID", "admin01")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"P2026001\",\"P9999999\"]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.changed").value(1))
+                .andExpect(jsonPath("$.data.results.P2026001.outcome").value("CHANGED"))
+                .andExpect(jsonPath("$.data.results.P2026001.version").value(3))
+                .andExpect(jsonPath("$.data.results.P9999999.outcome").value("NOT_FOUND"));
+    }
+
+    @Test
+    @DisplayName("PATCH /patients/batch/activate: 400 for an empty batch")
+    void activatePatients_emptyBatch_returns400() throws Exception {
+        mockMvc.perform(patch("/api/v1/patients/batch/activate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+
+        verify(patientService, never()).changePatientStatuses(anyList(), any(), anyString());
+    }
+
     // ─── Helper ──────────────────────────────────────────────────────────────
 
     private PatientRegistrationRequest buildValidRequest() {
@@ -0,0 +1,72 @@
+package com.ainexus.hpm.patient.controller;
+
+import com.ainexus.hpm.patient.enums.BloodGroup;
+import com.ainexus.hpm.patient.enums.ExportFormat;
+import com.ainexus.hpm.patient.enums.Gender;
+import com.ainexus.hpm.patient.enums.PatientStatusFilter;
+import com.ainexus.hpm.patient.exception.GlobalExceptionHandler;
+import com.ainexus.hpm.patient.service.PatientExportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(PatientExportController.class)
+@Import(GlobalExceptionHandler.class)
+@DisplayName("PatientExportController Integration Tests (MockMvc)")
+class PatientExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PatientExportService patientExportService;
+
+    // ─── GET /api/v1/patients/export ─────────────────────────────────────────
+
+    @Test
+    @DisplayName("GET /export → NDJSON attachment written by the service")
+    void export_defaultsToNdjson() throws Exception {
+        given(patientExportService.exportPatients(isNull(), isNull(), isNull(), eq(ExportFormat.NDJSON), any()))
+                .willAnswer(invocation -> {
+                    OutputStream out = invocation.getArgument(4);
+                    out.write("{\"patientId\":\"P2026001\"}\n".getBytes(StandardCharsets.UTF_8));
+                    return 1L;
+                });
+
+        mockMvc.perform(get("/api/v1/patients/export"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"patients.ndjson\""))
+                .andExpect(content().string("{\"patientId\":\"P2026001\"}\n"));
+    }
+
+    @Test
+    @DisplayName("GET /export with filters and format=CSV → filters passed through, CSV attachment")
+    void export_csvWithFilters() throws Exception {
+        mockMvc.perform(get("/api/v1/patients/export")
+                        .param("status", "INACTIVE")
+                        .param("gender", "FEMALE")
+                        .param("bloodGroup", "O_NEG")
+                        .param("format", "CSV"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"patients.csv\""));
+
+        verify(patientExportService).exportPatients(
+                eq(PatientStatusFilter.INACTIVE), eq(Gender.FEMALE), eq(BloodGroup.O_NEG), eq(ExportFormat.CSV), any());
+    }
+}
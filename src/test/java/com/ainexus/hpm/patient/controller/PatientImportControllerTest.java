@@ -0,0 +1,100 @@
+package com.ainexus.hpm.patient.controller;
+
+import com.ainexus.hpm.patient.dto.response.PatientImportResponse;
+import com.ainexus.hpm.patient.enums.ImportFormat;
+import com.ainexus.hpm.patient.enums.ImportStatus;
+import com.ainexus.hpm.patient.exception.GlobalExceptionHandler;
+import com.ainexus.hpm.patient.exception.PatientImportNotFoundException;
+import com.ainexus.hpm.patient.service.PatientImportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(PatientImportController.class)
+@Import(GlobalExceptionHandler.class)
+@DisplayName("PatientImportController Integration Tests (MockMvc)")
+class PatientImportControllerTest {
+
+    private static final UUID IMPORT_ID = UUID.fromString("5f0c3a52-8d4e-4d8e-9a57-1f2d3c4b5a69");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PatientImportService patientImportService;
+
+    // ─── POST /api/v1/patients/imports ───────────────────────────────────────
+
+    @Test
+    @DisplayName("POST /imports with NDJSON → 201 with Location and counters")
+    void importPatients_ndjson_returns201() throws Exception {
+        given(patientImportService.importPatients(any(), eq(ImportFormat.NDJSON), eq("migration")))
+                .willReturn(PatientImportResponse.builder()
+                        .importId(IMPORT_ID)
+                        .format(ImportFormat.NDJSON)
+                        .status(ImportStatus.COMPLETED)
+                        .recordsRead(3)
+                        .imported(2)
+                        .rejected(1)
+                        .createdBy("migration")
+                        .startedAt(LocalDateTime.now())
+                        .finishedAt(LocalDateTime.now())
+                        .build());
+
+        mockMvc.perform(post("/api/v1/patients/imports")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .header("X-User-ID", "migration")
+                        .content("{}\n{}\n{}\n"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Location", "/api/v1/patients/imports/" + IMPORT_ID))
+                .andExpect(jsonPath("$.message").value("Import completed: 2 imported, 1 rejected"))
+                .andExpect(jsonPath("$.data.imported").value(2))
+                .andExpect(jsonPath("$.data.errorMessage").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("POST /imports with JSON → not accepted, service never called")
+    void importPatients_unsupportedContentType_rejected() throws Exception {
+        mockMvc.perform(post("/api/v1/patients/imports")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(jsonPath("$.success").value(false));
+
+        verifyNoInteractions(patientImportService);
+    }
+
+    // ─── GET /api/v1/patients/imports/{importId} ─────────────────────────────
+
+    @Test
+    @DisplayName("GET /imports/{id} unknown → 404")
+    void getImport_notFound_returns404() throws Exception {
+        given(patientImportService.getImport(IMPORT_ID)).willThrow(new PatientImportNotFoundException(IMPORT_ID));
+
+        mockMvc.perform(get("/api/v1/patients/imports/" + IMPORT_ID))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    @DisplayName("GET /imports/{id}/rejections with size=101 → 400")
+    void getRejections_sizeTooLarge_returns400() throws Exception {
+        mockMvc.perform(get("/api/v1/patients/imports/" + IMPORT_ID + "/rejections").param("size", "101"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(patientImportService);
+    }
+}
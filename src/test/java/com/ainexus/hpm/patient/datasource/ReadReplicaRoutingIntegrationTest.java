@@ -0,0 +1,132 @@
+package com.ainexus.hpm.patient.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two independent PostgreSQL containers stand in for a primary and its replica; each reports
+ * its own database name, which shows where a connection was routed. Replication itself is
+ * out of scope — the routing decision is what is under test.
+ */
+@Testcontainers
+@DisplayName("Read-replica routing")
+class ReadReplicaRoutingIntegrationTest {
+
+    private static final String WHICH_DATABASE = "SELECT current_database()";
+
+    @Container
+    static PostgreSQLContainer<?> primary = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("primary_db");
+
+    @Container
+    static PostgreSQLContainer<?> replica = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("replica_db");
+
+    private static HikariDataSource primaryPool;
+    private static HikariDataSource replicaPool;
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate readWrite;
+    private static TransactionTemplate readOnly;
+
+    @BeforeAll
+    static void setUp() {
+        primaryPool = pool(primary);
+        replicaPool = pool(replica);
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                new ReadReplicaRoutingDataSource(primaryPool, List.of(replicaPool)));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        primaryPool.close();
+        replicaPool.close();
+    }
+
+    private static HikariDataSource pool(PostgreSQLContainer<?> container) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl(container.getJdbcUrl());
+        pool.setUsername(container.getUsername());
+        pool.setPassword(container.getPassword());
+        pool.setMaximumPoolSize(2);
+        return pool;
+    }
+
+    private static String databaseIn(TransactionTemplate template) {
+        return template.execute(status -> jdbcTemplate.queryForObject(WHICH_DATABASE, String.class));
+    }
+
+    private static MockHttpServletRequest request(String method, String userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/v1/patients/P2026001");
+        request.addHeader("X-User-ID", userId);
+        return request;
+    }
+
+    @Test
+    @DisplayName("read-only transactions go to the replica, read-write transactions to the primary")
+    void routesByTransactionReadOnlyFlag() {
+        assertThat(databaseIn(readOnly)).isEqualTo("replica_db");
+        assertThat(databaseIn(readWrite)).isEqualTo("primary_db");
+    }
+
+    @Test
+    @DisplayName("statements outside a transaction go to the primary")
+    void noTransaction_usesPrimary() {
+        assertThat(jdbcTemplate.queryForObject(WHICH_DATABASE, String.class)).isEqualTo("primary_db");
+    }
+
+    @Test
+    @DisplayName("inside primaryOnly, read-only transactions stay on the primary")
+    void primaryOnlyScope_overridesReadOnly() {
+        try (ReadReplicaRoutingDataSource.PrimaryScope ignored = ReadReplicaRoutingDataSource.primaryOnly()) {
+            assertThat(databaseIn(readOnly)).isEqualTo("primary_db");
+        }
+        assertThat(databaseIn(readOnly)).isEqualTo("replica_db");
+    }
+
+    @Test
+    @DisplayName("after a user's write, that user's reads use the primary until the window passes; others use the replica")
+    void readYourWrites_stickyPerUserWithinWindow() throws Exception {
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofMillis(500), 100);
+        AtomicReference<String> routedTo = new AtomicReference<>();
+
+        filter.doFilter(request("PUT", "nurse-1"), new MockHttpServletResponse(),
+                (req, res) -> routedTo.set(databaseIn(readOnly)));
+        assertThat(routedTo.get()).isEqualTo("primary_db");
+
+        filter.doFilter(request("GET", "nurse-1"), new MockHttpServletResponse(),
+                (req, res) -> routedTo.set(databaseIn(readOnly)));
+        assertThat(routedTo.get()).isEqualTo("primary_db");
+
+        filter.doFilter(request("GET", "nurse-2"), new MockHttpServletResponse(),
+                (req, res) -> routedTo.set(databaseIn(readOnly)));
+        assertThat(routedTo.get()).isEqualTo("replica_db");
+
+        Thread.sleep(700);
+        filter.doFilter(request("GET", "nurse-1"), new MockHttpServletResponse(),
+                (req, res) -> routedTo.set(databaseIn(readOnly)));
+        assertThat(routedTo.get()).isEqualTo("replica_db");
+    }
+}
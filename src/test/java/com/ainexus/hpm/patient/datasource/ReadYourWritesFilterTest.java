@@ -0,0 +1,44 @@
+package com.ainexus.hpm.patient.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReadYourWritesFilter Unit Tests")
+class ReadYourWritesFilterTest {
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofMinutes(1), 100);
+
+    private static MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.addHeader("X-User-ID", "nurse-1");
+        return request;
+    }
+
+    private boolean routedToPrimary(MockHttpServletRequest request) throws Exception {
+        AtomicBoolean primaryOnly = new AtomicBoolean();
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> primaryOnly.set(ReadReplicaRoutingDataSource.isPrimaryOnly()));
+        return primaryOnly.get();
+    }
+
+    @Test
+    @DisplayName("POST /lookup is a read: replica routing, and no read-your-writes window afterwards")
+    void lookupPost_isTreatedAsRead() throws Exception {
+        assertThat(routedToPrimary(request("POST", "/api/v1/patients/lookup"))).isFalse();
+        assertThat(routedToPrimary(request("GET", "/api/v1/patients/P2026001"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("other POSTs are writes and pin the user's following reads to the primary")
+    void writePost_pinsFollowingReads() throws Exception {
+        assertThat(routedToPrimary(request("POST", "/api/v1/patients/batch"))).isTrue();
+        assertThat(routedToPrimary(request("POST", "/api/v1/patients/lookup"))).isTrue();
+    }
+}
@@ -43,6 +43,18 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getMessage()).contains("already inactive");
     }
 
+    @Test
+    @DisplayName("handlePreconditionFailed: returns 412 asking the client to reload")
+    void handlePreconditionFailed_returns412() {
+        PatientPreconditionFailedException ex = new PatientPreconditionFailedException("P2026001");
+        ResponseEntity<ApiResponse<Void>> response = handler.handlePreconditionFailed(ex);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().isSuccess()).isFalse();
+        assertThat(response.getBody().getMessage()).contains("P2026001");
+    }
+
     @Test
     @DisplayName("handleIllegalArgument: returns 400")
     void handleIllegalArgument_returns400() {
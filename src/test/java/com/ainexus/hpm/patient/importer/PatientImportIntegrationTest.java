@@ -0,0 +1,232 @@
+package com.ainexus.hpm.patient.importer;
+
+import com.ainexus.hpm.patient.dto.response.PagedResponse;
+import com.ainexus.hpm.patient.dto.response.PatientImportRejectionResponse;
+import com.ainexus.hpm.patient.dto.response.PatientImportResponse;
+import com.ainexus.hpm.patient.entity.Patient;
+import com.ainexus.hpm.patient.enums.BloodGroup;
+import com.ainexus.hpm.patient.enums.ImportFormat;
+import com.ainexus.hpm.patient.enums.ImportStatus;
+import com.ainexus.hpm.patient.enums.PatientStatus;
+import com.ainexus.hpm.patient.mapper.PatientMapper;
+import com.ainexus.hpm.patient.outbox.JdbcPatientEventOutbox;
+import com.ainexus.hpm.patient.repository.PatientImportRejectionRepository;
+import com.ainexus.hpm.patient.repository.PatientImportRepository;
+import com.ainexus.hpm.patient.repository.PatientRepository;
+import com.ainexus.hpm.patient.service.PatientIdGenerator;
+import com.ainexus.hpm.patient.service.impl.PatientImportServiceImpl;
+import com.ainexus.hpm.patient.validator.RegistrationRequestValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end import through COPY against PostgreSQL 15. Chunks of 2 records make every
+ * upload span several chunk commits.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.open-in-view=false"
+})
+@DisplayName("Patient bulk import (COPY)")
+class PatientImportIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withInitScript("db/init-schema.sql");
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    PatientRepository patientRepository;
+
+    @Autowired
+    PatientImportRepository importRepository;
+
+    @Autowired
+    PatientImportRejectionRepository rejectionRepository;
+
+    private PatientImportServiceImpl importService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        importService = new PatientImportServiceImpl(
+                importRepository,
+                rejectionRepository,
+                new PatientImportWriter(jdbcTemplate, objectMapper),
+                new PatientMapper(),
+                new SequentialIdGenerator(),
+                new RegistrationRequestValidator(Validation.buildDefaultValidatorFactory().getValidator()),
+                objectMapper,
+                new TransactionTemplate(transactionManager),
+                new JdbcPatientEventOutbox(entityManager, jdbcTemplate),
+                2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM patient_outbox");
+        jdbcTemplate.update("DELETE FROM patient_imports");
+        jdbcTemplate.update("DELETE FROM patients");
+    }
+
+    private static String ndjson(String firstName, String phone) {
+        return "{\"firstName\":\"" + firstName + "\",\"lastName\":\"Doe\",\"dateOfBirth\":\"1990-01-15\","
+                + "\"gender\":\"MALE\",\"phoneNumber\":\"" + phone + "\"}";
+    }
+
+    private PatientImportResponse importText(String body, ImportFormat format) {
+        return importService.importPatients(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format, "migration");
+    }
+
+    @Test
+    @DisplayName("NDJSON: valid lines are copied, invalid and malformed lines are rejected by line number")
+    void ndjson_mixedRecords() {
+        String body = String.join("\n",
+                ndjson("Ann", "555-000-0001"),
+                "{\"firstName\":\"Bob\",\"dateOfBirth\":\"1990-01-15\",\"gender\":\"MALE\",\"phoneNumber\":\"555-000-0002\"}",
+                "",
+                "{not json",
+                ndjson("Cid", "555-000-0003"),
+                ndjson("Dee", "555-000-0004"));
+
+        PatientImportResponse result = importText(body, ImportFormat.NDJSON);
+
+        assertThat(result.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(result.getRecordsRead()).isEqualTo(5);
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getRejected()).isEqualTo(2);
+        assertThat(result.getFinishedAt()).isNotNull();
+
+        List<Patient> patients = patientRepository.findAll();
+        assertThat(patients).extracting(Patient::getFirstName).containsExactlyInAnyOrder("Ann", "Cid", "Dee");
+        assertThat(patients).allSatisfy(p -> {
+            assertThat(p.getStatus()).isEqualTo(PatientStatus.ACTIVE);
+            assertThat(p.getBloodGroup()).isEqualTo(BloodGroup.UNKNOWN);
+            assertThat(p.getCreatedBy()).isEqualTo("migration");
+            assertThat(p.getUpdatedBy()).isEqualTo("migration");
+            assertThat(p.getVersion()).isZero();
+        });
+
+        PagedResponse<PatientImportRejectionResponse> rejections =
+                importService.getRejections(result.getImportId(), 0, 20);
+        assertThat(rejections.getContent()).extracting(PatientImportRejectionResponse::getLineNumber)
+                .containsExactly(2L, 4L);
+        assertThat(rejections.getContent().get(0).getErrors()).containsOnlyKeys("lastName");
+        assertThat(rejections.getContent().get(1).getErrors()).containsOnlyKeys("record");
+    }
+
+    @Test
+    @DisplayName("CSV: header names the fields, empty cells are null and quoted commas survive")
+    void csv_importsRows() {
+        String body = """
+                firstName,lastName,dateOfBirth,gender,phoneNumber,email,address
+                Ann,Doe,1990-01-15,FEMALE,555-000-0001,,"1 Main St, Springfield"
+                Bob,Roe,not-a-date,MALE,555-000-0002,,
+                """;
+
+        PatientImportResponse result = importText(body, ImportFormat.CSV);
+
+        assertThat(result.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(result.getImported()).isEqualTo(1);
+        Patient ann = patientRepository.findAll().get(0);
+        assertThat(ann.getEmail()).isNull();
+        assertThat(ann.getAddress()).isEqualTo("1 Main St, Springfield");
+        assertThat(importService.getRejections(result.getImportId(), 0, 20).getContent())
+                .singleElement()
+                .satisfies(r -> {
+                    assertThat(r.getLineNumber()).isEqualTo(3L);
+                    assertThat(r.getErrors()).containsOnlyKeys("dateOfBirth");
+                });
+    }
+
+    @Test
+    @DisplayName("a chunk the database refuses fails the import and keeps earlier chunks, without quoting values")
+    void failedChunk_keepsCommittedChunks() {
+        // Passes the 255-character request limit but not the 200-character column
+        String longAddress = "A".repeat(220);
+        String body = String.join("\n",
+                ndjson("Ann", "555-000-0001"),
+                ndjson("Bob", "555-000-0002"),
+                ndjson("Cid", "555-000-0003").replace("}", ",\"address\":\"" + longAddress + "\"}"),
+                ndjson("Dee", "555-000-0004"));
+
+        PatientImportResponse result = importText(body, ImportFormat.NDJSON);
+
+        assertThat(result.getStatus()).isEqualTo(ImportStatus.FAILED);
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getErrorMessage()).contains("line 3").doesNotContain(longAddress);
+        assertThat(patientRepository.count()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM patient_outbox", Long.class)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("an upload spanning many chunks is fully committed and listed")
+    void largeUpload_allChunksCommitted() {
+        String body = String.join("\n", IntStream.rangeClosed(1, 101)
+                .mapToObj(i -> ndjson("Pat", String.format("555-100-%04d", i)))
+                .toList());
+
+        PatientImportResponse result = importText(body, ImportFormat.NDJSON);
+
+        assertThat(result.getImported()).isEqualTo(101);
+        assertThat(importService.listImports()).extracting(PatientImportResponse::getImportId)
+                .containsExactly(result.getImportId());
+    }
+
+    private static final class SequentialIdGenerator implements PatientIdGenerator {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public String generatePatientId() {
+            return "P" + LocalDate.now().getYear() + String.format("%03d", counter.incrementAndGet());
+        }
+
+        @Override
+        public List<String> generatePatientIds(int count) {
+            return IntStream.range(0, count).mapToObj(i -> generatePatientId()).toList();
+        }
+    }
+}
@@ -1,13 +1,16 @@
 package com.ainexus.hpm.patient.mapper;
 
+import com.ainexus.hpm.patient.dto.request.PatientPatchRequest;
 import com.ainexus.hpm.patient.dto.request.PatientRegistrationRequest;
 import com.ainexus.hpm.patient.dto.request.PatientUpdateRequest;
 import com.ainexus.hpm.patient.dto.response.PatientResponse;
 import com.ainexus.hpm.patient.dto.response.PatientSummaryResponse;
 import com.ainexus.hpm.patient.entity.Patient;
+import com.ainexus.hpm.patient.enums.EditOutcome;
 import com.ainexus.hpm.patient.enums.BloodGroup;
 import com.ainexus.hpm.patient.enums.Gender;
 import com.ainexus.hpm.patient.enums.PatientStatus;
+import com.ainexus.hpm.patient.repository.PatientSummaryView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -57,6 +60,7 @@ class PatientMapperTest {
         assertThat(patient.getFirstName()).isEqualTo("John");  // trimmed
         assertThat(patient.getLastName()).isEqualTo("Doe");    // trimmed
         assertThat(patient.getPhoneNumber()).isEqualTo("555-867-5309");  // trimmed
+        assertThat(patient.getPhoneNormalized()).isEqualTo("+15558675309");
         assertThat(patient.getDateOfBirth()).isEqualTo(LocalDate.of(1990, 5, 15));
         assertThat(patient.getGender()).isEqualTo(Gender.MALE);
         assertThat(patient.getEmail()).isEqualTo("john@example.com");
@@ -134,6 +138,18 @@ class PatientMapperTest {
         assertThat(summary.getStatus()).isEqualTo(PatientStatus.ACTIVE);
     }
 
+    @Test
+    @DisplayName("toSummaryResponse: maps a projected summary row identically to the entity")
+    void toSummaryResponse_fromProjection_matchesEntityMapping() {
+        LocalDate dob = LocalDate.now().minusYears(30);
+        Patient patient = buildSamplePatient(dob);
+        PatientSummaryView row = new PatientSummaryView(patient.getPatientId(), patient.getFirstName(),
+                patient.getLastName(), dob, patient.getGender(), patient.getPhoneNumber(), patient.getStatus(),
+                LocalDateTime.now());
+
+        assertThat(mapper.toSummaryResponse(row)).isEqualTo(mapper.toSummaryResponse(patient));
+    }
+
     // ─── updateEntity ─────────────────────────────────────────────────────────
 
     @Test
@@ -154,11 +170,11 @@ class PatientMapperTest {
                 .bloodGroup(BloodGroup.B_NEG)
                 .build();
 
-        mapper.updateEntity(patient, request, "admin01");
-
+        assertThat(mapper.updateEntity(patient, request, "admin01")).isEqualTo(EditOutcome.PHONE_CHANGED);
         assertThat(patient.getFirstName()).isEqualTo("Jane");   // trimmed
         assertThat(patient.getLastName()).isEqualTo("Smith");   // trimmed
         assertThat(patient.getPhoneNumber()).isEqualTo("555-999-0000");  // trimmed
+        assertThat(patient.getPhoneNormalized()).isEqualTo("+15559990000");
         assertThat(patient.getDateOfBirth()).isEqualTo(LocalDate.of(1985, 6, 20));
         assertThat(patient.getGender()).isEqualTo(Gender.FEMALE);
         assertThat(patient.getEmail()).isEqualTo("jane@example.com");
@@ -168,6 +184,73 @@ class PatientMapperTest {
         assertThat(patient.getUpdatedAt()).isNotNull();
     }
 
+    @Test
+    @DisplayName("updateEntity: returns UNCHANGED and leaves audit fields alone when nothing changes")
+    void updateEntity_noChange_returnsUnchanged() {
+        Patient patient = buildSamplePatient(LocalDate.of(1990, 1, 1));
+        patient.setPhoneNormalized("+15558675309");
+        LocalDateTime updatedAt = patient.getUpdatedAt();
+        PatientUpdateRequest request = PatientUpdateRequest.builder()
+                .firstName(" John ")
+                .lastName("Doe")
+                .dateOfBirth(LocalDate.of(1990, 1, 1))
+                .gender(Gender.MALE)
+                .phoneNumber("555-867-5309")
+                .build();
+
+        assertThat(mapper.updateEntity(patient, request, "admin01")).isEqualTo(EditOutcome.UNCHANGED);
+        assertThat(patient.getUpdatedAt()).isEqualTo(updatedAt);
+        assertThat(patient.getUpdatedBy()).isEqualTo("receptionist01");
+    }
+
+    // ─── patchEntity ──────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("patchEntity: changes only the supplied fields")
+    void patchEntity_appliesSuppliedFieldsOnly() {
+        Patient patient = buildSamplePatient(LocalDate.of(1990, 1, 1));
+        patient.setKnownAllergies("Penicillin");
+
+        EditOutcome outcome = mapper.patchEntity(patient,
+                PatientPatchRequest.builder().phoneNumber(" (555) 999-0000 ").build(), "admin01");
+
+        assertThat(outcome).isEqualTo(EditOutcome.PHONE_CHANGED);
+        assertThat(patient.getPhoneNumber()).isEqualTo("(555) 999-0000");
+        assertThat(patient.getPhoneNormalized()).isEqualTo("+15559990000");
+        assertThat(patient.getFirstName()).isEqualTo("John");
+        assertThat(patient.getKnownAllergies()).isEqualTo("Penicillin");
+        assertThat(patient.getBloodGroup()).isEqualTo(BloodGroup.O_NEG);
+        assertThat(patient.getUpdatedBy()).isEqualTo("admin01");
+    }
+
+    @Test
+    @DisplayName("patchEntity: returns UNCHANGED for an empty patch or one repeating current values")
+    void patchEntity_noChange_returnsUnchanged() {
+        Patient patient = buildSamplePatient(LocalDate.of(1990, 1, 1));
+
+        assertThat(mapper.patchEntity(patient, new PatientPatchRequest(), "admin01")).isEqualTo(EditOutcome.UNCHANGED);
+        assertThat(mapper.patchEntity(patient,
+                PatientPatchRequest.builder().lastName("Doe").gender(Gender.MALE).build(), "admin01"))
+                .isEqualTo(EditOutcome.UNCHANGED);
+        assertThat(patient.getUpdatedBy()).isEqualTo("receptionist01");
+    }
+
+    @Test
+    @DisplayName("patchEntity: an edit that leaves phone_normalized alone is not a phone change")
+    void patchEntity_phoneUntouched_returnsChanged() {
+        Patient patient = buildSamplePatient(LocalDate.of(1990, 1, 1));
+        patient.setPhoneNormalized("+15558675309");
+
+        assertThat(mapper.patchEntity(patient,
+                PatientPatchRequest.builder().address("456 Oak Ave").knownAllergies("Latex").build(), "admin01"))
+                .isEqualTo(EditOutcome.CHANGED);
+        // Same number in another accepted spelling
+        assertThat(mapper.patchEntity(patient,
+                PatientPatchRequest.builder().phoneNumber("(555) 867-5309").build(), "admin01"))
+                .isEqualTo(EditOutcome.CHANGED);
+        assertThat(patient.getPhoneNumber()).isEqualTo("(555) 867-5309");
+    }
+
     // ─── Helpers ──────────────────────────────────────────────────────────────
 
     private PatientRegistrationRequest buildMinimalRequest() {
@@ -0,0 +1,98 @@
+package com.ainexus.hpm.patient.metrics;
+
+import com.ainexus.hpm.patient.enums.BloodGroup;
+import com.ainexus.hpm.patient.enums.Gender;
+import com.ainexus.hpm.patient.enums.PatientStatusFilter;
+import com.ainexus.hpm.patient.exception.PatientNotFoundException;
+import com.ainexus.hpm.patient.repository.PatientRepository;
+import com.ainexus.hpm.patient.service.PatientService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PatientMetricsAspect Unit Tests")
+class PatientMetricsAspectTest {
+
+    @Mock
+    private PatientService target;
+
+    @Mock
+    private PatientRepository repositoryTarget;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PatientService patientService;
+    private PatientRepository patientRepository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        PatientMetricsAspect aspect = new PatientMetricsAspect(meterRegistry);
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(aspect);
+        patientService = factory.getProxy();
+        AspectJProxyFactory repositoryFactory = new AspectJProxyFactory(repositoryTarget);
+        repositoryFactory.addAspect(aspect);
+        patientRepository = repositoryFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("search is tagged with the filter shape, never the search term")
+    void search_taggedWithFilterShape() {
+        patientService.searchPatients("Jane Doe", PatientStatusFilter.ACTIVE, Gender.FEMALE, null, 0, 20, null);
+
+        Timer timer = meterRegistry.get(PatientMetricsAspect.SERVICE_TIMER)
+                .tags("method", "searchPatients", "outcome", "success", "filters", "search+status+gender")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(meterRegistry.getMeters())
+                .allSatisfy(meter -> assertThat(meter.getId().getTags())
+                        .noneMatch(tag -> tag.getValue().contains("Jane")));
+    }
+
+    @Test
+    @DisplayName("repository calls are timed with outcome, and carry the filter shape of the enclosing search")
+    void repository_taggedWithOutcomeAndEnclosingFilterShape() {
+        given(target.searchPatientsKeyset(null, null, null, BloodGroup.O_NEG, null, 20)).willAnswer(invocation -> {
+            patientRepository.existsById("P2026001");
+            return null;
+        });
+
+        patientService.searchPatientsKeyset(null, null, null, BloodGroup.O_NEG, null, 20);
+        patientRepository.existsById("P2026002");
+
+        assertThat(meterRegistry.get(PatientMetricsAspect.REPOSITORY_TIMER)
+                .tags("method", "existsById", "outcome", "success", "filters", "bloodGroup")
+                .timer()
+                .count()).isEqualTo(1);
+        assertThat(meterRegistry.get(PatientMetricsAspect.REPOSITORY_TIMER)
+                .tags("method", "existsById", "outcome", "success", "filters", "n/a")
+                .timer()
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("a failure is recorded with its outcome class and rethrown")
+    void failure_recordedWithOutcome() {
+        given(target.getPatientById("P2026999")).willThrow(new PatientNotFoundException("P2026999"));
+
+        assertThatThrownBy(() -> patientService.getPatientById("P2026999"))
+                .isInstanceOf(PatientNotFoundException.class);
+
+        assertThat(meterRegistry.get(PatientMetricsAspect.SERVICE_TIMER)
+                .tags("method", "getPatientById", "outcome", "not_found",
+                        "exception", "PatientNotFoundException", "filters", "n/a")
+                .timer()
+                .count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,31 @@
+package com.ainexus.hpm.patient.outbox;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Test sink that keeps delivered events in memory; {@link #failNextDelivery()} makes the next
+ * batch throw to exercise the relay's rollback path.
+ */
+class InMemoryPatientEventSink implements PatientEventSink {
+
+    private final List<PatientEvent> delivered = new CopyOnWriteArrayList<>();
+    private volatile boolean failNext;
+
+    @Override
+    public void deliver(List<PatientEvent> events) {
+        if (failNext) {
+            failNext = false;
+            throw new IllegalStateException("sink unavailable");
+        }
+        delivered.addAll(events);
+    }
+
+    void failNextDelivery() {
+        failNext = true;
+    }
+
+    List<PatientEvent> delivered() {
+        return List.copyOf(delivered);
+    }
+}
@@ -0,0 +1,165 @@
+package com.ainexus.hpm.patient.outbox;
+
+import com.ainexus.hpm.patient.entity.Patient;
+import com.ainexus.hpm.patient.enums.PatientEventType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Outbox write and relay against PostgreSQL 15. Each step runs in its own committed
+ * transaction, as in production, so SKIP LOCKED and rollbacks behave for real.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.open-in-view=false"
+})
+@DisplayName("Patient lifecycle outbox and relay")
+class PatientOutboxIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withInitScript("db/init-schema.sql");
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private JdbcPatientEventOutbox outbox;
+    private InMemoryPatientEventSink sink;
+    private SimpleMeterRegistry meterRegistry;
+    private PatientOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        outbox = new JdbcPatientEventOutbox(entityManager, jdbcTemplate);
+        sink = new InMemoryPatientEventSink();
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new PatientOutboxRelay(jdbcTemplate, transactionTemplate, sink, meterRegistry, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM patient_outbox");
+    }
+
+    private static List<Patient> patients(String... patientIds) {
+        return Stream.of(patientIds)
+                .map(patientId -> Patient.builder().patientId(patientId).version(3).build())
+                .toList();
+    }
+
+    private void recordCommitted(PatientEventType type, String... patientIds) {
+        transactionTemplate.executeWithoutResult(status -> outbox.recordAll(type, patients(patientIds)));
+    }
+
+    private long outboxSize() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM patient_outbox", Long.class);
+    }
+
+    @Test
+    @DisplayName("committed events are delivered in order, deleted and measured")
+    void committedEvents_relayedAndDeleted() {
+        recordCommitted(PatientEventType.REGISTERED, "P2026001", "P2026002");
+        recordCommitted(PatientEventType.DEACTIVATED, "P2026001");
+
+        relay.drain();
+
+        assertThat(sink.delivered())
+                .extracting(PatientEvent::type, PatientEvent::patientId, PatientEvent::patientVersion)
+                .containsExactly(
+                        tuple(PatientEventType.REGISTERED, "P2026001", 3),
+                        tuple(PatientEventType.REGISTERED, "P2026002", 3),
+                        tuple(PatientEventType.DEACTIVATED, "P2026001", 3));
+        assertThat(outboxSize()).isZero();
+        assertThat(meterRegistry.get("patient.outbox.relay.lag").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("patient.outbox.relay.batch.size").summary().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("patient.outbox.relay.batch.size").summary().totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("an event written by a rolled-back transaction is never relayed")
+    void rolledBackWrite_leavesNoEvent() {
+        transactionTemplate.executeWithoutResult(status -> {
+            outbox.record(PatientEventType.UPDATED, patients("P2026001").get(0));
+            status.setRollbackOnly();
+        });
+
+        relay.drain();
+
+        assertThat(sink.delivered()).isEmpty();
+        assertThat(outboxSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("a sink failure keeps the batch for the next run and counts the failure")
+    void sinkFailure_batchRetried() {
+        recordCommitted(PatientEventType.ACTIVATED, "P2026001");
+        sink.failNextDelivery();
+
+        relay.drain();
+
+        assertThat(sink.delivered()).isEmpty();
+        assertThat(outboxSize()).isEqualTo(1);
+        assertThat(meterRegistry.get("patient.outbox.relay.failures").counter().count()).isEqualTo(1);
+
+        relay.drain();
+
+        assertThat(sink.delivered()).extracting(PatientEvent::patientId).containsExactly("P2026001");
+        assertThat(outboxSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("a concurrent relay skips rows another relay has claimed instead of waiting")
+    void concurrentClaims_doNotOverlap() {
+        recordCommitted(PatientEventType.REGISTERED, "P2026001", "P2026002", "P2026003", "P2026004");
+
+        List<String> claimedByOther = transactionTemplate.execute(status -> {
+            List<String> claimed = jdbcTemplate.query(
+                    PatientOutboxRelay.CLAIM_BATCH, (rs, rowNum) -> rs.getString("patient_id"), 2);
+            // Runs on its own connection while this transaction still holds the row locks
+            CompletableFuture.runAsync(relay::relayBatch).join();
+            status.setRollbackOnly();
+            return claimed;
+        });
+
+        assertThat(claimedByOther).containsExactly("P2026001", "P2026002");
+        assertThat(sink.delivered()).extracting(PatientEvent::patientId).containsExactly("P2026003", "P2026004");
+        assertThat(outboxSize()).isEqualTo(2);
+    }
+}
@@ -4,6 +4,10 @@ import com.ainexus.hpm.patient.entity.Patient;
 import com.ainexus.hpm.patient.enums.BloodGroup;
 import com.ainexus.hpm.patient.enums.Gender;
 import com.ainexus.hpm.patient.enums.PatientStatus;
+import com.ainexus.hpm.patient.search.PatientChangeCursor;
+import com.ainexus.hpm.patient.search.PatientCursor;
+import com.ainexus.hpm.patient.search.PatientSearchCriteria;
+import com.ainexus.hpm.patient.search.PatientSpecifications;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,6 +17,9 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.TestPropertySource;
 import org.testcontainers.containers.PostgreSQLContainer;
@@ -21,9 +28,11 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 
 import jakarta.persistence.criteria.Predicate;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -34,9 +43,13 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
  * Covers:
  *  - NOT NULL and check constraint enforcement
  *  - Primary key uniqueness
- *  - findByPatientId, existsByPhoneNumber, existsByPhoneNumberAndPatientIdNot
- *  - findMaxCounterForYear (patient ID generation counter query)
+ *  - findByPatientId and normalized-phone duplicate checks (including insertReportingDuplicatePhone)
+ *  - findMaxPatientIdForYear (patient ID generation counter query)
  *  - Specification-based dynamic search (status, gender, bloodGroup, text search, combined)
+ *  - Trigram search on the generated search_text column
+ *  - PatientSummaryView projection and keyset pagination (findSummaries + afterCursor)
+ *  - Change-feed keyset over (updatedAt, patientId) (findPatients + changedAfter)
+ *  - Cursor-based streaming for the export (streamAll)
  *  - Optimistic locking (concurrent update → OptimisticLockingFailureException)
  *
  * Retroactively catches the bloodGroup null bug discovered only during live Docker testing.
@@ -73,6 +86,7 @@ class PatientRepositoryIntegrationTest {
                 .dateOfBirth(LocalDate.of(1990, 1, 15))
                 .gender(Gender.MALE)
                 .phoneNumber("555-100-0001")
+                .phoneNormalized("+15551000001")
                 .createdBy("test")
                 .build();
     }
@@ -85,7 +99,7 @@ class PatientRepositoryIntegrationTest {
         return p;
     }
 
-    // Inline spec builders (mirrors PatientServiceImpl.buildSearchSpec logic)
+    // Inline spec builders (mirrors PatientSpecifications.filters / columnLikeSearch)
     private Specification<Patient> statusSpec(PatientStatus status) {
         return (root, query, cb) -> cb.equal(root.get("status"), status);
     }
@@ -343,6 +357,16 @@ class PatientRepositoryIntegrationTest {
             Patient saved = repository.findByPatientId("P2026H02").get();
             assertThat(saved.getBloodGroup()).isEqualTo(BloodGroup.UNKNOWN);
         }
+
+        @Test
+        @DisplayName("estimateTotalPatients reads the planner row count after ANALYZE")
+        void estimateTotalPatients_afterAnalyze_matchesRowCount() {
+            repository.saveAll(List.of(buildPatient("P2026H03"), buildPatient("P2026H04"), buildPatient("P2026H05")));
+            entityManager.flush();
+            entityManager.getEntityManager().createNativeQuery("ANALYZE patients").executeUpdate();
+
+            assertThat(repository.estimateTotalPatients()).isEqualTo(repository.count());
+        }
     }
 
     // -------------------------------------------------------------------------
@@ -350,7 +374,7 @@ class PatientRepositoryIntegrationTest {
     // -------------------------------------------------------------------------
 
     @Nested
-    @DisplayName("Phone number existence checks")
+    @DisplayName("Normalized phone duplicate checks")
     class PhoneNumberChecks {
 
         @BeforeEach
@@ -359,83 +383,248 @@ class PatientRepositoryIntegrationTest {
         }
 
         @Test
-        @DisplayName("existsByPhoneNumber returns true for existing number")
-        void existsByPhoneNumber_existing_returnsTrue() {
-            assertThat(repository.existsByPhoneNumber("555-100-0001")).isTrue();
+        @DisplayName("existsByPhoneNormalizedAndPatientIdNot returns true when different patient has same number")
+        void existsByPhoneNormalizedAndPatientIdNot_differentPatient_returnsTrue() {
+            // P2026P01 already has +15551000001; asking "does any OTHER patient have this number?"
+            assertThat(repository.existsByPhoneNormalizedAndPatientIdNot("+15551000001", "P2026P99"))
+                    .isTrue();
         }
 
         @Test
-        @DisplayName("existsByPhoneNumber returns false for unknown number")
-        void existsByPhoneNumber_nonExisting_returnsFalse() {
-            assertThat(repository.existsByPhoneNumber("000-000-0000")).isFalse();
+        @DisplayName("existsByPhoneNormalizedAndPatientIdNot returns false when same patient owns the number")
+        void existsByPhoneNormalizedAndPatientIdNot_samePatient_returnsFalse() {
+            // P2026P01 owns +15551000001; exclude P2026P01 from the check → no other patient has it
+            assertThat(repository.existsByPhoneNormalizedAndPatientIdNot("+15551000001", "P2026P01"))
+                    .isFalse();
         }
 
         @Test
-        @DisplayName("existsByPhoneNumberAndPatientIdNot returns true when different patient has same number")
-        void existsByPhoneNumberAndPatientIdNot_differentPatient_returnsTrue() {
-            // P2026P01 already has 555-100-0001; asking "does any OTHER patient have this number?"
-            assertThat(repository.existsByPhoneNumberAndPatientIdNot("555-100-0001", "P2026P99"))
-                    .isTrue();
+        @DisplayName("findExistingNormalizedPhones returns only the numbers already on file")
+        void findExistingNormalizedPhones_returnsKnownSubset() {
+            assertThat(repository.findExistingNormalizedPhones(List.of("+15551000001", "+10000000000")))
+                    .containsExactly("+15551000001");
         }
 
         @Test
-        @DisplayName("existsByPhoneNumberAndPatientIdNot returns false when same patient owns the number")
-        void existsByPhoneNumberAndPatientIdNot_samePatient_returnsFalse() {
-            // P2026P01 owns 555-100-0001; exclude P2026P01 from the check → no other patient has it
-            assertThat(repository.existsByPhoneNumberAndPatientIdNot("555-100-0001", "P2026P01"))
-                    .isFalse();
+        @DisplayName("insertReportingDuplicatePhone flags the same number written in another format")
+        void insertReportingDuplicatePhone_otherFormat_flagsDuplicate() {
+            Patient patient = buildPatient("P2026P02");
+            patient.setPhoneNumber("(555) 100-0001");
+
+            assertThat(repository.insertReportingDuplicatePhone(patient)).isTrue();
+
+            Patient inserted = repository.findByPatientId("P2026P02").orElseThrow();
+            assertThat(inserted.getPhoneNumber()).isEqualTo("(555) 100-0001");
+            assertThat(inserted.getStatus()).isEqualTo(PatientStatus.ACTIVE);
+            assertThat(inserted.getBloodGroup()).isEqualTo(BloodGroup.UNKNOWN);
+            assertThat(inserted.getVersion()).isZero();
+            assertThat(patient.getVersion()).isZero();
+        }
+
+        @Test
+        @DisplayName("insertReportingDuplicatePhone does not count the row it inserts")
+        void insertReportingDuplicatePhone_newNumber_noDuplicate() {
+            Patient patient = buildPatient("P2026P03");
+            patient.setPhoneNumber("555-100-0003");
+            patient.setPhoneNormalized("+15551000003");
+
+            assertThat(repository.insertReportingDuplicatePhone(patient)).isFalse();
+            assertThat(repository.existsByPatientId("P2026P03")).isTrue();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Multi-get by ID (findAllByPatientIds / findSummariesByPatientIds)
+    // -------------------------------------------------------------------------
+
+    @Nested
+    @DisplayName("Multi-get by patient ID")
+    class MultiGet {
+
+        @BeforeEach
+        void setup() {
+            savedPatient("P2026M01");
+            savedPatient("P2026M02");
+            savedPatient("P2026M03");
+        }
+
+        @Test
+        @DisplayName("findAllByPatientIds returns only the existing patients among the IDs")
+        void findAllByPatientIds_returnsExistingSubset() {
+            List<Patient> found = repository.findAllByPatientIds(List.of("P2026M01", "P2026M03", "P2026M99"));
+
+            assertThat(found).extracting(Patient::getPatientId)
+                    .containsExactlyInAnyOrder("P2026M01", "P2026M03");
+            assertThat(found).allSatisfy(p -> assertThat(p.getVersion()).isZero());
+        }
+
+        @Test
+        @DisplayName("findSummariesByPatientIds maps the summary columns of the existing patients")
+        void findSummariesByPatientIds_returnsExistingSubset() {
+            List<PatientSummaryView> found = repository.findSummariesByPatientIds(List.of("P2026M02", "P2026M99"));
+
+            assertThat(found).singleElement().satisfies(view -> {
+                assertThat(view.patientId()).isEqualTo("P2026M02");
+                assertThat(view.lastName()).isEqualTo("Doe");
+                assertThat(view.gender()).isEqualTo(Gender.MALE);
+                assertThat(view.status()).isEqualTo(PatientStatus.ACTIVE);
+            });
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Conditional status transition (transitionStatus / transitionStatuses)
+    // -------------------------------------------------------------------------
+
+    @Nested
+    @DisplayName("Conditional status transition")
+    class StatusTransition {
+
+        private final LocalDateTime at = LocalDateTime.of(2026, 3, 1, 9, 0);
+
+        @Test
+        @DisplayName("transitionStatus updates and returns the row only when it is in the from status")
+        void transitionStatus_appliesOnlyFromExpectedStatus() {
+            savedPatient("P2026T01");
+
+            Optional<Patient> changed = repository.transitionStatus(
+                    "P2026T01", PatientStatus.ACTIVE, PatientStatus.INACTIVE, null, "admin01", at);
+            entityManager.clear();
+            Optional<Patient> again = repository.transitionStatus(
+                    "P2026T01", PatientStatus.ACTIVE, PatientStatus.INACTIVE, null, "admin01", at);
+
+            assertThat(changed).hasValueSatisfying(p -> {
+                assertThat(p.getStatus()).isEqualTo(PatientStatus.INACTIVE);
+                assertThat(p.getVersion()).isEqualTo(1);
+                assertThat(p.getDeactivatedBy()).isEqualTo("admin01");
+                assertThat(p.getDeactivatedAt()).isEqualTo(at);
+                assertThat(p.getUpdatedBy()).isEqualTo("admin01");
+            });
+            assertThat(again).isEmpty();
+            assertThat(repository.transitionStatus(
+                    "P2026T99", PatientStatus.ACTIVE, PatientStatus.INACTIVE, null, "admin01", at)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("transitionStatus with an expected version skips a row at another version")
+        void transitionStatus_versionGuard() {
+            savedPatient("P2026T02");
+
+            assertThat(repository.transitionStatus(
+                    "P2026T02", PatientStatus.ACTIVE, PatientStatus.INACTIVE, 5, "admin01", at)).isEmpty();
+            assertThat(repository.transitionStatus(
+                    "P2026T02", PatientStatus.ACTIVE, PatientStatus.INACTIVE, 0, "admin01", at)).isPresent();
+        }
+
+        @Test
+        @DisplayName("transitionStatuses changes every matching row in one statement")
+        void transitionStatuses_changesMatchingSubset() {
+            savedPatient("P2026T03");
+            Patient inactive = buildPatient("P2026T04");
+            inactive.setStatus(PatientStatus.INACTIVE);
+            repository.save(inactive);
+            entityManager.flush();
+            entityManager.clear();
+
+            List<Patient> changed = repository.transitionStatuses(
+                    List.of("P2026T03", "P2026T04", "P2026T99"), PatientStatus.INACTIVE, PatientStatus.ACTIVE, "admin01", at);
+
+            assertThat(changed).singleElement().satisfies(p -> {
+                assertThat(p.getPatientId()).isEqualTo("P2026T04");
+                assertThat(p.getActivatedBy()).isEqualTo("admin01");
+            });
+            assertThat(repository.findExistingPatientIds(List.of("P2026T03", "P2026T99"))).containsExactly("P2026T03");
         }
     }
 
     // -------------------------------------------------------------------------
-    // Patient ID Counter Query (findMaxCounterForYear)
+    // Patient ID Counter Query (findMaxPatientIdForYear)
     // -------------------------------------------------------------------------
 
     @Nested
-    @DisplayName("Patient ID counter query (findMaxCounterForYear)")
+    @DisplayName("Patient ID counter query (findMaxPatientIdForYear)")
     class PatientIdCounter {
 
         @Test
-        @DisplayName("returns max counter for the given year across multiple patients")
-        void findMaxCounterForYear_multiplePatients_returnsHighest() {
+        @DisplayName("returns highest ID for the given year across multiple patients")
+        void findMaxPatientIdForYear_multiplePatients_returnsHighest() {
             Patient p1 = buildPatient("P2026001"); p1.setPhoneNumber("555-010-0001");
             Patient p2 = buildPatient("P2026002"); p2.setPhoneNumber("555-010-0002");
             Patient p3 = buildPatient("P2026003"); p3.setPhoneNumber("555-010-0003");
             repository.saveAll(List.of(p1, p2, p3));
             entityManager.flush();
 
-            Optional<Integer> max = repository.findMaxCounterForYear("2026");
-            assertThat(max).isPresent().hasValue(3);
+            Optional<String> max = repository.findMaxPatientIdForYear("2026");
+            assertThat(max).isPresent().hasValue("P2026003");
         }
 
         @Test
         @DisplayName("returns empty when no patients exist for the given year")
-        void findMaxCounterForYear_noPatients_returnsEmpty() {
-            Optional<Integer> max = repository.findMaxCounterForYear("2099");
+        void findMaxPatientIdForYear_noPatients_returnsEmpty() {
+            Optional<String> max = repository.findMaxPatientIdForYear("2099");
             assertThat(max).isEmpty();
         }
 
         @Test
         @DisplayName("only counts patients for the specified year, ignores other years")
-        void findMaxCounterForYear_multipleYears_ignoresOtherYears() {
+        void findMaxPatientIdForYear_multipleYears_ignoresOtherYears() {
             Patient y2025 = buildPatient("P2025001"); y2025.setPhoneNumber("555-020-0001");
             Patient y2026a = buildPatient("P2026001"); y2026a.setPhoneNumber("555-020-0002");
             Patient y2026b = buildPatient("P2026002"); y2026b.setPhoneNumber("555-020-0003");
             repository.saveAll(List.of(y2025, y2026a, y2026b));
             entityManager.flush();
 
-            assertThat(repository.findMaxCounterForYear("2026")).isPresent().hasValue(2);
-            assertThat(repository.findMaxCounterForYear("2025")).isPresent().hasValue(1);
+            assertThat(repository.findMaxPatientIdForYear("2026")).isPresent().hasValue("P2026002");
+            assertThat(repository.findMaxPatientIdForYear("2025")).isPresent().hasValue("P2025001");
         }
 
         @Test
-        @DisplayName("single patient for the year returns counter 1")
-        void findMaxCounterForYear_singlePatient_returnsOne() {
+        @DisplayName("single patient for the year returns that patient's ID")
+        void findMaxPatientIdForYear_singlePatient_returnsIt() {
             Patient p = buildPatient("P2027001"); p.setPhoneNumber("555-030-0001");
             repository.save(p);
             entityManager.flush();
 
-            assertThat(repository.findMaxCounterForYear("2027")).isPresent().hasValue(1);
+            assertThat(repository.findMaxPatientIdForYear("2027")).isPresent().hasValue("P2027001");
+        }
+
+        @Test
+        @DisplayName("extended IDs sort after compact IDs and by counter width (COLLATE \"C\")")
+        void findMaxPatientIdForYear_extendedIds_orderedByCounter() {
+            Patient compact = buildPatient("P2028999"); compact.setPhoneNumber("555-040-0001");
+            Patient fourDigits = buildPatient("P2028A9999"); fourDigits.setPhoneNumber("555-040-0002");
+            Patient fiveDigits = buildPatient("P2028B10000"); fiveDigits.setPhoneNumber("555-040-0003");
+            repository.saveAll(List.of(compact, fourDigits, fiveDigits));
+            entityManager.flush();
+
+            assertThat(repository.findMaxPatientIdForYear("2028")).isPresent().hasValue("P2028B10000");
+        }
+
+        @Test
+        @DisplayName("legacy overflow IDs sort below compact IDs but are found by the numeric legacy max")
+        void findMaxLegacyOverflowCounterForYear_mixedLegacyAndExtended() {
+            Patient compact = buildPatient("P2029999"); compact.setPhoneNumber("555-050-0001");
+            Patient legacyA = buildPatient("P20291000"); legacyA.setPhoneNumber("555-050-0002");
+            Patient legacyB = buildPatient("P20291005"); legacyB.setPhoneNumber("555-050-0003");
+            Patient extended = buildPatient("P2029A1001"); extended.setPhoneNumber("555-050-0004");
+            Patient otherYear = buildPatient("P20309999"); otherYear.setPhoneNumber("555-050-0005");
+            repository.saveAll(List.of(compact, legacyA, legacyB, extended, otherYear));
+            entityManager.flush();
+
+            // String MAX stops at the extended ID and misses P20291005
+            assertThat(repository.findMaxPatientIdForYear("2029")).isPresent().hasValue("P2029A1001");
+            assertThat(repository.findMaxLegacyOverflowCounterForYear("2029")).isPresent().hasValue(1005L);
+        }
+
+        @Test
+        @DisplayName("legacy overflow max is empty when a year has only compact and extended IDs")
+        void findMaxLegacyOverflowCounterForYear_noLegacyIds_returnsEmpty() {
+            Patient compact = buildPatient("P2031999"); compact.setPhoneNumber("555-060-0001");
+            Patient extended = buildPatient("P2031A1000"); extended.setPhoneNumber("555-060-0002");
+            repository.saveAll(List.of(compact, extended));
+            entityManager.flush();
+
+            assertThat(repository.findMaxLegacyOverflowCounterForYear("2031")).isEmpty();
         }
     }
 
@@ -577,6 +766,227 @@ class PatientRepositoryIntegrationTest {
         }
     }
 
+    // -------------------------------------------------------------------------
+    // Trigram Search (generated search_text column)
+    // -------------------------------------------------------------------------
+
+    @Nested
+    @DisplayName("Trigram search on generated search_text")
+    class TrigramSearch {
+
+        @BeforeEach
+        void setupPatients() {
+            Patient alice = Patient.builder()
+                    .patientId("P2026T01").firstName("Alice").lastName("Johnson")
+                    .dateOfBirth(LocalDate.of(1980, 2, 14)).gender(Gender.FEMALE)
+                    .phoneNumber("555-500-0001").email("alice_j@example.com")
+                    .createdBy("test").build();
+
+            Patient bob = Patient.builder()
+                    .patientId("P2026T02").firstName("Bob").lastName("Smith")
+                    .dateOfBirth(LocalDate.of(1970, 8, 30)).gender(Gender.MALE)
+                    .phoneNumber("555-500-0002").createdBy("test").build();
+
+            repository.saveAll(List.of(alice, bob));
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        @Test
+        @DisplayName("search_text is generated lower-cased by the database")
+        void searchText_isGeneratedOnInsert() {
+            Patient reloaded = repository.findById("P2026T02").orElseThrow();
+            assertThat(reloaded.getSearchText()).contains("p2026t02", "bob", "smith", "555-500-0002");
+        }
+
+        @Test
+        @DisplayName("matches names, patientId, phone and email case-insensitively")
+        void trigramSearch_matchesEveryColumn() {
+            assertThat(repository.findAll(PatientSpecifications.trigramSearch("JOHNSON")))
+                    .extracting(Patient::getPatientId).containsOnly("P2026T01");
+            assertThat(repository.findAll(PatientSpecifications.trigramSearch("p2026t02")))
+                    .extracting(Patient::getPatientId).containsOnly("P2026T02");
+            assertThat(repository.findAll(PatientSpecifications.trigramSearch("500-0002")))
+                    .extracting(Patient::getPatientId).containsOnly("P2026T02");
+            assertThat(repository.findAll(PatientSpecifications.trigramSearch("alice_j@")))
+                    .extracting(Patient::getPatientId).containsOnly("P2026T01");
+        }
+
+        @Test
+        @DisplayName("LIKE wildcards in the term are matched literally")
+        void trigramSearch_escapesWildcards() {
+            assertThat(repository.findAll(PatientSpecifications.trigramSearch("5%0"))).isEmpty();
+            assertThat(repository.findAll(PatientSpecifications.trigramSearch("a_i"))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("a term never matches across a column boundary")
+        void trigramSearch_doesNotSpanColumns() {
+            // "bob" + "smith" are adjacent columns; "bobsmith" must not match
+            assertThat(repository.findAll(PatientSpecifications.trigramSearch("bobsmith"))).isEmpty();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Keyset pagination
+    // -------------------------------------------------------------------------
+
+    @Nested
+    @DisplayName("Summary projection and keyset pagination via findSummaries + afterCursor")
+    class KeysetPagination {
+
+        private final Sort keysetSort = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("patientId"));
+
+        @BeforeEach
+        void setupPatients() {
+            for (int i = 1; i <= 7; i++) {
+                repository.save(buildPatient("P2026K0" + i));
+            }
+            entityManager.flush();
+            // Pairs of identical timestamps force the patientId tie-breaker
+            entityManager.getEntityManager().createNativeQuery("""
+                    UPDATE patients
+                    SET created_at = TIMESTAMPTZ '2026-01-01 00:00:00+00'
+                                     + ((substr(patient_id, 8)::int + 1) / 2) * INTERVAL '1 hour'
+                    WHERE patient_id LIKE 'P2026K%'
+                    """).executeUpdate();
+            entityManager.clear();
+        }
+
+        @Test
+        @DisplayName("walking pages of 2 visits every row exactly once in sort order")
+        void keysetWalk_visitsEveryRowOnce() {
+            List<String> expected = repository.findAll(keysetSort).stream()
+                    .map(Patient::getPatientId).toList();
+
+            List<String> walked = new ArrayList<>();
+            PatientCursor cursor = null;
+            List<PatientSummaryView> page;
+            do {
+                Specification<Patient> spec = cursor == null
+                        ? Specification.where(null)
+                        : PatientSpecifications.afterCursor(cursor);
+                page = repository.findSummaries(spec, keysetSort, 2);
+                page.forEach(p -> walked.add(p.patientId()));
+                if (!page.isEmpty()) {
+                    cursor = PatientCursor.of(page.get(page.size() - 1));
+                }
+            } while (page.size() == 2);
+
+            assertThat(expected).containsExactly(
+                    "P2026K07", "P2026K06", "P2026K05", "P2026K04", "P2026K03", "P2026K02", "P2026K01");
+            assertThat(walked).containsExactlyElementsOf(expected);
+        }
+
+        @Test
+        @DisplayName("findSummaryPage returns the summary columns and an exact total")
+        void findSummaryPage_projectsSummaryColumns() {
+            Page<PatientSummaryView> page = repository.findSummaryPage(
+                    Specification.where(null), PageRequest.of(1, 3, keysetSort));
+
+            assertThat(page.getTotalElements()).isEqualTo(7);
+            assertThat(page.getContent()).extracting(PatientSummaryView::patientId)
+                    .containsExactly("P2026K04", "P2026K03", "P2026K02");
+            PatientSummaryView row = page.getContent().get(0);
+            assertThat(row.firstName()).isEqualTo("John");
+            assertThat(row.dateOfBirth()).isEqualTo(LocalDate.of(1990, 1, 15));
+            assertThat(row.status()).isEqualTo(PatientStatus.ACTIVE);
+            assertThat(row.createdAt()).isNotNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Change feed via findPatients + changedAfter")
+    class ChangeFeed {
+
+        private final Sort changeSort = Sort.by(Sort.Order.asc("updatedAt"), Sort.Order.asc("patientId"));
+
+        @BeforeEach
+        void setupPatients() {
+            for (int i = 1; i <= 5; i++) {
+                repository.save(buildPatient("P2026C0" + i));
+            }
+            entityManager.flush();
+            // C01/C02 share a timestamp to force the patientId tie-breaker; C05 is "in the future"
+            entityManager.getEntityManager().createNativeQuery("""
+                    UPDATE patients
+                    SET updated_at = CASE patient_id
+                        WHEN 'P2026C05' THEN TIMESTAMPTZ '2026-01-01 05:00:00+00'
+                        WHEN 'P2026C03' THEN TIMESTAMPTZ '2026-01-01 01:00:00+00'
+                        WHEN 'P2026C04' THEN TIMESTAMPTZ '2026-01-01 02:00:00+00'
+                        ELSE TIMESTAMPTZ '2026-01-01 03:00:00+00' END
+                    WHERE patient_id LIKE 'P2026C%'
+                    """).executeUpdate();
+            entityManager.clear();
+        }
+
+        @Test
+        @DisplayName("walking with a cursor visits every change up to the horizon once, in (updatedAt, patientId) order")
+        void changeWalk_visitsEveryChangeOnce() {
+            LocalDateTime horizon = repository.findById("P2026C01").orElseThrow().getUpdatedAt();
+
+            List<String> walked = new ArrayList<>();
+            PatientChangeCursor cursor = null;
+            List<Patient> page;
+            do {
+                Specification<Patient> spec = PatientSpecifications.changedNoLaterThan(horizon);
+                if (cursor != null) {
+                    spec = spec.and(PatientSpecifications.changedAfter(cursor));
+                }
+                page = repository.findPatients(spec, changeSort, 2);
+                page.forEach(p -> walked.add(p.getPatientId()));
+                if (!page.isEmpty()) {
+                    cursor = PatientChangeCursor.of(page.get(page.size() - 1));
+                }
+            } while (page.size() == 2);
+
+            assertThat(walked).containsExactly("P2026C03", "P2026C04", "P2026C01", "P2026C02");
+        }
+
+        @Test
+        @DisplayName("a since watermark is exclusive")
+        void changedAfterSince_isExclusive() {
+            LocalDateTime since = repository.findById("P2026C04").orElseThrow().getUpdatedAt();
+
+            List<Patient> changes = repository.findPatients(
+                    PatientSpecifications.changedAfter(since), changeSort, 10);
+
+            assertThat(changes).extracting(Patient::getPatientId)
+                    .containsExactly("P2026C01", "P2026C02", "P2026C05");
+        }
+    }
+
+    @Nested
+    @DisplayName("Streaming export via streamAll")
+    class StreamAll {
+
+        @BeforeEach
+        void setupPatients() {
+            for (int i = 1; i <= 5; i++) {
+                Patient p = buildPatient("P2026E0" + i);
+                p.setGender(i % 2 == 0 ? Gender.FEMALE : Gender.MALE);
+                repository.save(p);
+            }
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        @Test
+        @DisplayName("streams the filtered rows in sort order, detached, across several fetches")
+        void streamAll_filtersSortsAndDetaches() {
+            Specification<Patient> females = PatientSpecifications.filters(
+                    PatientSearchCriteria.builder().gender(Gender.FEMALE).build());
+
+            List<Patient> streamed;
+            try (Stream<Patient> stream = repository.streamAll(females, Sort.by("patientId"), 1)) {
+                streamed = stream.toList();
+            }
+
+            assertThat(streamed).extracting(Patient::getPatientId).containsExactly("P2026E02", "P2026E04");
+            assertThat(streamed).noneMatch(entityManager.getEntityManager()::contains);
+        }
+    }
+
     // -------------------------------------------------------------------------
     // Optimistic Locking
     // -------------------------------------------------------------------------
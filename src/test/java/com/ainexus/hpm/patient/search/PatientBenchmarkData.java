@@ -0,0 +1,56 @@
+package com.ainexus.hpm.patient.search;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Synthetic patient registry shared by the benchmark-tagged tests. Rows are generated
+ * server-side with generate_series, so seeding 1M patients takes seconds, not minutes.
+ */
+final class PatientBenchmarkData {
+
+    static final int PATIENTS = Integer.getInteger("benchmark.patients", 1_000_000);
+
+    private PatientBenchmarkData() {
+    }
+
+    static void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("""
+                INSERT INTO patients (patient_id, first_name, last_name, date_of_birth, gender, blood_group,
+                                      phone, email, address, city, state, zip_code,
+                                      known_allergies, chronic_conditions,
+                                      status, created_at, created_by, updated_at, updated_by)
+                SELECT 'B' || lpad(g::text, 7, '0'),
+                       (ARRAY['James','Mary','Robert','Patricia','John','Jennifer','Michael','Linda','David',
+                              'Elizabeth','William','Barbara','Richard','Susan','Joseph','Jessica','Thomas',
+                              'Sarah','Charles','Karen'])[1 + g % 20],
+                       (ARRAY['Smith','Johnson','Williams','Brown','Jones','Garcia','Miller','Davis','Rodriguez',
+                              'Martinez','Hernandez','Lopez','Gonzalez','Wilson','Anderson','Thomas','Taylor',
+                              'Moore','Jackson','Martin'])[1 + (g / 20) % 20]
+                           || CASE WHEN g % 7 = 0 THEN '-' || substr(md5(g::text), 1, 5) ELSE '' END,
+                       DATE '1940-01-01' + (g % 25000),
+                       (ARRAY['MALE','FEMALE','OTHER'])[1 + g % 3],
+                       (ARRAY['A_POS','A_NEG','B_POS','B_NEG','AB_POS','AB_NEG','O_POS','O_NEG','UNKNOWN'])[1 + g % 9],
+                       '555-' || lpad(((g / 10000) % 1000)::text, 3, '0') || '-' || lpad((g % 10000)::text, 4, '0'),
+                       CASE WHEN g % 3 = 0 THEN NULL ELSE 'user' || g || '@example.com' END,
+                       (g % 9000 + 100) || ' Main Street, Apt ' || (g % 40),
+                       'Springfield', 'IL', lpad((g % 99999)::text, 5, '0'),
+                       CASE WHEN g % 4 = 0 THEN NULL
+                            ELSE 'Penicillin (anaphylaxis); latex (contact dermatitis); shellfish; ' || md5(g::text) END,
+                       CASE WHEN g % 5 = 0 THEN NULL
+                            ELSE 'Type 2 diabetes, diet-controlled; hypertension on ACE inhibitor; asthma, '
+                                 || 'intermittent; notes ' || md5((g * 31)::text) || md5((g * 17)::text) END,
+                       CASE WHEN g % 10 = 0 THEN 'INACTIVE' ELSE 'ACTIVE' END,
+                       TIMESTAMPTZ '2020-01-01 00:00:00+00' + g * INTERVAL '1 second',
+                       'benchmark',
+                       TIMESTAMPTZ '2020-01-01 00:00:00+00' + g * INTERVAL '1 second',
+                       'benchmark'
+                FROM generate_series(1, ?) AS g
+                """, PATIENTS);
+        jdbcTemplate.execute("ANALYZE patients");
+    }
+
+    static double percentile(long[] sorted, int pct) {
+        int index = (int) Math.ceil(pct / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
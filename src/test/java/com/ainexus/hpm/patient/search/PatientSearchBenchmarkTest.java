@@ -0,0 +1,145 @@
+package com.ainexus.hpm.patient.search;
+
+import com.ainexus.hpm.patient.entity.Patient;
+import com.ainexus.hpm.patient.repository.PatientRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the Specification (per-column LIKE) and trigram (GIN on search_text) search
+ * paths on a synthetic registry of 1M patients (override with -Dbenchmark.patients=N).
+ *
+ * Tagged "benchmark" — excluded from the default build. Run with:
+ *   mvn test -Pbenchmark -Dtest=PatientSearchBenchmarkTest
+ *
+ * Asserts that both paths return identical pages and that the trigram path is planned
+ * as a GIN bitmap scan; wall-clock percentiles are printed for comparison, not asserted.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.open-in-view=false"
+})
+@DisplayName("Patient search benchmark: Specification vs trigram")
+class PatientSearchBenchmarkTest {
+
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 15;
+    private static final List<String> TERMS =
+            List.of("smith", "jennifer", "user12345", "555-123", "b00420", "zzqx");
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withInitScript("db/init-schema.sql");
+
+    private static boolean seeded;
+
+    @Autowired
+    PatientRepository repository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private PatientSearchStrategy specification;
+    private PatientSearchStrategy trigram;
+
+    @BeforeEach
+    void setUp() {
+        specification = new SpecificationPatientSearchStrategy();
+        trigram = new TrigramPatientSearchStrategy();
+        if (!seeded) {
+            PatientBenchmarkData.seed(jdbcTemplate);
+            seeded = true;
+        }
+    }
+
+    private static Pageable firstPage() {
+        return PageRequest.of(0, 20, Sort.by("createdAt").descending());
+    }
+
+    private Page<Patient> search(PatientSearchStrategy strategy, String term) {
+        PatientSearchCriteria criteria = PatientSearchCriteria.builder().search(term).build();
+        return repository.findAll(strategy.toSpecification(criteria), firstPage());
+    }
+
+    @Test
+    @DisplayName("both strategies return identical pages and totals for every term")
+    void strategies_returnIdenticalResults() {
+        for (String term : TERMS) {
+            Page<Patient> expected = search(specification, term);
+            Page<Patient> actual = search(trigram, term);
+
+            assertThat(actual.getTotalElements()).as("total for '%s'", term)
+                    .isEqualTo(expected.getTotalElements());
+            assertThat(actual.getContent()).extracting(Patient::getPatientId).as("page for '%s'", term)
+                    .containsExactlyElementsOf(expected.getContent().stream().map(Patient::getPatientId).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("trigram predicate is planned as a GIN bitmap index scan")
+    void trigramPredicate_usesGinIndex() {
+        String plan = String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN SELECT patient_id FROM patients WHERE search_text LIKE '%smith%'", String.class));
+
+        assertThat(plan).contains("idx_patients_search_text_trgm");
+    }
+
+    @Test
+    @DisplayName("latency: Specification vs trigram on first page + count")
+    void latency_specificationVsTrigram() {
+        System.out.printf("%nPatient search benchmark — %,d patients, %d runs per cell (ms)%n",
+                PatientBenchmarkData.PATIENTS, MEASURED_RUNS);
+        System.out.printf("%-12s %14s %14s %14s %14s%n", "term", "spec p50", "spec p95", "trigram p50", "trigram p95");
+        for (String term : TERMS) {
+            long[] spec = measure(specification, term);
+            long[] trgm = measure(trigram, term);
+            System.out.printf("%-12s %14.1f %14.1f %14.1f %14.1f%n", term,
+                    percentile(spec, 50), percentile(spec, 95), percentile(trgm, 50), percentile(trgm, 95));
+        }
+    }
+
+    private long[] measure(PatientSearchStrategy strategy, String term) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            search(strategy, term);
+        }
+        List<Long> samples = new ArrayList<>(MEASURED_RUNS);
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            search(strategy, term);
+            samples.add(System.nanoTime() - start);
+        }
+        return samples.stream().mapToLong(Long::longValue).sorted().toArray();
+    }
+
+    private static double percentile(long[] sortedNanos, int pct) {
+        return PatientBenchmarkData.percentile(sortedNanos, pct) / 1_000_000.0;
+    }
+}
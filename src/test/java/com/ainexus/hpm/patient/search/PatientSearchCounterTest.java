@@ -0,0 +1,138 @@
+package com.ainexus.hpm.patient.search;
+
+import com.ainexus.hpm.patient.entity.Patient;
+import com.ainexus.hpm.patient.enums.CountMode;
+import com.ainexus.hpm.patient.enums.Gender;
+import com.ainexus.hpm.patient.enums.PatientStatusFilter;
+import com.ainexus.hpm.patient.repository.PatientRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PatientSearchCounter Unit Tests")
+class PatientSearchCounterTest {
+
+    private static final PatientSearchCriteria UNFILTERED = PatientSearchCriteria.builder().build();
+    private static final PatientSearchCriteria SMITHS = PatientSearchCriteria.builder().search("smith").build();
+
+    @Mock
+    private PatientRepository patientRepository;
+
+    private final Specification<Patient> spec = (root, query, cb) -> null;
+
+    private MutableClock clock;
+    private PatientSearchCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-06-01T10:00:00Z"));
+        counter = new PatientSearchCounter(patientRepository, CountMode.CACHED, Duration.ofSeconds(30), clock);
+    }
+
+    // ─── resolveMode ─────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("resolveMode: request overrides the configured default")
+    void resolveMode_requestOverridesDefault() {
+        assertThat(counter.resolveMode(null, SMITHS)).isEqualTo(CountMode.CACHED);
+        assertThat(counter.resolveMode(CountMode.SKIP, SMITHS)).isEqualTo(CountMode.SKIP);
+    }
+
+    @Test
+    @DisplayName("resolveMode: ESTIMATE applies to unfiltered lists only")
+    void resolveMode_estimateOnFilteredList_fallsBackToExact() {
+        PatientSearchCriteria all = PatientSearchCriteria.builder().status(PatientStatusFilter.ALL).build();
+        PatientSearchCriteria women = PatientSearchCriteria.builder().gender(Gender.FEMALE).build();
+
+        assertThat(counter.resolveMode(CountMode.ESTIMATE, UNFILTERED)).isEqualTo(CountMode.ESTIMATE);
+        assertThat(counter.resolveMode(CountMode.ESTIMATE, all)).isEqualTo(CountMode.ESTIMATE);
+        assertThat(counter.resolveMode(CountMode.ESTIMATE, women)).isEqualTo(CountMode.EXACT);
+        assertThat(counter.resolveMode(CountMode.ESTIMATE, SMITHS)).isEqualTo(CountMode.EXACT);
+    }
+
+    // ─── estimatedTotal ──────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("estimatedTotal: empty until the table has been analyzed")
+    void estimatedTotal_neverAnalyzed_isEmpty() {
+        given(patientRepository.estimateTotalPatients()).willReturn(-1L, 1_000_000L);
+
+        assertThat(counter.estimatedTotal()).isEmpty();
+        assertThat(counter.estimatedTotal()).hasValue(1_000_000L);
+    }
+
+    // ─── cachedTotal ─────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("cachedTotal: reuses a count for the same filters until the TTL passes")
+    void cachedTotal_reusedWithinTtl() {
+        given(patientRepository.count(any(Specification.class))).willReturn(42L, 43L);
+
+        assertThat(counter.cachedTotal(SMITHS, spec)).isEqualTo(42L);
+        clock.instant = clock.instant.plusSeconds(29);
+        assertThat(counter.cachedTotal(SMITHS, spec)).isEqualTo(42L);
+        clock.instant = clock.instant.plusSeconds(1);
+        assertThat(counter.cachedTotal(SMITHS, spec)).isEqualTo(43L);
+
+        verify(patientRepository, times(2)).count(any(Specification.class));
+    }
+
+    @Test
+    @DisplayName("cachedTotal: different filters are counted separately")
+    void cachedTotal_keyedByFilterTuple() {
+        given(patientRepository.count(any(Specification.class))).willReturn(42L, 7L);
+
+        assertThat(counter.cachedTotal(SMITHS, spec)).isEqualTo(42L);
+        assertThat(counter.cachedTotal(UNFILTERED, spec)).isEqualTo(7L);
+        assertThat(counter.cachedTotal(PatientSearchCriteria.builder().search("smith").build(), spec))
+                .isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("constructor: rejects a non-positive TTL")
+    void constructor_invalidTtl_throws() {
+        assertThatThrownBy(() -> new PatientSearchCounter(patientRepository, CountMode.EXACT, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.ainexus.hpm.patient.search;
+
+import com.ainexus.hpm.patient.dto.response.PatientSummaryResponse;
+import com.ainexus.hpm.patient.entity.Patient;
+import com.ainexus.hpm.patient.mapper.PatientMapper;
+import com.ainexus.hpm.patient.repository.PatientRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares loading a page of full Patient entities (the pre-projection search path) with the
+ * PatientSummaryView constructor-expression projection, both mapped to PatientSummaryResponse.
+ *
+ * Tagged "benchmark" — excluded from the default build. Run with:
+ *   mvn test -Pbenchmark -Dtest=PatientSummaryProjectionBenchmarkTest
+ *
+ * Asserts identical responses and narrower rows; prints bytes per page as stored
+ * (pg_column_size) and JVM bytes allocated per page by the calling thread.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.open-in-view=false"
+})
+@DisplayName("Patient list benchmark: entity vs summary projection")
+class PatientSummaryProjectionBenchmarkTest {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP_RUNS = 20;
+    private static final int MEASURED_RUNS = 50;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withInitScript("db/init-schema.sql");
+
+    private static boolean seeded;
+
+    @Autowired
+    PatientRepository repository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private final PatientMapper mapper = new PatientMapper();
+    private final Specification<Patient> smiths = new TrigramPatientSearchStrategy()
+            .toSpecification(PatientSearchCriteria.builder().search("smith").build());
+
+    @BeforeEach
+    void setUp() {
+        if (!seeded) {
+            PatientBenchmarkData.seed(jdbcTemplate);
+            seeded = true;
+        }
+    }
+
+    private static Pageable page(int number) {
+        return PageRequest.of(number, PAGE_SIZE, Sort.by("createdAt").descending());
+    }
+
+    private Page<PatientSummaryResponse> entityPage(Specification<Patient> spec, Pageable pageable) {
+        return repository.findAll(spec, pageable).map(mapper::toSummaryResponse);
+    }
+
+    private Page<PatientSummaryResponse> projectionPage(Specification<Patient> spec, Pageable pageable) {
+        return repository.findSummaryPage(spec, pageable).map(mapper::toSummaryResponse);
+    }
+
+    @Test
+    @DisplayName("both paths return identical responses")
+    void entityAndProjection_returnIdenticalPages() {
+        for (Specification<Patient> spec : Arrays.asList(Specification.<Patient>where(null), smiths)) {
+            Page<PatientSummaryResponse> expected = entityPage(spec, page(3));
+            Page<PatientSummaryResponse> actual = projectionPage(spec, page(3));
+
+            assertThat(actual.getTotalElements()).isEqualTo(expected.getTotalElements());
+            assertThat(actual.getContent()).containsExactlyElementsOf(expected.getContent());
+        }
+    }
+
+    @Test
+    @DisplayName("stored bytes per page: full row vs summary columns")
+    void bytesPerPage_projectionIsNarrower() {
+        Long entityBytes = jdbcTemplate.queryForObject("""
+                SELECT sum(pg_column_size(t.*)) FROM (
+                    SELECT * FROM patients ORDER BY created_at DESC LIMIT ?) t
+                """, Long.class, PAGE_SIZE);
+        Long projectionBytes = jdbcTemplate.queryForObject("""
+                SELECT sum(pg_column_size(t.*)) FROM (
+                    SELECT patient_id, first_name, last_name, date_of_birth, gender, phone, status, created_at
+                    FROM patients ORDER BY created_at DESC LIMIT ?) t
+                """, Long.class, PAGE_SIZE);
+
+        System.out.printf("%nStored bytes per %d-row page — entity: %,d  projection: %,d  (%.0f%%)%n",
+                PAGE_SIZE, entityBytes, projectionBytes, 100.0 * projectionBytes / entityBytes);
+        assertThat(projectionBytes).isLessThan(entityBytes);
+    }
+
+    @Test
+    @DisplayName("JVM allocation and latency per page: entity vs projection")
+    void allocationsPerPage_entityVsProjection() {
+        System.out.printf("%nPatient list benchmark — %,d patients, %d-row pages, %d runs per cell%n",
+                PatientBenchmarkData.PATIENTS, PAGE_SIZE, MEASURED_RUNS);
+        System.out.printf("%-12s %16s %16s %12s %12s%n",
+                "filter", "entity KB p50", "proj KB p50", "entity ms", "proj ms");
+        report("none", Specification.where(null));
+        report("smith", smiths);
+    }
+
+    private void report(String label, Specification<Patient> spec) {
+        Sample entity = measure(() -> entityPage(spec, page(50)));
+        Sample projection = measure(() -> projectionPage(spec, page(50)));
+        System.out.printf("%-12s %16.1f %16.1f %12.1f %12.1f%n", label,
+                entity.allocatedKb(), projection.allocatedKb(), entity.millis(), projection.millis());
+    }
+
+    private Sample measure(Supplier<?> call) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            call.get();
+        }
+        long[] bytes = new long[MEASURED_RUNS];
+        long[] nanos = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            call.get();
+            nanos[i] = System.nanoTime() - start;
+            bytes[i] = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        }
+        Arrays.sort(bytes);
+        Arrays.sort(nanos);
+        return new Sample(PatientBenchmarkData.percentile(bytes, 50) / 1024.0,
+                PatientBenchmarkData.percentile(nanos, 50) / 1_000_000.0);
+    }
+
+    private record Sample(double allocatedKb, double millis) {
+    }
+}
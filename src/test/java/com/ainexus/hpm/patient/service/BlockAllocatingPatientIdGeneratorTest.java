@@ -0,0 +1,254 @@
+package com.ainexus.hpm.patient.service;
+
+import com.ainexus.hpm.patient.repository.PatientIdCounterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BlockAllocatingPatientIdGenerator Unit Tests")
+class BlockAllocatingPatientIdGeneratorTest {
+
+    private static final Clock CLOCK_2026 = Clock.fixed(Instant.parse("2026-06-01T10:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private PatientIdCounterRepository counterRepository;
+
+    private final PatientIdCodec codec = new PatientIdCodec(9);
+
+    // Simulates the next_value column of the 2026 counter row
+    private AtomicLong counterRow;
+
+    @BeforeEach
+    void setUp() {
+        counterRow = new AtomicLong(1);
+    }
+
+    private void givenCounterRowExists() {
+        given(counterRepository.reserveBlock(eq(2026), anyInt()))
+                .willAnswer(inv -> Optional.of(counterRow.addAndGet(inv.getArgument(1, Integer.class))));
+    }
+
+    @Test
+    @DisplayName("hands out sequential IDs from a single reserved block")
+    void generatePatientId_sequentialWithinBlock() {
+        givenCounterRowExists();
+        BlockAllocatingPatientIdGenerator generator =
+                new BlockAllocatingPatientIdGenerator(counterRepository, codec, 10, CLOCK_2026);
+
+        assertThat(generator.generatePatientId()).isEqualTo("P2026001");
+        assertThat(generator.generatePatientId()).isEqualTo("P2026002");
+        assertThat(generator.generatePatientId()).isEqualTo("P2026003");
+        verify(counterRepository, times(1)).reserveBlock(2026, 10);
+    }
+
+    @Test
+    @DisplayName("reserves the next block once the current one is exhausted")
+    void generatePatientId_refillsWhenExhausted() {
+        givenCounterRowExists();
+        BlockAllocatingPatientIdGenerator generator =
+                new BlockAllocatingPatientIdGenerator(counterRepository, codec, 2, CLOCK_2026);
+
+        List<String> ids = List.of(generator.generatePatientId(), generator.generatePatientId(),
+                generator.generatePatientId());
+
+        assertThat(ids).containsExactly("P2026001", "P2026002", "P2026003");
+        verify(counterRepository, times(2)).reserveBlock(2026, 2);
+    }
+
+    @Test
+    @DisplayName("first reservation of a year seeds the counter row")
+    void generatePatientId_noCounterRow_initializes() {
+        given(counterRepository.reserveBlock(2026, 5)).willReturn(Optional.empty());
+        // legacy MAX = 41 → seeded next_value = 42 + 5
+        given(counterRepository.initializeAndReserveBlock(2026, 5)).willReturn(47L);
+        BlockAllocatingPatientIdGenerator generator =
+                new BlockAllocatingPatientIdGenerator(counterRepository, codec, 5, CLOCK_2026);
+
+        assertThat(generator.generatePatientId()).isEqualTo("P2026042");
+    }
+
+    @Test
+    @DisplayName("a block from the previous year is discarded after the year rolls over")
+    void generatePatientId_yearRollover_reservesNewYearBlock() {
+        givenCounterRowExists();
+        given(counterRepository.reserveBlock(2027, 10)).willReturn(Optional.of(11L));
+        MutableClock clock = new MutableClock(Instant.parse("2026-12-31T23:59:59Z"));
+        BlockAllocatingPatientIdGenerator generator =
+                new BlockAllocatingPatientIdGenerator(counterRepository, codec, 10, clock);
+
+        assertThat(generator.generatePatientId()).isEqualTo("P2026001");
+        clock.instant = Instant.parse("2027-01-01T00:00:01Z");
+        assertThat(generator.generatePatientId()).isEqualTo("P2027001");
+    }
+
+    @Test
+    @DisplayName("never touches the database after the block is reserved")
+    void generatePatientId_noInitializeWhenRowExists() {
+        givenCounterRowExists();
+        BlockAllocatingPatientIdGenerator generator =
+                new BlockAllocatingPatientIdGenerator(counterRepository, codec, 50, CLOCK_2026);
+
+        for (int i = 0; i < 50; i++) {
+            generator.generatePatientId();
+        }
+
+        verify(counterRepository, times(1)).reserveBlock(2026, 50);
+        verify(counterRepository, never()).initializeAndReserveBlock(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("bulk IDs come from one exact-size reservation that leaves the shared block alone")
+    void generatePatientIds_reservesExactlyCount() {
+        givenCounterRowExists();
+        BlockAllocatingPatientIdGenerator generator =
+                new BlockAllocatingPatientIdGenerator(counterRepository, codec, 10, CLOCK_2026);
+
+        assertThat(generator.generatePatientId()).isEqualTo("P2026001");
+        assertThat(generator.generatePatientIds(3)).containsExactly("P2026011", "P2026012", "P2026013");
+        assertThat(generator.generatePatientId()).isEqualTo("P2026002");
+        verify(counterRepository, times(1)).reserveBlock(2026, 3);
+    }
+
+    @Test
+    @DisplayName("rejects a block size below 1")
+    void constructor_invalidBlockSize_throws() {
+        assertThatThrownBy(() -> new BlockAllocatingPatientIdGenerator(counterRepository, codec, 0, CLOCK_2026))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("concurrent generation from many threads and two instances never yields a duplicate")
+    void generatePatientId_concurrent_noDuplicates() throws Exception {
+        givenCounterRowExists();
+        // Two generators sharing one counter row model two service instances
+        BlockAllocatingPatientIdGenerator instanceA =
+                new BlockAllocatingPatientIdGenerator(counterRepository, codec, 25, CLOCK_2026);
+        BlockAllocatingPatientIdGenerator instanceB =
+                new BlockAllocatingPatientIdGenerator(counterRepository, codec, 25, CLOCK_2026);
+
+        int threads = 32;
+        int idsPerThread = 2_000;
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                BlockAllocatingPatientIdGenerator generator = (t % 2 == 0) ? instanceA : instanceB;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < idsPerThread; i++) {
+                        assertThat(ids.add(generator.generatePatientId())).isTrue();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : futures) {
+                f.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(ids).hasSize(threads * idsPerThread);
+        assertThat(ids).allMatch(id -> id.startsWith("P2026"));
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    @DisplayName("concurrent refills on virtual threads hand out every counter exactly once")
+    void generatePatientId_virtualThreads_concurrentRefills() throws Exception {
+        // Each reservation blocks like a JDBC round-trip, so refills overlap with waiting callers
+        given(counterRepository.reserveBlock(eq(2026), anyInt())).willAnswer(inv -> {
+            Thread.sleep(2);
+            return Optional.of(counterRow.addAndGet(inv.getArgument(1, Integer.class)));
+        });
+        BlockAllocatingPatientIdGenerator generator =
+                new BlockAllocatingPatientIdGenerator(counterRepository, codec, 5, CLOCK_2026);
+
+        int threads = 500;
+        int idsPerThread = 20;
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        // Compiled for Java 17, so the Java 21 factory is looked up reflectively
+        ExecutorService pool = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        try {
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < idsPerThread; i++) {
+                        assertThat(ids.add(generator.generatePatientId())).isTrue();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : futures) {
+                f.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        int total = threads * idsPerThread;
+        assertThat(ids).hasSize(total);
+        // No block is lost to a refill race: every reserved counter was issued
+        verify(counterRepository, times(total / 5)).reserveBlock(2026, 5);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
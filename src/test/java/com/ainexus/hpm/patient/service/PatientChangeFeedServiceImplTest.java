@@ -0,0 +1,117 @@
+package com.ainexus.hpm.patient.service;
+
+import com.ainexus.hpm.patient.datasource.ReadReplicaRoutingDataSource;
+import com.ainexus.hpm.patient.dto.response.PatientChangesResponse;
+import com.ainexus.hpm.patient.dto.response.PatientResponse;
+import com.ainexus.hpm.patient.entity.Patient;
+import com.ainexus.hpm.patient.enums.Gender;
+import com.ainexus.hpm.patient.enums.PatientStatus;
+import com.ainexus.hpm.patient.mapper.PatientMapper;
+import com.ainexus.hpm.patient.repository.PatientRepository;
+import com.ainexus.hpm.patient.search.PatientChangeCursor;
+import com.ainexus.hpm.patient.service.impl.PatientChangeFeedServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PatientChangeFeedServiceImpl Unit Tests")
+class PatientChangeFeedServiceImplTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 3, 1, 9, 0);
+
+    @Mock
+    private PatientRepository patientRepository;
+
+    private PatientChangeFeedServiceImpl changeFeedService;
+
+    @BeforeEach
+    void setUp() {
+        changeFeedService = new PatientChangeFeedServiceImpl(patientRepository, new PatientMapper(), Duration.ofSeconds(5));
+    }
+
+    private static Patient changed(String patientId, LocalDateTime updatedAt, PatientStatus status) {
+        return Patient.builder()
+                .patientId(patientId)
+                .firstName("John")
+                .lastName("Doe")
+                .dateOfBirth(LocalDate.of(1990, 1, 15))
+                .gender(Gender.MALE)
+                .phoneNumber("555-867-5309")
+                .status(status)
+                .createdAt(T0)
+                .createdBy("receptionist01")
+                .updatedAt(updatedAt)
+                .updatedBy("receptionist01")
+                .build();
+    }
+
+    @Test
+    @DisplayName("reads run pinned to the primary, and the pin is released afterwards")
+    void getChanges_readsFromPrimary() {
+        given(patientRepository.findPatients(any(), any(), eq(3))).willAnswer(inv -> {
+            assertThat(ReadReplicaRoutingDataSource.isPrimaryOnly()).isTrue();
+            return List.of();
+        });
+
+        changeFeedService.getChanges(null, T0, 2);
+
+        assertThat(ReadReplicaRoutingDataSource.isPrimaryOnly()).isFalse();
+    }
+
+    @Test
+    @DisplayName("a full page reports hasMore and a cursor at its last change")
+    void fullPage_hasMoreWithCursorAtLastRow() {
+        given(patientRepository.findPatients(any(), any(), eq(3))).willReturn(List.of(
+                changed("P2026001", T0, PatientStatus.ACTIVE),
+                changed("P2026002", T0.plusMinutes(1), PatientStatus.INACTIVE),
+                changed("P2026003", T0.plusMinutes(2), PatientStatus.ACTIVE)));
+
+        PatientChangesResponse result = changeFeedService.getChanges(null, T0.minusDays(1), 2);
+
+        assertThat(result.isHasMore()).isTrue();
+        assertThat(result.getChanges()).extracting(PatientResponse::getPatientId)
+                .containsExactly("P2026001", "P2026002");
+        assertThat(result.getChanges().get(1).getStatus()).isEqualTo(PatientStatus.INACTIVE);
+        assertThat(PatientChangeCursor.decode(result.getNextCursor()))
+                .isEqualTo(new PatientChangeCursor(T0.plusMinutes(1), "P2026002"));
+    }
+
+    @Test
+    @DisplayName("no new changes echoes the request cursor so the consumer keeps its position")
+    void noChanges_echoesCursor() {
+        String cursor = new PatientChangeCursor(T0, "P2026002").encode();
+        given(patientRepository.findPatients(any(), any(), eq(501))).willReturn(List.of());
+
+        PatientChangesResponse result = changeFeedService.getChanges(cursor, null, 500);
+
+        assertThat(result.getChanges()).isEmpty();
+        assertThat(result.isHasMore()).isFalse();
+        assertThat(result.getNextCursor()).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("a tampered cursor → IllegalArgumentException, no query")
+    void invalidCursor_throws() {
+        assertThatThrownBy(() -> changeFeedService.getChanges("not-a-cursor", null, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid change cursor");
+
+        verifyNoInteractions(patientRepository);
+    }
+}
@@ -0,0 +1,114 @@
+package com.ainexus.hpm.patient.service;
+
+import com.ainexus.hpm.patient.entity.Patient;
+import com.ainexus.hpm.patient.enums.BloodGroup;
+import com.ainexus.hpm.patient.enums.ExportFormat;
+import com.ainexus.hpm.patient.enums.Gender;
+import com.ainexus.hpm.patient.enums.PatientStatus;
+import com.ainexus.hpm.patient.mapper.PatientMapper;
+import com.ainexus.hpm.patient.repository.PatientRepository;
+import com.ainexus.hpm.patient.service.impl.PatientExportServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PatientExportServiceImpl Unit Tests")
+class PatientExportServiceImplTest {
+
+    @Mock
+    private PatientRepository patientRepository;
+
+    private PatientExportServiceImpl exportService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        exportService = new PatientExportServiceImpl(patientRepository, new PatientMapper(), objectMapper, 500);
+    }
+
+    private static Patient patient(String patientId, String address) {
+        return Patient.builder()
+                .patientId(patientId)
+                .firstName("John")
+                .lastName("Doe")
+                .dateOfBirth(LocalDate.of(1990, 1, 15))
+                .gender(Gender.MALE)
+                .phoneNumber("555-867-5309")
+                .address(address)
+                .bloodGroup(BloodGroup.A_POS)
+                .status(PatientStatus.ACTIVE)
+                .createdAt(LocalDateTime.of(2026, 1, 1, 9, 0))
+                .createdBy("receptionist01")
+                .build();
+    }
+
+    @Test
+    @DisplayName("NDJSON: one object per line, every line terminated, stream closed")
+    void export_ndjson_writesOneLinePerPatient() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        given(patientRepository.streamAll(any(), any(), eq(500)))
+                .willReturn(Stream.of(patient("P2026001", null), patient("P2026002", null))
+                        .onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = exportService.exportPatients(null, null, null, ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertThat(written).isEqualTo(2);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("{\"patientId\":\"P2026001\"").contains("\"dateOfBirth\":\"1990-01-15\"");
+        assertThat(lines[1]).startsWith("{\"patientId\":\"P2026002\"");
+        assertThat(lines[2]).isEmpty();
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("CSV: header row, fixed column order, quoted commas, empty cells for nulls")
+    void export_csv_writesHeaderAndRows() throws Exception {
+        given(patientRepository.streamAll(any(), any(), eq(500)))
+                .willReturn(Stream.of(patient("P2026001", "1 Main St, Springfield")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.exportPatients(null, Gender.MALE, null, ExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("patientId,firstName,lastName,dateOfBirth,age,gender,phoneNumber,email,address,")
+                .doesNotContain("duplicatePhoneWarning");
+        assertThat(lines[1]).startsWith("P2026001,John,Doe,1990-01-15,")
+                .contains(",MALE,555-867-5309,,\"1 Main St, Springfield\",");
+    }
+
+    @Test
+    @DisplayName("empty registry: NDJSON body is empty")
+    void export_noPatients_writesNothing() throws Exception {
+        given(patientRepository.streamAll(any(), any(), eq(500))).willReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = exportService.exportPatients(null, null, null, ExportFormat.NDJSON, out);
+
+        assertThat(written).isZero();
+        assertThat(out.size()).isZero();
+    }
+}
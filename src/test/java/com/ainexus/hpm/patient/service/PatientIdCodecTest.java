@@ -0,0 +1,127 @@
+package com.ainexus.hpm.patient.service;
+
+import com.ainexus.hpm.patient.service.PatientIdCodec.ParsedPatientId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PatientIdCodec Unit Tests")
+class PatientIdCodecTest {
+
+    private static final int TEN_MILLION = 10_000_000;
+
+    private final PatientIdCodec codec = new PatientIdCodec(9);
+
+    // ─── encode ───────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("encode: counters up to 999 keep the legacy 3-digit form")
+    void encode_compactRange_matchesLegacyFormat() {
+        assertThat(codec.encode(2026, 1)).isEqualTo("P2026001");
+        assertThat(codec.encode(2026, 42)).isEqualTo("P2026042");
+        assertThat(codec.encode(2026, 999)).isEqualTo("P2026999");
+    }
+
+    @Test
+    @DisplayName("encode: counters past 999 use a length marker")
+    void encode_extendedRange_usesLengthMarker() {
+        assertThat(codec.encode(2026, 1_000)).isEqualTo("P2026A1000");
+        assertThat(codec.encode(2026, 10_000)).isEqualTo("P2026B10000");
+        assertThat(codec.encode(2026, 1_234_567)).isEqualTo("P2026D1234567");
+        assertThat(codec.encode(2026, 999_999_999)).isEqualTo("P2026F999999999");
+    }
+
+    @Test
+    @DisplayName("encode: counter beyond the configured width signals exhausted capacity")
+    void encode_beyondMaxDigits_throws() {
+        assertThatThrownBy(() -> codec.encode(2026, 1_000_000_000L))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new PatientIdCodec(4).encode(2026, 10_000))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("encode: rejects non-positive counters and non 4-digit years")
+    void encode_invalidArguments_throw() {
+        assertThatThrownBy(() -> codec.encode(2026, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.encode(999, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.encode(10_000, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("constructor: rejects widths outside 3..12")
+    void constructor_invalidWidth_throws() {
+        assertThatThrownBy(() -> new PatientIdCodec(2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PatientIdCodec(13)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // ─── decode ───────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("decode: parses legacy compact IDs")
+    void decode_legacyId() {
+        assertThat(codec.decode("P2026001")).isEqualTo(new ParsedPatientId(2026, 1));
+        assertThat(codec.decode("P2025999")).isEqualTo(new ParsedPatientId(2025, 999));
+    }
+
+    @Test
+    @DisplayName("decode: parses legacy IDs that overflowed the 3-digit counter")
+    void decode_legacyOverflowId() {
+        assertThat(codec.decode("P20261000")).isEqualTo(new ParsedPatientId(2026, 1000));
+    }
+
+    @Test
+    @DisplayName("decode: parses extended IDs")
+    void decode_extendedId() {
+        assertThat(codec.decode("P2026A1000")).isEqualTo(new ParsedPatientId(2026, 1000));
+        assertThat(codec.decode("P2026D1234567")).isEqualTo(new ParsedPatientId(2026, 1_234_567));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "P2026", "P202601", "X2026001", "P20X6001", "P2026000",
+            "P2026A100", "P2026A10000", "P2026A0999", "P2026G1234567890", "P2026a1000", "P2026N01"})
+    @DisplayName("decode: rejects malformed IDs")
+    void decode_malformed_throws(String id) {
+        assertThatThrownBy(() -> codec.decode(id)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(codec.isValid(id)).isFalse();
+    }
+
+    @Test
+    @DisplayName("decode: rejects null")
+    void decode_null_throws() {
+        assertThatThrownBy(() -> codec.decode(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // ─── round-trip and ordering at scale ────────────────────────────────────
+
+    @Test
+    @DisplayName("10M IDs round-trip and byte order equals counter order")
+    void tenMillionIds_roundTripAndStrictlyIncreasing() {
+        String previous = null;
+        for (long counter = 1; counter <= TEN_MILLION; counter++) {
+            String id = codec.encode(2026, counter);
+
+            ParsedPatientId parsed = codec.decode(id);
+            if (parsed.year() != 2026 || parsed.counter() != counter) {
+                throw new AssertionError("Round-trip failed for counter " + counter + ": " + id);
+            }
+            // String.compareTo is UTF-16 code-unit order — identical to COLLATE "C" for ASCII
+            if (previous != null && previous.compareTo(id) >= 0) {
+                throw new AssertionError("Order violated: " + previous + " >= " + id);
+            }
+            previous = id;
+        }
+        assertThat(previous).isEqualTo("P2026E10000000");
+    }
+
+    @Test
+    @DisplayName("year boundary: every ID of one year sorts before the first ID of the next")
+    void yearBoundary_ordersByYearFirst() {
+        assertThat(codec.encode(2026, 999_999_999)).isLessThan(codec.encode(2027, 1));
+        assertThat(codec.encode(2026, 999)).isLessThan(codec.encode(2026, 1_000));
+    }
+}
@@ -0,0 +1,75 @@
+package com.ainexus.hpm.patient.service;
+
+import com.ainexus.hpm.patient.repository.PatientRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Year;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PatientIdGeneratorService Unit Tests")
+class PatientIdGeneratorServiceTest {
+
+    @Mock
+    private PatientRepository patientRepository;
+
+    private final PatientIdCodec codec = new PatientIdCodec(9);
+
+    private PatientIdGeneratorService generator;
+    private String year;
+
+    @BeforeEach
+    void setUp() {
+        generator = new PatientIdGeneratorService(patientRepository, codec);
+        year = String.valueOf(Year.now().getValue());
+    }
+
+    @Test
+    @DisplayName("continues after a legacy overflow ID that sorts below the string MAX")
+    void generatePatientId_legacyOverflowAboveStringMax_continuesAfterLegacy() {
+        given(patientRepository.findMaxPatientIdForYear(year)).willReturn(Optional.of("P" + year + "A1001"));
+        given(patientRepository.findMaxLegacyOverflowCounterForYear(year)).willReturn(Optional.of(1005L));
+
+        assertThat(generator.generatePatientId()).isEqualTo("P" + year + "A1006");
+    }
+
+    @Test
+    @DisplayName("uses the string MAX once it is past every legacy overflow ID")
+    void generatePatientId_stringMaxAboveLegacy_usesStringMax() {
+        given(patientRepository.findMaxPatientIdForYear(year)).willReturn(Optional.of("P" + year + "A1010"));
+        given(patientRepository.findMaxLegacyOverflowCounterForYear(year)).willReturn(Optional.of(1005L));
+
+        assertThat(generator.generatePatientIds(2)).containsExactly("P" + year + "A1011", "P" + year + "A1012");
+    }
+
+    @Test
+    @DisplayName("starts at 1 for an empty year")
+    void generatePatientId_emptyYear_startsAtOne() {
+        given(patientRepository.findMaxPatientIdForYear(year)).willReturn(Optional.empty());
+        given(patientRepository.findMaxLegacyOverflowCounterForYear(year)).willReturn(Optional.empty());
+
+        assertThat(generator.generatePatientId()).isEqualTo("P" + year + "001");
+    }
+
+    @Test
+    @DisplayName("reads the legacy overflow maximum once per year")
+    void generatePatientId_legacyOverflowMax_readOnce() {
+        given(patientRepository.findMaxPatientIdForYear(year))
+                .willReturn(Optional.of("P" + year + "999"), Optional.of("P" + year + "A1001"));
+        given(patientRepository.findMaxLegacyOverflowCounterForYear(year)).willReturn(Optional.of(1000L));
+
+        assertThat(generator.generatePatientId()).isEqualTo("P" + year + "A1001");
+        assertThat(generator.generatePatientId()).isEqualTo("P" + year + "A1002");
+        verify(patientRepository, times(1)).findMaxLegacyOverflowCounterForYear(year);
+    }
+}
@@ -0,0 +1,108 @@
+package com.ainexus.hpm.patient.service;
+
+import com.ainexus.hpm.patient.validator.PhoneNumbers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Batched phone_normalized backfill against PostgreSQL 15, on rows inserted the way they
+ * existed before the column (phone only). Batches of 2 make every pass span several batches.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.open-in-view=false"
+})
+@DisplayName("Patient phone_normalized backfill")
+class PatientPhoneBackfillIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withInitScript("db/init-schema.sql");
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private PatientPhoneBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        backfill = new PatientPhoneBackfill(jdbcTemplate, new TransactionTemplate(transactionManager), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM patients");
+    }
+
+    private void insertLegacyRow(String patientId, String phone) {
+        jdbcTemplate.update("""
+                INSERT INTO patients (patient_id, first_name, last_name, date_of_birth, gender, phone,
+                                      created_by, updated_by)
+                VALUES (?, 'John', 'Doe', DATE '1990-01-15', 'MALE', ?, 'legacy', 'legacy')
+                """, patientId, phone);
+    }
+
+    private String normalizedPhone(String patientId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT phone_normalized FROM patients WHERE patient_id = ?", String.class, patientId);
+    }
+
+    @Test
+    @DisplayName("every accepted format is normalized across batches; unparseable phones are marked")
+    void backfill_normalizesAllBatches() {
+        insertLegacyRow("P2025001", "555-100-0001");
+        insertLegacyRow("P2025002", "(555) 100-0001");
+        insertLegacyRow("P2025003", "+1-555-100-0003");
+        insertLegacyRow("P2025004", "555.100.0004");
+        insertLegacyRow("P2025005", "555-100-0005");
+
+        long normalized = backfill.backfill();
+
+        assertThat(normalized).isEqualTo(4);
+        assertThat(normalizedPhone("P2025001")).isEqualTo("+15551000001");
+        assertThat(normalizedPhone("P2025002")).isEqualTo("+15551000001");
+        assertThat(normalizedPhone("P2025003")).isEqualTo("+15551000003");
+        assertThat(normalizedPhone("P2025004")).isEqualTo(PhoneNumbers.UNNORMALIZABLE);
+        assertThat(normalizedPhone("P2025005")).isEqualTo("+15551000005");
+    }
+
+    @Test
+    @DisplayName("a second pass finds nothing pending, not even unparseable phones, and leaves written values alone")
+    void backfill_isIdempotent() {
+        insertLegacyRow("P2025001", "555-100-0001");
+        insertLegacyRow("P2025002", "bad");
+        backfill.backfill();
+        jdbcTemplate.update("UPDATE patients SET updated_by = 'later' WHERE patient_id = 'P2025001'");
+
+        assertThat(jdbcTemplate.query(PatientPhoneBackfill.SELECT_PENDING, (rs, rowNum) -> rs.getString(1), "", 10))
+                .isEmpty();
+        assertThat(backfill.backfill()).isZero();
+        assertThat(normalizedPhone("P2025001")).isEqualTo("+15551000001");
+        assertThat(normalizedPhone("P2025002")).isEqualTo(PhoneNumbers.UNNORMALIZABLE);
+    }
+}
@@ -1,21 +1,43 @@
 package com.ainexus.hpm.patient.service;
 
+import com.ainexus.hpm.patient.cache.PatientInvalidation;
+import com.ainexus.hpm.patient.cache.PatientInvalidationPublisher;
+import com.ainexus.hpm.patient.cache.PatientProfileCache;
+import com.ainexus.hpm.patient.dto.request.PatientPatchRequest;
 import com.ainexus.hpm.patient.dto.request.PatientRegistrationRequest;
 import com.ainexus.hpm.patient.dto.request.PatientUpdateRequest;
+import com.ainexus.hpm.patient.dto.response.BatchRegistrationResponse;
 import com.ainexus.hpm.patient.dto.response.PagedResponse;
+import com.ainexus.hpm.patient.dto.response.PatientLookupResponse;
 import com.ainexus.hpm.patient.dto.response.PatientResponse;
+import com.ainexus.hpm.patient.dto.response.PatientStatusChangeResponse;
 import com.ainexus.hpm.patient.dto.response.PatientSummaryResponse;
 import com.ainexus.hpm.patient.entity.Patient;
+import com.ainexus.hpm.patient.enums.BatchItemStatus;
 import com.ainexus.hpm.patient.enums.BloodGroup;
+import com.ainexus.hpm.patient.enums.CountMode;
 import com.ainexus.hpm.patient.enums.Gender;
+import com.ainexus.hpm.patient.enums.LookupStatus;
+import com.ainexus.hpm.patient.enums.PatientEventType;
 import com.ainexus.hpm.patient.enums.PatientStatus;
 import com.ainexus.hpm.patient.enums.PatientStatusFilter;
+import com.ainexus.hpm.patient.enums.StatusChangeOutcome;
 import com.ainexus.hpm.patient.service.PatientIdGenerator;
 import com.ainexus.hpm.patient.exception.PatientNotFoundException;
+import com.ainexus.hpm.patient.exception.PatientPreconditionFailedException;
 import com.ainexus.hpm.patient.exception.PatientStatusConflictException;
 import com.ainexus.hpm.patient.mapper.PatientMapper;
+import com.ainexus.hpm.patient.outbox.PatientEventOutbox;
 import com.ainexus.hpm.patient.repository.PatientRepository;
+import com.ainexus.hpm.patient.repository.PatientSummaryView;
+import com.ainexus.hpm.patient.search.PatientCursor;
+import com.ainexus.hpm.patient.search.PatientSearchCounter;
+import com.ainexus.hpm.patient.search.SpecificationPatientSearchStrategy;
 import com.ainexus.hpm.patient.service.impl.PatientServiceImpl;
+import com.ainexus.hpm.patient.validator.PhoneNumbers;
+import com.ainexus.hpm.patient.validator.RegistrationRequestValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -27,15 +49,20 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,6 +75,12 @@ class PatientServiceImplTest {
     @Mock
     private PatientIdGenerator patientIdGeneratorService;
 
+    @Mock
+    private PatientInvalidationPublisher patientInvalidationPublisher;
+
+    @Mock
+    private PatientEventOutbox patientEventOutbox;
+
     // Real mapper instance — Mockito byte-buddy cannot mock/spy classes on Java 25
     private final PatientMapper patientMapper = new PatientMapper();
 
@@ -58,7 +91,13 @@ class PatientServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        patientService = new PatientServiceImpl(patientRepository, patientMapper, patientIdGeneratorService);
+        patientService = new PatientServiceImpl(patientRepository, patientMapper, patientIdGeneratorService,
+                new SpecificationPatientSearchStrategy(),
+                new PatientSearchCounter(patientRepository, CountMode.EXACT, Duration.ofSeconds(30)),
+                new PatientProfileCache(100, Duration.ofMinutes(5), new SimpleMeterRegistry()),
+                patientInvalidationPublisher,
+                new RegistrationRequestValidator(Validation.buildDefaultValidatorFactory().getValidator()),
+                patientEventOutbox);
 
         samplePatient = Patient.builder()
                 .patientId("P2026001")
@@ -88,29 +127,34 @@ class PatientServiceImplTest {
                 .build();
     }
 
+    private static PatientSummaryView summaryOf(Patient p) {
+        return new PatientSummaryView(p.getPatientId(), p.getFirstName(), p.getLastName(), p.getDateOfBirth(),
+                p.getGender(), p.getPhoneNumber(), p.getStatus(), p.getCreatedAt());
+    }
+
     // ─── registerPatient ────────────────────────────────────────────────────
 
     @Test
     @DisplayName("registerPatient: success returns PatientResponse with generated ID")
     void registerPatient_success() {
-        given(patientRepository.existsByPhoneNumber(anyString())).willReturn(false);
         given(patientIdGeneratorService.generatePatientId()).willReturn("P2026001");
-        given(patientRepository.save(any())).willReturn(samplePatient);
+        given(patientRepository.insertReportingDuplicatePhone(any())).willReturn(false);
 
         PatientResponse result = patientService.registerPatient(registrationRequest, "receptionist01");
 
         assertThat(result).isNotNull();
         assertThat(result.getPatientId()).isEqualTo("P2026001");
         assertThat(result.getDuplicatePhoneWarning()).isNull();
-        verify(patientRepository).save(any(Patient.class));
+        verify(patientRepository).insertReportingDuplicatePhone(argThat(p -> "+15558675309".equals(p.getPhoneNormalized())));
+        verify(patientRepository, never()).save(any());
+        verify(patientEventOutbox).record(eq(PatientEventType.REGISTERED), argThat(p -> "P2026001".equals(p.getPatientId())));
     }
 
     @Test
     @DisplayName("registerPatient: sets duplicatePhoneWarning=true when phone already exists")
     void registerPatient_duplicatePhone_setsWarning() {
-        given(patientRepository.existsByPhoneNumber(anyString())).willReturn(true);
         given(patientIdGeneratorService.generatePatientId()).willReturn("P2026002");
-        given(patientRepository.save(any())).willReturn(samplePatient);
+        given(patientRepository.insertReportingDuplicatePhone(any())).willReturn(true);
 
         PatientResponse result = patientService.registerPatient(registrationRequest, "receptionist01");
 
@@ -120,40 +164,88 @@ class PatientServiceImplTest {
     @Test
     @DisplayName("registerPatient: generates first ID of year as P2026001")
     void registerPatient_firstOfYear_generatesP2026001() {
-        given(patientRepository.existsByPhoneNumber(anyString())).willReturn(false);
         given(patientIdGeneratorService.generatePatientId()).willReturn("P2026001");
-        given(patientRepository.save(argThat(p -> "P2026001".equals(p.getPatientId()))))
-                .willReturn(samplePatient);
 
         PatientResponse result = patientService.registerPatient(registrationRequest, "receptionist01");
 
-        // Verify P2026001 was passed to save (counter starts at 1 when no previous IDs exist)
-        verify(patientRepository).save(argThat(p -> "P2026001".equals(p.getPatientId())));
+        // Verify P2026001 was inserted (counter starts at 1 when no previous IDs exist)
+        verify(patientRepository).insertReportingDuplicatePhone(argThat(p -> "P2026001".equals(p.getPatientId())));
         assertThat(result).isNotNull();
     }
 
     @Test
     @DisplayName("registerPatient: increments counter when previous IDs exist")
     void registerPatient_incrementsCounter() {
-        given(patientRepository.existsByPhoneNumber(anyString())).willReturn(false);
         given(patientIdGeneratorService.generatePatientId()).willReturn("P2026006");
 
-        Patient patientWithId6 = Patient.builder()
-                .patientId("P2026006").firstName("John").lastName("Doe")
-                .dateOfBirth(LocalDate.of(1990, 1, 15)).gender(Gender.MALE)
-                .phoneNumber("555-867-5309").status(PatientStatus.ACTIVE)
-                .bloodGroup(BloodGroup.A_POS).createdAt(LocalDateTime.now())
-                .createdBy("receptionist01").updatedAt(LocalDateTime.now()).updatedBy("receptionist01")
-                .version(0).build();
-        given(patientRepository.save(argThat(p -> "P2026006".equals(p.getPatientId()))))
-                .willReturn(patientWithId6);
-
         PatientResponse result = patientService.registerPatient(registrationRequest, "receptionist01");
 
-        verify(patientRepository).save(argThat(p -> "P2026006".equals(p.getPatientId())));
+        verify(patientRepository).insertReportingDuplicatePhone(argThat(p -> "P2026006".equals(p.getPatientId())));
         assertThat(result.getPatientId()).isEqualTo("P2026006");
     }
 
+    // ─── registerPatients ───────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("registerPatients: invalid entries are rejected, valid ones share one ID reservation and one insert batch")
+    void registerPatients_mixedBatch_reportsPerItem() {
+        PatientRegistrationRequest invalid = PatientRegistrationRequest.builder()
+                .firstName("").lastName("Doe").dateOfBirth(LocalDate.of(1990, 1, 15))
+                .gender(Gender.MALE).phoneNumber("not-a-phone").build();
+        PatientRegistrationRequest sameNumber = PatientRegistrationRequest.builder()
+                .firstName("Jane").lastName("Doe").dateOfBirth(LocalDate.of(1992, 3, 1))
+                .gender(Gender.FEMALE).phoneNumber("(555) 867-5309").build();
+        given(patientRepository.findExistingNormalizedPhones(Set.of("+15558675309"))).willReturn(Set.of());
+        given(patientIdGeneratorService.generatePatientIds(2)).willReturn(List.of("P2026001", "P2026002"));
+
+        BatchRegistrationResponse result = patientService.registerPatients(
+                List.of(registrationRequest, invalid, sameNumber), "receptionist01");
+
+        assertThat(result.getReceived()).isEqualTo(3);
+        assertThat(result.getCreated()).isEqualTo(2);
+        assertThat(result.getRejected()).isEqualTo(1);
+        assertThat(result.getResults()).extracting("status")
+                .containsExactly(BatchItemStatus.CREATED, BatchItemStatus.REJECTED, BatchItemStatus.CREATED);
+        assertThat(result.getResults().get(0).getPatientId()).isEqualTo("P2026001");
+        assertThat(result.getResults().get(0).getDuplicatePhoneWarning()).isNull();
+        assertThat(result.getResults().get(1).getErrors()).containsKeys("firstName", "phoneNumber");
+        // The second entry with the same number, in another format, is flagged against the first
+        assertThat(result.getResults().get(2).getPatientId()).isEqualTo("P2026002");
+        assertThat(result.getResults().get(2).getDuplicatePhoneWarning()).isTrue();
+        verify(patientRepository).saveAll(argThat(patients -> patients instanceof List<?> list && list.size() == 2));
+        verify(patientEventOutbox).recordAll(eq(PatientEventType.REGISTERED), argThat(patients -> patients.size() == 2));
+    }
+
+    @Test
+    @DisplayName("registerPatients: a fully invalid batch touches neither the ID counter nor the table")
+    void registerPatients_allRejected_noWrites() {
+        BatchRegistrationResponse result = patientService.registerPatients(
+                Collections.singletonList(null), "receptionist01");
+
+        assertThat(result.getRejected()).isEqualTo(1);
+        assertThat(result.getResults().get(0).getErrors()).containsKey("request");
+        verify(patientIdGeneratorService, never()).generatePatientIds(anyInt());
+        verify(patientRepository, never()).saveAll(any());
+    }
+
+    // ─── getPatientVersion ──────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("getPatientVersion: cached profiles answer without a query; misses use the version-only query")
+    void getPatientVersion_cacheThenVersionQuery() {
+        samplePatient.setVersion(2);
+        given(patientRepository.findByPatientId("P2026001")).willReturn(Optional.of(samplePatient));
+        given(patientRepository.findVersionByPatientId("P2026002")).willReturn(Optional.of(5));
+        given(patientRepository.findVersionByPatientId("P9999999")).willReturn(Optional.empty());
+        patientService.getPatientById("P2026001");
+
+        assertThat(patientService.getPatientVersion("P2026001")).isEqualTo(2);
+        assertThat(patientService.getPatientVersion("P2026002")).isEqualTo(5);
+        assertThatThrownBy(() -> patientService.getPatientVersion("P9999999"))
+                .isInstanceOf(PatientNotFoundException.class);
+        verify(patientRepository, never()).findVersionByPatientId("P2026001");
+    }
+
     // ─── getPatientById ─────────────────────────────────────────────────────
 
     @Test
@@ -168,6 +260,19 @@ class PatientServiceImplTest {
         assertThat(result.getStatus()).isEqualTo(PatientStatus.ACTIVE);
     }
 
+    @Test
+    @DisplayName("getPatientById: repeat reads are served from the profile cache")
+    void getPatientById_secondRead_servedFromCache() {
+        given(patientRepository.findByPatientId("P2026001")).willReturn(Optional.of(samplePatient));
+
+        PatientResponse first = patientService.getPatientById("P2026001");
+        first.setFirstName("Mutated");
+        PatientResponse second = patientService.getPatientById("P2026001");
+
+        assertThat(second.getFirstName()).isEqualTo("John");
+        verify(patientRepository, times(1)).findByPatientId("P2026001");
+    }
+
     @Test
     @DisplayName("getPatientById: throws PatientNotFoundException when not found")
     void getPatientById_notFound_throwsException() {
@@ -178,17 +283,54 @@ class PatientServiceImplTest {
                 .hasMessage("Patient not found: P9999999");
     }
 
+    // ─── lookupPatients ─────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("lookupPatients: cached profiles are reused, only misses are queried, unknown IDs are NOT_FOUND")
+    void lookupPatients_cacheFirstThenOneQueryForMisses() {
+        given(patientRepository.findByPatientId("P2026001")).willReturn(Optional.of(samplePatient));
+        patientService.getPatientById("P2026001");
+        Patient other = Patient.builder()
+                .patientId("P2026002").firstName("Jane").lastName("Roe")
+                .dateOfBirth(LocalDate.of(1985, 6, 1)).gender(Gender.FEMALE).phoneNumber("555-867-5310")
+                .status(PatientStatus.ACTIVE).version(0).build();
+        given(patientRepository.findAllByPatientIds(List.of("P2026002", "P9999999"))).willReturn(List.of(other));
+
+        PatientLookupResponse<PatientResponse> result =
+                patientService.lookupPatients(List.of("P2026001", "P2026002", "P9999999", "P2026001"));
+
+        assertThat(result.getRequested()).isEqualTo(3);
+        assertThat(result.getFound()).isEqualTo(2);
+        assertThat(result.getResults()).containsOnlyKeys("P2026001", "P2026002", "P9999999");
+        assertThat(result.getResults().get("P2026002").getPatient().getLastName()).isEqualTo("Roe");
+        assertThat(result.getResults().get("P9999999").getStatus()).isEqualTo(LookupStatus.NOT_FOUND);
+        assertThat(result.getResults().get("P9999999").getPatient()).isNull();
+        verify(patientRepository, times(1)).findAllByPatientIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("lookupPatientSummaries: all IDs cached → no query")
+    void lookupPatientSummaries_allCached_noQuery() {
+        given(patientRepository.findByPatientId("P2026001")).willReturn(Optional.of(samplePatient));
+        patientService.getPatientById("P2026001");
+
+        PatientLookupResponse<PatientSummaryResponse> result = patientService.lookupPatientSummaries(List.of("P2026001"));
+
+        assertThat(result.getResults().get("P2026001").getPatient().getFirstName()).isEqualTo("John");
+        verify(patientRepository, never()).findSummariesByPatientIds(anyCollection());
+    }
+
     // ─── searchPatients ─────────────────────────────────────────────────────
 
     @Test
     @DisplayName("searchPatients: returns paginated results")
     void searchPatients_returnsPaginatedResults() {
-        Page<Patient> patientPage = new PageImpl<>(List.of(samplePatient));
-        given(patientRepository.findAll(any(Specification.class), any(Pageable.class)))
+        Page<PatientSummaryView> patientPage = new PageImpl<>(List.of(summaryOf(samplePatient)));
+        given(patientRepository.findSummaryPage(any(Specification.class), any(Pageable.class)))
                 .willReturn(patientPage);
 
         PagedResponse<PatientSummaryResponse> result =
-                patientService.searchPatients(null, PatientStatusFilter.ACTIVE, null, null, 0, 20);
+                patientService.searchPatients(null, PatientStatusFilter.ACTIVE, null, null, 0, 20, null);
 
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getTotalElements()).isEqualTo(1);
@@ -198,12 +340,12 @@ class PatientServiceImplTest {
     @Test
     @DisplayName("searchPatients: returns empty page when no results")
     void searchPatients_noResults_returnsEmpty() {
-        Page<Patient> emptyPage = new PageImpl<>(List.of());
-        given(patientRepository.findAll(any(Specification.class), any(Pageable.class)))
+        Page<PatientSummaryView> emptyPage = new PageImpl<>(List.of());
+        given(patientRepository.findSummaryPage(any(Specification.class), any(Pageable.class)))
                 .willReturn(emptyPage);
 
         PagedResponse<PatientSummaryResponse> result =
-                patientService.searchPatients("nonexistent", (PatientStatusFilter) null, null, null, 0, 20);
+                patientService.searchPatients("nonexistent", (PatientStatusFilter) null, null, null, 0, 20, null);
 
         assertThat(result.getContent()).isEmpty();
         assertThat(result.getTotalElements()).isZero();
@@ -220,12 +362,12 @@ class PatientServiceImplTest {
                 .createdBy("receptionist01").updatedAt(LocalDateTime.now())
                 .updatedBy("receptionist01").version(0).build();
 
-        Page<Patient> allPatients = new PageImpl<>(List.of(samplePatient, inactivePatient));
-        given(patientRepository.findAll(any(Specification.class), any(Pageable.class)))
+        Page<PatientSummaryView> allPatients = new PageImpl<>(List.of(summaryOf(samplePatient), summaryOf(inactivePatient)));
+        given(patientRepository.findSummaryPage(any(Specification.class), any(Pageable.class)))
                 .willReturn(allPatients);
 
         PagedResponse<PatientSummaryResponse> result =
-                patientService.searchPatients(null, PatientStatusFilter.ALL, null, null, 0, 20);
+                patientService.searchPatients(null, PatientStatusFilter.ALL, null, null, 0, 20, null);
 
         assertThat(result.getContent()).hasSize(2);
         assertThat(result.getTotalElements()).isEqualTo(2);
@@ -242,12 +384,12 @@ class PatientServiceImplTest {
                 .createdBy("receptionist01").updatedAt(LocalDateTime.now())
                 .updatedBy("receptionist01").version(0).build();
 
-        Page<Patient> inactivePage = new PageImpl<>(List.of(inactivePatient));
-        given(patientRepository.findAll(any(Specification.class), any(Pageable.class)))
+        Page<PatientSummaryView> inactivePage = new PageImpl<>(List.of(summaryOf(inactivePatient)));
+        given(patientRepository.findSummaryPage(any(Specification.class), any(Pageable.class)))
                 .willReturn(inactivePage);
 
         PagedResponse<PatientSummaryResponse> result =
-                patientService.searchPatients(null, PatientStatusFilter.INACTIVE, null, null, 0, 20);
+                patientService.searchPatients(null, PatientStatusFilter.INACTIVE, null, null, 0, 20, null);
 
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).getPatientId()).isEqualTo("P2026002");
@@ -257,12 +399,12 @@ class PatientServiceImplTest {
     @Test
     @DisplayName("searchPatients: search by patientId returns matching patient")
     void searchPatients_searchByPatientId_returnsMatch() {
-        Page<Patient> patientPage = new PageImpl<>(List.of(samplePatient));
-        given(patientRepository.findAll(any(Specification.class), any(Pageable.class)))
+        Page<PatientSummaryView> patientPage = new PageImpl<>(List.of(summaryOf(samplePatient)));
+        given(patientRepository.findSummaryPage(any(Specification.class), any(Pageable.class)))
                 .willReturn(patientPage);
 
         PagedResponse<PatientSummaryResponse> result =
-                patientService.searchPatients("P2026001", PatientStatusFilter.ACTIVE, null, null, 0, 20);
+                patientService.searchPatients("P2026001", PatientStatusFilter.ACTIVE, null, null, 0, 20, null);
 
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).getPatientId()).isEqualTo("P2026001");
@@ -271,16 +413,16 @@ class PatientServiceImplTest {
     @Test
     @DisplayName("searchPatients: pagination metadata is mapped correctly")
     void searchPatients_paginationMetadata_isMappedCorrectly() {
-        Page<Patient> patientPage = new PageImpl<>(
-                List.of(samplePatient),
+        Page<PatientSummaryView> patientPage = new PageImpl<>(
+                List.of(summaryOf(samplePatient)),
                 org.springframework.data.domain.PageRequest.of(1, 1, org.springframework.data.domain.Sort.by("createdAt").descending()),
                 2
         );
-        given(patientRepository.findAll(any(Specification.class), any(Pageable.class)))
+        given(patientRepository.findSummaryPage(any(Specification.class), any(Pageable.class)))
                 .willReturn(patientPage);
 
         PagedResponse<PatientSummaryResponse> result =
-                patientService.searchPatients(null, (PatientStatusFilter) null, null, null, 1, 1);
+                patientService.searchPatients(null, (PatientStatusFilter) null, null, null, 1, 1, null);
 
         assertThat(result.getPage()).isEqualTo(1);
         assertThat(result.getSize()).isEqualTo(1);
@@ -290,6 +432,98 @@ class PatientServiceImplTest {
         assertThat(result.isLast()).isTrue();
     }
 
+    @Test
+    @DisplayName("searchPatients: SKIP fetches size + 1 rows and reports no totals")
+    void searchPatients_skipCount_usesExtraRowForLast() {
+        given(patientRepository.findSummaries(any(Specification.class), any(), eq(20L), eq(11)))
+                .willReturn(Collections.nCopies(11, summaryOf(samplePatient)));
+
+        PagedResponse<PatientSummaryResponse> result =
+                patientService.searchPatients("doe", null, null, null, 2, 10, CountMode.SKIP);
+
+        assertThat(result.getContent()).hasSize(10);
+        assertThat(result.getPage()).isEqualTo(2);
+        assertThat(result.isLast()).isFalse();
+        assertThat(result.getTotalElements()).isNull();
+        assertThat(result.getCountMode()).isEqualTo(CountMode.SKIP);
+        verify(patientRepository, never()).count(any(Specification.class));
+    }
+
+    @Test
+    @DisplayName("searchPatients: ESTIMATE uses the planner row count for unfiltered lists")
+    void searchPatients_estimate_unfiltered_usesPlannerEstimate() {
+        given(patientRepository.estimateTotalPatients()).willReturn(5_000L);
+        given(patientRepository.findSummaries(any(Specification.class), any(), eq(0L), eq(20)))
+                .willReturn(List.of(summaryOf(samplePatient)));
+
+        PagedResponse<PatientSummaryResponse> result =
+                patientService.searchPatients(null, PatientStatusFilter.ALL, null, null, 0, 20, CountMode.ESTIMATE);
+
+        assertThat(result.getTotalElements()).isEqualTo(5_000L);
+        assertThat(result.getTotalPages()).isEqualTo(250);
+        assertThat(result.getCountMode()).isEqualTo(CountMode.ESTIMATE);
+        verify(patientRepository, never()).count(any(Specification.class));
+    }
+
+    @Test
+    @DisplayName("searchPatients: ESTIMATE on a filtered list falls back to an exact count")
+    void searchPatients_estimate_filtered_fallsBackToExact() {
+        given(patientRepository.findSummaryPage(any(Specification.class), any(Pageable.class)))
+                .willReturn(new PageImpl<>(List.of(summaryOf(samplePatient))));
+
+        PagedResponse<PatientSummaryResponse> result =
+                patientService.searchPatients(null, null, Gender.MALE, null, 0, 20, CountMode.ESTIMATE);
+
+        assertThat(result.getCountMode()).isEqualTo(CountMode.EXACT);
+        verify(patientRepository, never()).estimateTotalPatients();
+    }
+
+    // ─── searchPatientsKeyset ────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("searchPatientsKeyset: extra row yields a cursor pointing at the last returned row")
+    void searchPatientsKeyset_moreRows_returnsNextCursor() {
+        Patient second = Patient.builder().patientId("P2025999").firstName("Jane").lastName("Roe")
+                .dateOfBirth(LocalDate.of(1985, 3, 1)).gender(Gender.FEMALE).phoneNumber("555-000-0000")
+                .status(PatientStatus.ACTIVE).createdAt(LocalDateTime.of(2026, 1, 1, 9, 0)).build();
+        given(patientRepository.findSummaries(any(Specification.class), any(), eq(2)))
+                .willReturn(List.of(summaryOf(samplePatient), summaryOf(second)));
+
+        PagedResponse<PatientSummaryResponse> result =
+                patientService.searchPatientsKeyset(null, null, null, null, null, 1);
+
+        assertThat(result.getContent()).extracting(PatientSummaryResponse::getPatientId).containsExactly("P2026001");
+        assertThat(result.isFirst()).isTrue();
+        assertThat(result.isLast()).isFalse();
+        assertThat(PatientCursor.decode(result.getNextCursor())).isEqualTo(PatientCursor.of(summaryOf(samplePatient)));
+        assertThat(result.getTotalElements()).isNull();
+        assertThat(result.getTotalPages()).isNull();
+        verify(patientRepository, never()).count(any(Specification.class));
+    }
+
+    @Test
+    @DisplayName("searchPatientsKeyset: final page has no cursor")
+    void searchPatientsKeyset_lastPage_hasNoCursor() {
+        given(patientRepository.findSummaries(any(Specification.class), any(), eq(21)))
+                .willReturn(List.of(summaryOf(samplePatient)));
+        String cursor = new PatientCursor(LocalDateTime.of(2026, 2, 1, 0, 0), "P2026050").encode();
+
+        PagedResponse<PatientSummaryResponse> result =
+                patientService.searchPatientsKeyset(null, null, null, null, cursor, 20);
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.isFirst()).isFalse();
+        assertThat(result.isLast()).isTrue();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("searchPatientsKeyset: tampered cursor is rejected")
+    void searchPatientsKeyset_invalidCursor_throws() {
+        assertThatThrownBy(() -> patientService.searchPatientsKeyset(null, null, null, null, "not-a-cursor", 20))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     // ─── updatePatient ───────────────────────────────────────────────────────
 
     @Test
@@ -306,13 +540,34 @@ class PatientServiceImplTest {
         given(patientRepository.findByPatientId("P2026001")).willReturn(Optional.of(samplePatient));
         given(patientRepository.save(samplePatient)).willReturn(samplePatient);
 
-        PatientResponse result = patientService.updatePatient("P2026001", updateRequest, "admin01");
+        PatientResponse result = patientService.updatePatient("P2026001", updateRequest, "admin01", null);
 
         assertThat(result).isNotNull();
         assertThat(result.getPatientId()).isEqualTo("P2026001");
         verify(patientRepository).save(samplePatient);
     }
 
+    @Test
+    @DisplayName("updatePatient: cached profile is replaced by the updated one")
+    void updatePatient_refreshesCachedProfile() {
+        given(patientRepository.findByPatientId("P2026001")).willReturn(Optional.of(samplePatient));
+        given(patientRepository.save(samplePatient)).willReturn(samplePatient);
+        given(patientRepository.existsByPhoneNormalizedAndPatientIdNot("+15559990000", "P2026001")).willReturn(true);
+        patientService.getPatientById("P2026001");
+
+        samplePatient.setVersion(1);
+        patientService.updatePatient("P2026001", PatientUpdateRequest.builder()
+                .firstName("John").lastName("Updated")
+                .dateOfBirth(LocalDate.of(1990, 1, 15))
+                .gender(Gender.MALE).phoneNumber("555-999-0000").build(), "admin01", null);
+        PatientResponse cached = patientService.getPatientById("P2026001");
+
+        assertThat(cached.getLastName()).isEqualTo("Updated");
+        assertThat(cached.getDuplicatePhoneWarning()).isNull();
+        verify(patientRepository, times(2)).findByPatientId("P2026001");
+        verify(patientInvalidationPublisher).publish(new PatientInvalidation("P2026001", 1));
+    }
+
     @Test
     @DisplayName("updatePatient: throws PatientNotFoundException for unknown ID")
     void updatePatient_notFound() {
@@ -324,69 +579,209 @@ class PatientServiceImplTest {
                         .firstName("A").lastName("B")
                         .dateOfBirth(LocalDate.of(1990, 1, 1))
                         .gender(Gender.MALE).phoneNumber("555-000-0000").build(),
-                "admin01"))
+                "admin01", null))
                 .isInstanceOf(PatientNotFoundException.class);
     }
 
-    // ─── deactivatePatient ───────────────────────────────────────────────────
+    @Test
+    @DisplayName("updatePatient: If-Match version behind the row fails the precondition without saving")
+    void updatePatient_staleExpectedVersion_throwsPreconditionFailed() {
+        samplePatient.setVersion(4);
+        given(patientRepository.findByPatientId("P2026001")).willReturn(Optional.of(samplePatient));
+
+        assertThatThrownBy(() -> patientService.updatePatient("P2026001", PatientUpdateRequest.builder()
+                .firstName("John").lastName("Updated")
+                .dateOfBirth(LocalDate.of(1990, 1, 15))
+                .gender(Gender.MALE).phoneNumber("555-999-0000").build(), "admin01", 3))
+                .isInstanceOf(PatientPreconditionFailedException.class);
+        assertThat(samplePatient.getLastName()).isEqualTo("Doe");
+        verify(patientRepository, never()).save(any());
+        verify(patientEventOutbox, never()).record(any(), any());
+    }
 
     @Test
-    @DisplayName("deactivatePatient: sets status INACTIVE and audit fields")
-    void deactivatePatient_success() {
-        samplePatient.setStatus(PatientStatus.ACTIVE);
+    @DisplayName("updatePatient: an update that changes nothing skips the write, event and invalidation")
+    void updatePatient_noChange_skipsWrite() {
+        samplePatient.setPhoneNormalized("+15558675309");
+        given(patientRepository.findByPatientId("P2026001")).willReturn(Optional.of(samplePatient));
+
+        PatientResponse result = patientService.updatePatient("P2026001", PatientUpdateRequest.builder()
+                .firstName(samplePatient.getFirstName()).lastName(samplePatient.getLastName())
+                .dateOfBirth(samplePatient.getDateOfBirth()).gender(samplePatient.getGender())
+                .phoneNumber(samplePatient.getPhoneNumber()).email(samplePatient.getEmail())
+                .address(samplePatient.getAddress()).city(samplePatient.getCity())
+                .state(samplePatient.getState()).zipCode(samplePatient.getZipCode())
+                .knownAllergies(samplePatient.getKnownAllergies())
+                .chronicConditions(samplePatient.getChronicConditions()).build(), "admin01", null);
+
+        assertThat(result.getPatientId()).isEqualTo("P2026001");
+        verify(patientRepository, never()).save(any());
+        verify(patientEventOutbox, never()).record(any(), any());
+        verify(patientInvalidationPublisher, never()).publish(any());
+    }
+
+    // ─── patchPatient ────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("patchPatient: applies the supplied fields and saves")
+    void patchPatient_appliesSuppliedFields() {
+        given(patientRepository.findByPatientId("P2026001")).willReturn(Optional.of(samplePatient));
+        given(patientRepository.save(samplePatient)).willReturn(samplePatient);
+
+        PatientResponse result = patientService.patchPatient("P2026001",
+                PatientPatchRequest.builder().city("Denver").build(), "admin01", null);
+
+        assertThat(result.getCity()).isEqualTo("Denver");
+        assertThat(result.getLastName()).isEqualTo("Doe");
+        verify(patientEventOutbox).record(PatientEventType.UPDATED, samplePatient);
+    }
+
+    @Test
+    @DisplayName("patchPatient: an empty patch still honours If-Match")
+    void patchPatient_staleExpectedVersion_throwsPreconditionFailed() {
+        samplePatient.setVersion(4);
+        given(patientRepository.findByPatientId("P2026001")).willReturn(Optional.of(samplePatient));
+
+        assertThatThrownBy(() -> patientService.patchPatient("P2026001", new PatientPatchRequest(), "admin01", 3))
+                .isInstanceOf(PatientPreconditionFailedException.class);
+        verify(patientRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("patchPatient: a patch that leaves the phone alone skips the duplicate-phone lookup")
+    void patchPatient_phoneUntouched_skipsDuplicateCheck() {
+        samplePatient.setPhoneNormalized("+15558675309");
         given(patientRepository.findByPatientId("P2026001")).willReturn(Optional.of(samplePatient));
         given(patientRepository.save(samplePatient)).willReturn(samplePatient);
 
-        patientService.deactivatePatient("P2026001", "admin01");
+        patientService.patchPatient("P2026001",
+                PatientPatchRequest.builder().address("456 Oak Ave").knownAllergies("Latex").build(), "admin01", null);
 
-        assertThat(samplePatient.getStatus()).isEqualTo(PatientStatus.INACTIVE);
-        assertThat(samplePatient.getDeactivatedBy()).isEqualTo("admin01");
-        assertThat(samplePatient.getDeactivatedAt()).isNotNull();
+        verify(patientRepository).save(samplePatient);
+        verify(patientRepository, never()).existsByPhoneNormalizedAndPatientIdNot(any(), any());
+    }
+
+    @Test
+    @DisplayName("patchPatient: a new phone number is checked for duplicates")
+    void patchPatient_phoneChanged_flagsDuplicate() {
+        samplePatient.setPhoneNormalized("+15558675309");
+        given(patientRepository.findByPatientId("P2026001")).willReturn(Optional.of(samplePatient));
+        given(patientRepository.save(samplePatient)).willReturn(samplePatient);
+        given(patientRepository.existsByPhoneNormalizedAndPatientIdNot("+15559990000", "P2026001")).willReturn(true);
+
+        PatientResponse result = patientService.patchPatient("P2026001",
+                PatientPatchRequest.builder().phoneNumber("555-999-0000").build(), "admin01", null);
+
+        assertThat(result.getDuplicatePhoneWarning()).isTrue();
+    }
+
+    @Test
+    @DisplayName("patchPatient: a row not yet backfilled is not flagged as a duplicate of other such rows")
+    void patchPatient_phoneNotBackfilled_skipsDuplicateCheck() {
+        given(patientRepository.findByPatientId("P2026001")).willReturn(Optional.of(samplePatient));
+        given(patientRepository.save(samplePatient)).willReturn(samplePatient);
+
+        PatientResponse result = patientService.patchPatient("P2026001",
+                PatientPatchRequest.builder().city("Denver").build(), "admin01", null);
+
+        assertThat(result.getDuplicatePhoneWarning()).isNull();
+        verify(patientRepository, never()).existsByPhoneNormalizedAndPatientIdNot(any(), any());
+    }
+
+    @Test
+    @DisplayName("patchPatient: a row marked unnormalizable is not flagged as a duplicate of other marked rows")
+    void patchPatient_phoneUnnormalizable_skipsDuplicateCheck() {
+        samplePatient.setPhoneNormalized(PhoneNumbers.UNNORMALIZABLE);
+        given(patientRepository.findByPatientId("P2026001")).willReturn(Optional.of(samplePatient));
+        given(patientRepository.save(samplePatient)).willReturn(samplePatient);
+
+        PatientResponse result = patientService.patchPatient("P2026001",
+                PatientPatchRequest.builder().city("Denver").build(), "admin01", null);
+
+        assertThat(result.getDuplicatePhoneWarning()).isNull();
+        verify(patientRepository, never()).existsByPhoneNormalizedAndPatientIdNot(any(), any());
+    }
+
+    // ─── deactivatePatient ───────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("deactivatePatient: one conditional UPDATE, then outbox event and invalidation")
+    void deactivatePatient_success() {
+        samplePatient.setStatus(PatientStatus.INACTIVE);
+        samplePatient.setDeactivatedBy("admin01");
+        given(patientRepository.transitionStatus(eq("P2026001"), eq(PatientStatus.ACTIVE), eq(PatientStatus.INACTIVE),
+                isNull(), eq("admin01"), any())).willReturn(Optional.of(samplePatient));
+
+        PatientResponse response = patientService.deactivatePatient("P2026001", "admin01", null);
+
+        assertThat(response.getStatus()).isEqualTo(PatientStatus.INACTIVE);
+        verify(patientRepository, never()).findByPatientId(any());
+        verify(patientRepository, never()).save(any());
+        verify(patientEventOutbox).record(PatientEventType.DEACTIVATED, samplePatient);
+        verify(patientInvalidationPublisher).publish(any(PatientInvalidation.class));
     }
 
     @Test
     @DisplayName("deactivatePatient: throws PatientStatusConflictException when already INACTIVE")
     void deactivatePatient_alreadyInactive_throws409() {
         samplePatient.setStatus(PatientStatus.INACTIVE);
+        given(patientRepository.transitionStatus(any(), any(), any(), any(), any(), any())).willReturn(Optional.empty());
         given(patientRepository.findByPatientId("P2026001")).willReturn(Optional.of(samplePatient));
 
-        assertThatThrownBy(() -> patientService.deactivatePatient("P2026001", "admin01"))
+        assertThatThrownBy(() -> patientService.deactivatePatient("P2026001", "admin01", null))
                 .isInstanceOf(PatientStatusConflictException.class)
                 .hasMessageContaining("already inactive");
+        verify(patientInvalidationPublisher, never()).publish(any());
+        verify(patientEventOutbox, never()).record(any(), any());
     }
 
     @Test
     @DisplayName("deactivatePatient: throws PatientNotFoundException when patient missing")
     void deactivatePatient_notFound() {
+        given(patientRepository.transitionStatus(any(), any(), any(), any(), any(), any())).willReturn(Optional.empty());
         given(patientRepository.findByPatientId("P9999999")).willReturn(Optional.empty());
 
-        assertThatThrownBy(() -> patientService.deactivatePatient("P9999999", "admin01"))
+        assertThatThrownBy(() -> patientService.deactivatePatient("P9999999", "admin01", null))
                 .isInstanceOf(PatientNotFoundException.class);
     }
 
+    @Test
+    @DisplayName("deactivatePatient: a stale expected version reports 412 rather than a status conflict")
+    void deactivatePatient_staleExpectedVersion_throwsPreconditionFailed() {
+        samplePatient.setStatus(PatientStatus.ACTIVE);
+        samplePatient.setVersion(4);
+        given(patientRepository.transitionStatus(eq("P2026001"), eq(PatientStatus.ACTIVE), eq(PatientStatus.INACTIVE),
+                eq(3), eq("admin01"), any())).willReturn(Optional.empty());
+        given(patientRepository.findByPatientId("P2026001")).willReturn(Optional.of(samplePatient));
+
+        assertThatThrownBy(() -> patientService.deactivatePatient("P2026001", "admin01", 3))
+                .isInstanceOf(PatientPreconditionFailedException.class);
+        verify(patientEventOutbox, never()).record(any(), any());
+    }
+
     // ─── activatePatient ─────────────────────────────────────────────────────
 
     @Test
-    @DisplayName("activatePatient: sets status ACTIVE and audit fields")
+    @DisplayName("activatePatient: one conditional UPDATE from INACTIVE to ACTIVE")
     void activatePatient_success() {
-        samplePatient.setStatus(PatientStatus.INACTIVE);
-        given(patientRepository.findByPatientId("P2026001")).willReturn(Optional.of(samplePatient));
-        given(patientRepository.save(samplePatient)).willReturn(samplePatient);
+        samplePatient.setStatus(PatientStatus.ACTIVE);
+        given(patientRepository.transitionStatus(eq("P2026001"), eq(PatientStatus.INACTIVE), eq(PatientStatus.ACTIVE),
+                isNull(), eq("admin01"), any())).willReturn(Optional.of(samplePatient));
 
-        patientService.activatePatient("P2026001", "admin01");
+        PatientResponse response = patientService.activatePatient("P2026001", "admin01", null);
 
-        assertThat(samplePatient.getStatus()).isEqualTo(PatientStatus.ACTIVE);
-        assertThat(samplePatient.getActivatedBy()).isEqualTo("admin01");
-        assertThat(samplePatient.getActivatedAt()).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(PatientStatus.ACTIVE);
+        verify(patientEventOutbox).record(PatientEventType.ACTIVATED, samplePatient);
     }
 
     @Test
     @DisplayName("activatePatient: throws PatientStatusConflictException when already ACTIVE")
     void activatePatient_alreadyActive_throws409() {
         samplePatient.setStatus(PatientStatus.ACTIVE);
+        given(patientRepository.transitionStatus(any(), any(), any(), any(), any(), any())).willReturn(Optional.empty());
         given(patientRepository.findByPatientId("P2026001")).willReturn(Optional.of(samplePatient));
 
-        assertThatThrownBy(() -> patientService.activatePatient("P2026001", "admin01"))
+        assertThatThrownBy(() -> patientService.activatePatient("P2026001", "admin01", null))
                 .isInstanceOf(PatientStatusConflictException.class)
                 .hasMessageContaining("already active");
     }
@@ -394,9 +789,39 @@ class PatientServiceImplTest {
     @Test
     @DisplayName("activatePatient: throws PatientNotFoundException when patient missing")
     void activatePatient_notFound() {
+        given(patientRepository.transitionStatus(any(), any(), any(), any(), any(), any())).willReturn(Optional.empty());
         given(patientRepository.findByPatientId("P9999999")).willReturn(Optional.empty());
 
-        assertThatThrownBy(() -> patientService.activatePatient("P9999999", "admin01"))
+        assertThatThrownBy(() -> patientService.activatePatient("P9999999", "admin01", null))
                 .isInstanceOf(PatientNotFoundException.class);
     }
+
+    // ─── changePatientStatuses ───────────────────────────────────────────────
+
+    @Test
+    @DisplayName("changePatientStatuses: reports CHANGED, ALREADY_IN_STATUS and NOT_FOUND per distinct ID")
+    void changePatientStatuses_reportsOutcomePerId() {
+        samplePatient.setStatus(PatientStatus.INACTIVE);
+        samplePatient.setVersion(2);
+        given(patientRepository.transitionStatuses(eq(Set.of("P2026001", "P2026002", "P9999999")),
+                eq(PatientStatus.ACTIVE), eq(PatientStatus.INACTIVE), eq("admin01"), any()))
+                .willReturn(List.of(samplePatient));
+        given(patientRepository.findExistingPatientIds(List.of("P2026002", "P9999999")))
+                .willReturn(Set.of("P2026002"));
+
+        PatientStatusChangeResponse result = patientService.changePatientStatuses(
+                List.of("P2026001", "P2026002", "P2026001", "P9999999"), PatientStatus.INACTIVE, "admin01");
+
+        assertThat(result.getRequested()).isEqualTo(3);
+        assertThat(result.getChanged()).isEqualTo(1);
+        assertThat(result.getAlreadyInStatus()).isEqualTo(1);
+        assertThat(result.getNotFound()).isEqualTo(1);
+        assertThat(result.getResults()).containsOnlyKeys("P2026001", "P2026002", "P9999999");
+        assertThat(result.getResults().get("P2026001").getOutcome()).isEqualTo(StatusChangeOutcome.CHANGED);
+        assertThat(result.getResults().get("P2026001").getVersion()).isEqualTo(2);
+        assertThat(result.getResults().get("P2026002").getOutcome()).isEqualTo(StatusChangeOutcome.ALREADY_IN_STATUS);
+        assertThat(result.getResults().get("P9999999").getOutcome()).isEqualTo(StatusChangeOutcome.NOT_FOUND);
+        verify(patientEventOutbox).recordAll(PatientEventType.DEACTIVATED, List.of(samplePatient));
+        verify(patientInvalidationPublisher).publishAll(List.of(new PatientInvalidation("P2026001", 2)));
+    }
 }
@@ -0,0 +1,53 @@
+package com.ainexus.hpm.patient.validator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PhoneNumbers Unit Tests")
+class PhoneNumbersTest {
+
+    // Same rules as the PHONE_REGEX PhoneValidator used to apply with String.matches
+    private static final String LEGACY_REGEX =
+            "^(\\+1-\\d{3}-\\d{3}-\\d{4}|\\(\\d{3}\\) \\d{3}-\\d{4}|\\d{3}-\\d{3}-\\d{4})$";
+
+    @ParameterizedTest
+    @ValueSource(strings = {"+1-555-867-5309", "(555) 867-5309", "555-867-5309"})
+    @DisplayName("isValid: every accepted format passes")
+    void isValid_acceptedFormats(String value) {
+        assertThat(PhoneNumbers.isValid(value)).isTrue();
+        assertThat(value.matches(LEGACY_REGEX)).isTrue();
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {" ", "5558675309", "555.867.5309", "555-867-530", "555-867-53091", "+1 555-867-5309",
+            "+2-555-867-5309", "(555)867-5309", "(555) 867 5309", "555-8a7-5309", " 555-867-5309",
+            "555-867-5309\n", "５５５-８６７-５３０９"})
+    @DisplayName("isValid: anything else fails, exactly as the regex did")
+    void isValid_rejectedValues(String value) {
+        assertThat(PhoneNumbers.isValid(value)).isFalse();
+        if (value != null) {
+            assertThat(value.matches(LEGACY_REGEX)).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("normalize: all accepted spellings of a number share one E.164 form")
+    void normalize_acceptedFormats_sameE164() {
+        assertThat(PhoneNumbers.normalize("+1-555-867-5309")).isEqualTo("+15558675309");
+        assertThat(PhoneNumbers.normalize("(555) 867-5309")).isEqualTo("+15558675309");
+        assertThat(PhoneNumbers.normalize("555-867-5309")).isEqualTo("+15558675309");
+    }
+
+    @Test
+    @DisplayName("normalize: invalid input → null")
+    void normalize_invalid_returnsNull() {
+        assertThat(PhoneNumbers.normalize("555.867.5309")).isNull();
+        assertThat(PhoneNumbers.normalize(null)).isNull();
+    }
+}
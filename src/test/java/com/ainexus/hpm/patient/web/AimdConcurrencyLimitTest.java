@@ -0,0 +1,109 @@
+package com.ainexus.hpm.patient.web;
+
+import com.ainexus.hpm.patient.config.AdmissionConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AimdConcurrencyLimit Unit Tests")
+class AimdConcurrencyLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(2);
+
+    private static AimdConcurrencyLimit limit(int initial) {
+        return new AimdConcurrencyLimit(initial, 2, 8, Duration.ofMillis(500), 0.5);
+    }
+
+    @Test
+    @DisplayName("admits up to the limit, then refuses without blocking")
+    void tryAcquire_refusesAtLimit() {
+        AimdConcurrencyLimit limit = limit(3);
+
+        assertThat(limit.tryAcquire(1.0)).isTrue();
+        assertThat(limit.tryAcquire(1.0)).isTrue();
+        assertThat(limit.tryAcquire(1.0)).isTrue();
+        assertThat(limit.tryAcquire(1.0)).isFalse();
+        assertThat(limit.getInFlight()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("a partial share caps that request class below the full limit")
+    void tryAcquire_respectsShare() {
+        AimdConcurrencyLimit limit = limit(4);
+
+        assertThat(limit.tryAcquire(0.5)).isTrue();
+        assertThat(limit.tryAcquire(0.5)).isTrue();
+        assertThat(limit.tryAcquire(0.5)).isFalse();
+        assertThat(limit.tryAcquire(1.0)).isTrue();
+    }
+
+    @Test
+    @DisplayName("fast completions under load grow the limit up to max")
+    void fastCompletions_increaseLimit() {
+        AimdConcurrencyLimit limit = limit(4);
+
+        for (int i = 0; i < 200; i++) {
+            for (int j = 0; j < limit.getLimit(); j++) {
+                limit.tryAcquire(1.0);
+            }
+            limit.onSuccess(FAST);
+            while (limit.getInFlight() > 0) {
+                limit.onIgnored();
+            }
+        }
+
+        assertThat(limit.getLimit()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("slow completions and drops back off multiplicatively down to min")
+    void slowOrDropped_decreaseLimit() {
+        AimdConcurrencyLimit limit = limit(8);
+
+        limit.tryAcquire(1.0);
+        limit.onSuccess(SLOW);
+        assertThat(limit.getLimit()).isEqualTo(4);
+
+        limit.tryAcquire(1.0);
+        limit.onDropped();
+        limit.tryAcquire(1.0);
+        limit.onDropped();
+        assertThat(limit.getLimit()).isEqualTo(2);
+        assertThat(limit.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("inconsistent bounds are rejected at startup")
+    void invalidBounds_throw() {
+        assertThatThrownBy(() -> new AimdConcurrencyLimit(1, 2, 8, Duration.ofMillis(500), 0.5))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AimdConcurrencyLimit(4, 2, 8, Duration.ofMillis(500), 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("a pool-sized max keeps sustained fast load from lifting the limit past the pool")
+    void poolSizedMax_boundsLimitUnderSustainedLoad() {
+        int poolSize = 20;
+        AimdConcurrencyLimit limit = new AdmissionConfig().patientAdmissionLimit(
+                60, 30, poolSize, Duration.ofMillis(500), 0.9);
+
+        for (int i = 0; i < 10_000; i++) {
+            while (limit.tryAcquire(1.0)) {
+                // fill every admitted slot, as a saturating client would
+            }
+            assertThat(limit.getInFlight()).isLessThanOrEqualTo(poolSize);
+            while (limit.getInFlight() > 0) {
+                limit.onSuccess(FAST);
+            }
+        }
+
+        assertThat(limit.getLimit()).isEqualTo(poolSize);
+    }
+}
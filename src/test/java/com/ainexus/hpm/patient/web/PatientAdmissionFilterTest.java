@@ -0,0 +1,123 @@
+package com.ainexus.hpm.patient.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PatientAdmissionFilter Unit Tests")
+class PatientAdmissionFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AimdConcurrencyLimit limit;
+    private PatientAdmissionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limit = new AimdConcurrencyLimit(2, 1, 10, Duration.ofSeconds(1), 0.5);
+        filter = new PatientAdmissionFilter(limit, 0.5, new ObjectMapper(), meterRegistry);
+    }
+
+    private static MockHttpServletRequest get(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setRequestURI(uri);
+        return request;
+    }
+
+    @Test
+    @DisplayName("an admitted request passes through and releases its slot")
+    void underLimit_passesThroughAndReleases() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(get("/api/v1/patients/P2026001"), response, chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(limit.getInFlight()).isZero();
+        assertThat(meterRegistry.get("patient.admission.limit").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("bulk share exhausted → search shed with 503 + Retry-After, profile read still admitted")
+    void bulkSaturated_shedsSearchButAdmitsProfileRead() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain blocking = (req, res) -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        CompletableFuture<Void> export = CompletableFuture.runAsync(() -> {
+            try {
+                filter.doFilter(get("/api/v1/patients/export"), new MockHttpServletResponse(), blocking);
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        MockHttpServletResponse searchResponse = new MockHttpServletResponse();
+        MockFilterChain searchChain = new MockFilterChain();
+        filter.doFilter(get("/api/v1/patients"), searchResponse, searchChain);
+
+        MockFilterChain profileChain = new MockFilterChain();
+        filter.doFilter(get("/api/v1/patients/P2026001"), new MockHttpServletResponse(), profileChain);
+
+        release.countDown();
+        export.get(5, TimeUnit.SECONDS);
+
+        assertThat(searchChain.getRequest()).isNull();
+        assertThat(searchResponse.getStatus()).isEqualTo(503);
+        assertThat(searchResponse.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(searchResponse.getContentAsString()).contains("\"success\":false");
+        assertThat(meterRegistry.get("patient.admission.rejected").tag("priority", "bulk").counter().count())
+                .isEqualTo(1.0);
+        assertThat(profileChain.getRequest()).isNotNull();
+        assertThat(limit.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("a 5xx response counts as a drop and shrinks the limit")
+    void serverError_shrinksLimit() throws Exception {
+        FilterChain failing = (req, res) -> ((MockHttpServletResponse) res).setStatus(500);
+
+        filter.doFilter(get("/api/v1/patients/P2026001"), new MockHttpServletResponse(), failing);
+
+        assertThat(limit.getLimit()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("list searches and streaming endpoints are bulk; profile reads and writes are interactive")
+    void priorityOf_classifiesEndpoints() {
+        assertThat(PatientAdmissionFilter.priorityOf(get("/api/v1/patients")))
+                .isEqualTo(PatientAdmissionFilter.Priority.BULK);
+        assertThat(PatientAdmissionFilter.priorityOf(get("/api/v1/patients/changes")))
+                .isEqualTo(PatientAdmissionFilter.Priority.BULK);
+        MockHttpServletRequest lookup = new MockHttpServletRequest("POST", "/api/v1/patients/lookup");
+        lookup.setRequestURI("/api/v1/patients/lookup");
+        assertThat(PatientAdmissionFilter.priorityOf(lookup)).isEqualTo(PatientAdmissionFilter.Priority.BULK);
+        assertThat(PatientAdmissionFilter.priorityOf(get("/api/v1/patients/P2026001")))
+                .isEqualTo(PatientAdmissionFilter.Priority.INTERACTIVE);
+
+        MockHttpServletRequest register = new MockHttpServletRequest("POST", "/api/v1/patients");
+        register.setRequestURI("/api/v1/patients");
+        assertThat(PatientAdmissionFilter.priorityOf(register)).isEqualTo(PatientAdmissionFilter.Priority.INTERACTIVE);
+    }
+}
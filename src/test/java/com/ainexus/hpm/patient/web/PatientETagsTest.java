@@ -0,0 +1,44 @@
+package com.ainexus.hpm.patient.web;
+
+import com.ainexus.hpm.patient.dto.response.PatientResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PatientETags Unit Tests")
+class PatientETagsTest {
+
+    @Test
+    @DisplayName("tags are built from patientId and version; profiles without a version have none")
+    void of_buildsStrongTag() {
+        assertThat(PatientETags.of("P2026001", 3)).isEqualTo("\"P2026001-3\"");
+        assertThat(PatientETags.of(PatientResponse.builder().patientId("P2026001").version(0).build()))
+                .isEqualTo("\"P2026001-0\"");
+        assertThat(PatientETags.of(PatientResponse.builder().patientId("P2026001").build())).isNull();
+    }
+
+    @Test
+    @DisplayName("If-None-Match uses weak comparison over a list of tags, and * matches")
+    void notModified_weakComparison() {
+        String current = PatientETags.of("P2026001", 3);
+
+        assertThat(PatientETags.notModified("\"P2026001-2\", W/\"P2026001-3\"", current)).isTrue();
+        assertThat(PatientETags.notModified("*", current)).isTrue();
+        assertThat(PatientETags.notModified("\"P2026001-2\"", current)).isFalse();
+    }
+
+    @Test
+    @DisplayName("If-Match yields the tagged version; absent or * is unconditional; foreign or weak tags never match")
+    void expectedVersion_strongComparison() {
+        assertThat(PatientETags.expectedVersion("P2026001", "\"P2026001-7\"")).isEqualTo(7);
+        assertThat(PatientETags.expectedVersion("P2026001", null)).isNull();
+        assertThat(PatientETags.expectedVersion("P2026001", "*")).isNull();
+        assertThat(PatientETags.expectedVersion("P2026001", "W/\"P2026001-7\"")).isEqualTo(PatientETags.NO_MATCH);
+        assertThat(PatientETags.expectedVersion("P2026001", "\"P2026002-7\"")).isEqualTo(PatientETags.NO_MATCH);
+        assertThat(PatientETags.expectedVersion("P2026001", "\"P2026001-x\"")).isEqualTo(PatientETags.NO_MATCH);
+        assertThatThrownBy(() -> PatientETags.expectedVersion("P2026001", "\"P2026001-7\", \"P2026001-8\""))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}